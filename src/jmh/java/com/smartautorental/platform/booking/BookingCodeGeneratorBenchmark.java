@@ -0,0 +1,55 @@
+package com.smartautorental.platform.booking;
+
+import com.smartautorental.platform.booking.code.BookingCodeGenerator;
+import com.smartautorental.platform.booking.code.RandomBookingCodeGenerator;
+import com.smartautorental.platform.booking.code.SnowflakeBookingCodeGenerator;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec}; pass {@code -Djmh.args="..."} for JMH options.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingCodeGeneratorBenchmark {
+
+    private final BookingCodeGenerator snowflake =
+            new SnowflakeBookingCodeGenerator(1, Instant.parse("2024-01-01T00:00:00Z"), System::currentTimeMillis);
+    private final BookingCodeGenerator random = new RandomBookingCodeGenerator();
+
+    @Benchmark
+    public String snowflakeSingleThread() {
+        return snowflake.next();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String snowflakeContended() {
+        return snowflake.next();
+    }
+
+    @Benchmark
+    public String randomSingleThread() {
+        return random.next();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String randomContended() {
+        return random.next();
+    }
+}
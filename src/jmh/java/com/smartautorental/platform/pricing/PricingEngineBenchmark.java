@@ -0,0 +1,65 @@
+package com.smartautorental.platform.pricing;
+
+import com.smartautorental.platform.pricing.calendar.BranchCalendar;
+import com.smartautorental.platform.pricing.dto.PriceQuote;
+import com.smartautorental.platform.pricing.service.CentsPricingEngine;
+import com.smartautorental.platform.pricing.service.CouponService;
+import com.smartautorental.platform.pricing.service.DecimalPricingEngine;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="PricingEngineBenchmark -prof gc"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PricingEngineBenchmark {
+
+    @Param({"3", "10", "60"})
+    private int days;
+
+    private final CouponService couponService = new CouponService();
+    private final DecimalPricingEngine decimal = new DecimalPricingEngine(couponService);
+    private final CentsPricingEngine cents = new CentsPricingEngine(couponService);
+    private final BigDecimal rate = new BigDecimal("89.90");
+    private final BranchCalendar calendar = BranchCalendar.build(ZoneOffset.UTC, LocalDate.of(2025, 1, 1),
+            LocalDate.of(2030, 12, 31), List.of(), List.of());
+    private Instant start;
+    private Instant end;
+
+    @Setup
+    public void setUp() {
+        start = Instant.parse("2026-03-06T09:00:00Z");
+        end = start.plus(days, ChronoUnit.DAYS);
+    }
+
+    @Benchmark
+    public PriceQuote decimal() {
+        return decimal.quote(calendar, rate, start, end, true, "WELCOME10", 2);
+    }
+
+    @Benchmark
+    public PriceQuote cents() {
+        return cents.quote(calendar, rate, start, end, true, "WELCOME10", 2);
+    }
+}
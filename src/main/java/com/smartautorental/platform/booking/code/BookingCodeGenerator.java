@@ -0,0 +1,6 @@
+package com.smartautorental.platform.booking.code;
+
+public interface BookingCodeGenerator {
+
+    String next();
+}
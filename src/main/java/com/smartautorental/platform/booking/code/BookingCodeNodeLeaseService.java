@@ -0,0 +1,123 @@
+package com.smartautorental.platform.booking.code;
+
+import com.smartautorental.platform.booking.config.BookingProperties;
+import com.smartautorental.platform.booking.repo.BookingCodeNodeLeaseRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Leases the snowflake node id from the database so two running instances never share one. A configured
+ * {@code app.booking.code.node-id} is leased as-is and startup fails if another live instance holds it; otherwise
+ * the lowest free id is taken. The lease is renewed on a heartbeat and released on shutdown.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.booking.code.strategy", havingValue = "snowflake", matchIfMissing = true)
+public class BookingCodeNodeLeaseService {
+
+    private static final int CLAIM_ATTEMPTS = 5;
+
+    private final BookingCodeNodeLeaseRepository leaseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BookingProperties.Code code;
+    private final String owner = UUID.randomUUID().toString();
+    private volatile int nodeId = -1;
+
+    public BookingCodeNodeLeaseService(BookingCodeNodeLeaseRepository leaseRepository,
+                                       TransactionTemplate transactionTemplate,
+                                       BookingProperties bookingProperties) {
+        this.leaseRepository = leaseRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.code = bookingProperties.getCode();
+    }
+
+    @PostConstruct
+    public void acquire() {
+        int configured = code.getNodeId();
+        if (configured > SnowflakeBookingCodeGenerator.MAX_NODE_ID) {
+            throw new IllegalArgumentException(
+                    "Booking code node id must be between 0 and " + SnowflakeBookingCodeGenerator.MAX_NODE_ID);
+        }
+        if (configured >= 0) {
+            if (!claim(configured)) {
+                throw new IllegalStateException("Booking code node id " + configured + " is leased by another "
+                        + "running instance; give every instance its own app.booking.code.node-id");
+            }
+            nodeId = configured;
+        } else {
+            nodeId = claimFree();
+        }
+        log.info("Leased booking code node id {}", nodeId);
+    }
+
+    public int nodeId() {
+        int current = nodeId;
+        if (current < 0) {
+            throw new IllegalStateException("No booking code node id is leased");
+        }
+        return current;
+    }
+
+    @Scheduled(fixedDelayString = "${app.booking.code.heartbeat-ms:20000}")
+    public void renew() {
+        int current = nodeId;
+        if (current < 0) {
+            return;
+        }
+        Integer renewed = transactionTemplate.execute(status ->
+                leaseRepository.renew(current, owner, Instant.now().plusMillis(code.getLeaseMs())));
+        if (renewed != null && renewed > 0) {
+            return;
+        }
+        // Missed heartbeats let another instance take the id over; move to a fresh one rather than share it.
+        log.error("Lost the lease on booking code node id {}", current);
+        if (code.getNodeId() >= 0) {
+            if (!claim(current)) {
+                nodeId = -1;
+                throw new IllegalStateException(
+                        "Booking code node id " + current + " was taken over by another instance");
+            }
+        } else {
+            nodeId = claimFree();
+            log.warn("Moved to booking code node id {}", nodeId);
+        }
+    }
+
+    @PreDestroy
+    public void release() {
+        int current = nodeId;
+        if (current >= 0) {
+            nodeId = -1;
+            transactionTemplate.execute(status -> leaseRepository.release(current, owner));
+        }
+    }
+
+    private int claimFree() {
+        for (int attempt = 0; attempt < CLAIM_ATTEMPTS; attempt++) {
+            Optional<Integer> free = leaseRepository.findFreeNodeId(SnowflakeBookingCodeGenerator.MAX_NODE_ID,
+                    Instant.now());
+            if (free.isEmpty()) {
+                break;
+            }
+            if (claim(free.get())) {
+                return free.get();
+            }
+        }
+        throw new IllegalStateException("No free booking code node id could be leased");
+    }
+
+    private boolean claim(int candidate) {
+        Instant now = Instant.now();
+        Instant expiresAt = now.plusMillis(code.getLeaseMs());
+        Integer claimed = transactionTemplate.execute(status -> leaseRepository.claim(candidate, owner, now, expiresAt));
+        return claimed != null && claimed > 0;
+    }
+}
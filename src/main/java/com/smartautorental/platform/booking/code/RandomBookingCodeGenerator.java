@@ -0,0 +1,18 @@
+package com.smartautorental.platform.booking.code;
+
+import java.util.UUID;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Legacy format: eight random hex digits. Collisions surface as unique-constraint violations on insert.
+ */
+@Component
+@ConditionalOnProperty(name = "app.booking.code.strategy", havingValue = "random")
+public class RandomBookingCodeGenerator implements BookingCodeGenerator {
+
+    @Override
+    public String next() {
+        return "BKG-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    }
+}
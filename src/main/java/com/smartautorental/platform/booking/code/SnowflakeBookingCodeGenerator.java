@@ -0,0 +1,108 @@
+package com.smartautorental.platform.booking.code;
+
+import com.smartautorental.platform.booking.config.BookingProperties;
+import com.smartautorental.platform.booking.repo.BookingRepository;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Snowflake-style codes: 41 bits of milliseconds since {@code epoch}, 10 bits of node id and a 12 bit per-millisecond
+ * sequence, rendered as 13 fixed-width Crockford base32 digits so codes sort in generation order. Node ids are
+ * leased through {@link BookingCodeNodeLeaseService}, and on startup the generator resumes after the highest stored
+ * code so milliseconds borrowed before a restart, or a clock that stepped back across it, are never reissued.
+ */
+@Component
+@ConditionalOnProperty(name = "app.booking.code.strategy", havingValue = "snowflake", matchIfMissing = true)
+public class SnowflakeBookingCodeGenerator implements BookingCodeGenerator {
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    private static final String PREFIX = "BKG-";
+    private static final String CROCKFORD_VALUES = "0123456789ABCDEFGHJKMNPQRSTVWXYZ";
+    private static final char[] CROCKFORD = CROCKFORD_VALUES.toCharArray();
+    private static final int DIGITS = 13;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long epochMs;
+    private final IntSupplier nodeId;
+    private final LongSupplier clock;
+    // (milliseconds since epoch << SEQUENCE_BITS) | sequence of the last issued code.
+    private final AtomicLong state = new AtomicLong();
+
+    @Autowired
+    public SnowflakeBookingCodeGenerator(BookingProperties bookingProperties,
+                                         BookingCodeNodeLeaseService nodeLeases,
+                                         BookingRepository bookingRepository) {
+        this(nodeLeases::nodeId, bookingProperties.getCode().getEpoch(), System::currentTimeMillis);
+        bookingRepository.findMaxCode(PREFIX + "%", PREFIX.length() + DIGITS).ifPresent(this::resumeAfter);
+    }
+
+    public SnowflakeBookingCodeGenerator(int nodeId, Instant epoch, LongSupplier clock) {
+        this(fixedNodeId(nodeId), epoch, clock);
+    }
+
+    private SnowflakeBookingCodeGenerator(IntSupplier nodeId, Instant epoch, LongSupplier clock) {
+        this.nodeId = nodeId;
+        this.epochMs = epoch.toEpochMilli();
+        this.clock = clock;
+    }
+
+    @Override
+    public String next() {
+        return encode(nextId());
+    }
+
+    /**
+     * Never issues a code at or below the millisecond of {@code code}, whichever node issued it.
+     */
+    public void resumeAfter(String code) {
+        long issuedMs = decode(code) >>> (NODE_BITS + SEQUENCE_BITS);
+        state.accumulateAndGet((issuedMs << SEQUENCE_BITS) | SEQUENCE_MASK, Math::max);
+    }
+
+    private long nextId() {
+        long node = (long) nodeId.getAsInt() << SEQUENCE_BITS;
+        while (true) {
+            long previous = state.get();
+            long now = clock.getAsLong() - epochMs;
+            // Within the same millisecond, or if the clock stepped back, keep counting from the last issued value;
+            // a sequence overflow carries into the timestamp bits, borrowing from the next millisecond.
+            long next = now > (previous >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : previous + 1;
+            if (state.compareAndSet(previous, next)) {
+                return ((next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS)) | node | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    private static String encode(long id) {
+        char[] code = new char[PREFIX.length() + DIGITS];
+        PREFIX.getChars(0, PREFIX.length(), code, 0);
+        for (int i = code.length - 1; i >= PREFIX.length(); i--) {
+            code[i] = CROCKFORD[(int) (id & 31)];
+            id >>>= 5;
+        }
+        return new String(code);
+    }
+
+    private static long decode(String code) {
+        long id = 0;
+        for (int i = PREFIX.length(); i < code.length(); i++) {
+            id = (id << 5) | CROCKFORD_VALUES.indexOf(code.charAt(i));
+        }
+        return id;
+    }
+
+    private static IntSupplier fixedNodeId(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Booking code node id must be between 0 and " + MAX_NODE_ID);
+        }
+        return () -> nodeId;
+    }
+}
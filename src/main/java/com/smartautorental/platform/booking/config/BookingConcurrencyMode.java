@@ -0,0 +1,6 @@
+package com.smartautorental.platform.booking.config;
+
+public enum BookingConcurrencyMode {
+    LOCK,
+    CONSTRAINT
+}
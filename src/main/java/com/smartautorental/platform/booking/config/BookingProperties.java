@@ -0,0 +1,87 @@
+package com.smartautorental.platform.booking.config;
+
+import com.smartautorental.platform.booking.model.PaymentMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.booking")
+public class BookingProperties {
+
+    private BookingConcurrencyMode concurrencyMode = BookingConcurrencyMode.LOCK;
+    private int expiryChunkSize = 500;
+    private Async async = new Async();
+    private Bulk bulk = new Bulk();
+    private Holds holds = new Holds();
+    private Code code = new Code();
+    private Waitlist waitlist = new Waitlist();
+
+    @Getter
+    @Setter
+    public static class Async {
+
+        private int lanes = 8;
+        private int laneQueueCapacity = 200;
+        private long resultRetentionMs = 1800000;
+        private long subscribeTimeoutMs = 60000;
+        private long cleanupIntervalMs = 60000;
+    }
+
+    @Getter
+    @Setter
+    public static class Bulk {
+
+        private int maxItems = 200;
+        private int chargeConcurrency = 8;
+    }
+
+    @Getter
+    @Setter
+    public static class Holds {
+
+        private long tickMs = 200;
+        private int wheelSize = 64;
+        private Duration defaultTtl = Duration.ofMinutes(15);
+        private Map<PaymentMode, Duration> ttl = new EnumMap<>(PaymentMode.class);
+        private long sweepIntervalMs = 600000;
+
+        public Duration ttlFor(PaymentMode paymentMode) {
+            return ttl.getOrDefault(paymentMode, defaultTtl);
+        }
+
+        public Duration maxTtl() {
+            return ttl.values().stream().reduce(defaultTtl, (a, b) -> a.compareTo(b) >= 0 ? a : b);
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Code {
+
+        // snowflake | random
+        private String strategy = "snowflake";
+        // 0..1023, unique per running instance; negative leases the lowest free id from the database.
+        private int nodeId = -1;
+        private Instant epoch = Instant.parse("2024-01-01T00:00:00Z");
+        private long leaseMs = 60000;
+        private long heartbeatMs = 20000;
+    }
+
+    @Getter
+    @Setter
+    public static class Waitlist {
+
+        // Reserve the freed car as a pending-payment hold instead of only notifying the customer.
+        private boolean autoBook = false;
+        private int claimBatchSize = 20;
+        private long sweepIntervalMs = 300000;
+    }
+}
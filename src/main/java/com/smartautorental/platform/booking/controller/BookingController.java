@@ -3,20 +3,34 @@ package com.smartautorental.platform.booking.controller;
 import com.smartautorental.platform.booking.dto.BookingAuditResponse;
 import com.smartautorental.platform.booking.dto.BookingCreateRequest;
 import com.smartautorental.platform.booking.dto.BookingResponse;
+import com.smartautorental.platform.booking.dto.BookingSubmissionResponse;
+import com.smartautorental.platform.booking.dto.BulkBookingRequest;
+import com.smartautorental.platform.booking.dto.BulkBookingResponse;
 import com.smartautorental.platform.booking.dto.CancelBookingResponse;
 import com.smartautorental.platform.booking.service.BookingService;
+import com.smartautorental.platform.booking.service.BookingSubmissionService;
+import com.smartautorental.platform.booking.service.BulkBookingService;
+import com.smartautorental.platform.common.idempotency.IdempotencyService;
+import com.smartautorental.platform.common.pagination.CursorPage;
 import jakarta.validation.Valid;
+import java.net.URI;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.util.UriComponentsBuilder;
 
 @RestController
 @RequestMapping("/api/v1/bookings")
@@ -24,12 +38,50 @@ import org.springframework.web.bind.annotation.RestController;
 public class BookingController {
 
     private final BookingService bookingService;
+    private final BookingSubmissionService bookingSubmissionService;
+    private final BulkBookingService bulkBookingService;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     @PreAuthorize("hasAnyRole('CUSTOMER','ADMIN','OPERATOR')")
-    public BookingResponse create(@Valid @RequestBody BookingCreateRequest request) {
-        return bookingService.create(request);
+    public BookingResponse create(@RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+                                  @Valid @RequestBody BookingCreateRequest request) {
+        return idempotencyService.execute("booking_create", idempotencyKey, request, BookingResponse.class,
+                () -> bookingService.create(request));
+    }
+
+    @PostMapping("/bulk")
+    @PreAuthorize("hasAnyRole('CUSTOMER','ADMIN','OPERATOR')")
+    public BulkBookingResponse bulk(@RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+                                    @Valid @RequestBody BulkBookingRequest request) {
+        return idempotencyService.execute("booking_bulk", idempotencyKey, request, BulkBookingResponse.class,
+                () -> bulkBookingService.book(request));
+    }
+
+    /**
+     * Queues the booking and answers 202 with a tracking id. Submissions are tracked in memory on the instance that
+     * accepted them, so polling and the event stream need sticky routing to that instance; elsewhere they are 404.
+     */
+    @PostMapping("/submissions")
+    @PreAuthorize("hasAnyRole('CUSTOMER','ADMIN','OPERATOR')")
+    public ResponseEntity<BookingSubmissionResponse> submit(@Valid @RequestBody BookingCreateRequest request) {
+        BookingSubmissionResponse submission = bookingSubmissionService.submit(request);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/bookings/submissions/" + submission.trackingId()))
+                .body(submission);
+    }
+
+    @GetMapping("/submissions/{trackingId}")
+    @PreAuthorize("hasAnyRole('CUSTOMER','ADMIN','OPERATOR')")
+    public BookingSubmissionResponse submission(@PathVariable String trackingId) {
+        return bookingSubmissionService.get(trackingId);
+    }
+
+    @GetMapping(value = "/submissions/{trackingId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('CUSTOMER','ADMIN','OPERATOR')")
+    public SseEmitter submissionEvents(@PathVariable String trackingId) {
+        return bookingSubmissionService.subscribe(trackingId);
     }
 
     @GetMapping("/{bookingId}")
@@ -38,10 +90,23 @@ public class BookingController {
         return bookingService.getById(bookingId);
     }
 
+    /**
+     * @deprecated capped at {@link CursorPage#LEGACY_LIST_CAP} rows, flagged with {@code X-Truncated}; use
+     * {@code GET /api/v1/bookings/me/page}.
+     */
+    @Deprecated
     @GetMapping("/me")
     @PreAuthorize("hasAnyRole('CUSTOMER','ADMIN','OPERATOR')")
-    public List<BookingResponse> myBookings() {
-        return bookingService.myBookings();
+    public ResponseEntity<List<BookingResponse>> myBookings() {
+        return CursorPage.deprecatedList(bookingService.myBookings(),
+                UriComponentsBuilder.fromPath("/api/v1/bookings/me/page"));
+    }
+
+    @GetMapping("/me/page")
+    @PreAuthorize("hasAnyRole('CUSTOMER','ADMIN','OPERATOR')")
+    public CursorPage<BookingResponse> myBookingsPage(@RequestParam(required = false) String cursor,
+                                                      @RequestParam(required = false) Integer limit) {
+        return bookingService.myBookingsPage(cursor, limit);
     }
 
     @PostMapping("/{bookingId}/cancel")
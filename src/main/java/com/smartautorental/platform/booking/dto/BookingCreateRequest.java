@@ -11,6 +11,7 @@ public record BookingCreateRequest(
         boolean insuranceSelected,
         String couponCode,
         boolean payAtDesk,
-        boolean allowWaitlist
+        boolean allowWaitlist,
+        String quoteToken
 ) {
 }
@@ -0,0 +1,15 @@
+package com.smartautorental.platform.booking.dto;
+
+import com.smartautorental.platform.booking.model.BookingSubmissionStatus;
+import java.time.Instant;
+
+public record BookingSubmissionResponse(
+        String trackingId,
+        BookingSubmissionStatus status,
+        Instant submittedAt,
+        Instant completedAt,
+        BookingResponse booking,
+        String errorCode,
+        String errorMessage
+) {
+}
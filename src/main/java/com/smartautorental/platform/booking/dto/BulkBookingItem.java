@@ -0,0 +1,15 @@
+package com.smartautorental.platform.booking.dto;
+
+import com.smartautorental.platform.fleet.model.CarCategory;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotNull;
+import java.time.Instant;
+
+public record BulkBookingItem(
+        Long carId,
+        Long branchId,
+        CarCategory category,
+        @NotNull @Future Instant startTime,
+        @NotNull @Future Instant endTime
+) {
+}
@@ -0,0 +1,12 @@
+package com.smartautorental.platform.booking.dto;
+
+import com.smartautorental.platform.booking.model.BulkBookingItemStatus;
+
+public record BulkBookingItemResult(
+        int index,
+        BulkBookingItemStatus status,
+        BookingResponse booking,
+        String errorCode,
+        String message
+) {
+}
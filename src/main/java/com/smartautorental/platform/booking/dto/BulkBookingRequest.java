@@ -0,0 +1,16 @@
+package com.smartautorental.platform.booking.dto;
+
+import com.smartautorental.platform.booking.model.BulkBookingMode;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+
+public record BulkBookingRequest(
+        @NotEmpty List<@Valid @NotNull BulkBookingItem> items,
+        @NotNull BulkBookingMode mode,
+        boolean insuranceSelected,
+        String couponCode,
+        boolean payAtDesk
+) {
+}
@@ -0,0 +1,13 @@
+package com.smartautorental.platform.booking.dto;
+
+import com.smartautorental.platform.booking.model.BulkBookingMode;
+import java.util.List;
+
+public record BulkBookingResponse(
+        BulkBookingMode mode,
+        int requested,
+        int booked,
+        int failed,
+        List<BulkBookingItemResult> items
+) {
+}
@@ -5,6 +5,7 @@ import java.math.BigDecimal;
 public record PriceBreakdownResponse(
         BigDecimal baseAmount,
         BigDecimal weekendSurcharge,
+        BigDecimal seasonalSurcharge,
         BigDecimal durationDiscount,
         BigDecimal dynamicSurcharge,
         BigDecimal insuranceFee,
@@ -0,0 +1,12 @@
+package com.smartautorental.platform.booking.event;
+
+import com.smartautorental.platform.booking.model.Booking;
+import com.smartautorental.platform.booking.model.PaymentMode;
+import java.time.Instant;
+
+public record PaymentHoldPlacedEvent(Long bookingId, PaymentMode paymentMode, Instant createdAt) {
+
+    public static PaymentHoldPlacedEvent of(Booking booking) {
+        return new PaymentHoldPlacedEvent(booking.getId(), booking.getPaymentMode(), booking.getCreatedAt());
+    }
+}
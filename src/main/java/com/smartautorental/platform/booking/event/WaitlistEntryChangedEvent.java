@@ -0,0 +1,26 @@
+package com.smartautorental.platform.booking.event;
+
+import com.smartautorental.platform.booking.model.WaitlistEntry;
+import com.smartautorental.platform.booking.model.WaitlistStatus;
+import com.smartautorental.platform.fleet.model.CarCategory;
+import java.time.Instant;
+
+public record WaitlistEntryChangedEvent(
+        Long entryId,
+        Long branchId,
+        CarCategory category,
+        Instant startTime,
+        Instant endTime,
+        boolean pending
+) {
+
+    public static WaitlistEntryChangedEvent of(WaitlistEntry entry) {
+        return new WaitlistEntryChangedEvent(
+                entry.getId(),
+                entry.getBranch().getId(),
+                entry.getCategory(),
+                entry.getStartTime(),
+                entry.getEndTime(),
+                entry.getStatus() == WaitlistStatus.PENDING);
+    }
+}
@@ -0,0 +1,133 @@
+package com.smartautorental.platform.booking.index;
+
+import com.smartautorental.platform.booking.event.WaitlistEntryChangedEvent;
+import com.smartautorental.platform.booking.repo.WaitlistRepository;
+import com.smartautorental.platform.fleet.model.CarCategory;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory view of pending waitlist windows per branch and category, sorted by start time. It only decides
+ * whether freed capacity is worth a database claim; entries created on other instances show up on the next reload.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WaitlistIndex {
+
+    private static final Comparator<Window> BY_START =
+            Comparator.comparing(Window::startTime).thenComparing(Window::entryId);
+
+    private final WaitlistRepository waitlistRepository;
+
+    private final Object writeLock = new Object();
+    private volatile ConcurrentHashMap<Key, NavigableSet<Window>> windows = new ConcurrentHashMap<>();
+    private List<WaitlistEntryChangedEvent> pendingReplay;
+
+    public boolean hasOverlap(Long branchId, CarCategory category, Instant startTime, Instant endTime) {
+        NavigableSet<Window> pending = windows.get(new Key(branchId, category));
+        if (pending == null) {
+            return false;
+        }
+        for (Window window : pending.headSet(new Window(Long.MIN_VALUE, endTime, endTime), false)) {
+            if (window.endTime().isAfter(startTime)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Earliest start and latest end of the pending windows for a branch and category, or empty if none wait.
+     */
+    public Optional<Span> span(Long branchId, CarCategory category) {
+        NavigableSet<Window> pending = windows.get(new Key(branchId, category));
+        if (pending == null || pending.isEmpty()) {
+            return Optional.empty();
+        }
+        Instant start = pending.first().startTime();
+        Instant end = pending.stream().map(Window::endTime).max(Instant::compareTo).orElse(start);
+        return Optional.of(new Span(start, end));
+    }
+
+    public Set<Key> keys() {
+        return windows.keySet();
+    }
+
+    public void reload() {
+        synchronized (writeLock) {
+            pendingReplay = new ArrayList<>();
+        }
+
+        ConcurrentHashMap<Key, NavigableSet<Window>> fresh = new ConcurrentHashMap<>();
+        List<WaitlistRepository.PendingWindowProjection> rows;
+        try {
+            rows = waitlistRepository.findPendingWindows(Instant.now());
+        } catch (RuntimeException ex) {
+            synchronized (writeLock) {
+                pendingReplay = null;
+            }
+            throw ex;
+        }
+        for (WaitlistRepository.PendingWindowProjection row : rows) {
+            add(fresh, new Key(row.getBranchId(), CarCategory.valueOf(row.getCategory())),
+                    new Window(row.getId(), row.getStartTime(), row.getEndTime()));
+        }
+
+        synchronized (writeLock) {
+            for (WaitlistEntryChangedEvent event : pendingReplay) {
+                apply(fresh, event);
+            }
+            pendingReplay = null;
+            windows = fresh;
+        }
+        log.debug("Waitlist index loaded: keys={} entries={}", fresh.size(), rows.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntryChanged(WaitlistEntryChangedEvent event) {
+        synchronized (writeLock) {
+            if (pendingReplay != null) {
+                pendingReplay.add(event);
+            }
+            apply(windows, event);
+        }
+    }
+
+    private void apply(ConcurrentHashMap<Key, NavigableSet<Window>> target, WaitlistEntryChangedEvent event) {
+        Key key = new Key(event.branchId(), event.category());
+        Window window = new Window(event.entryId(), event.startTime(), event.endTime());
+        if (event.pending()) {
+            add(target, key, window);
+        } else {
+            target.computeIfPresent(key, (k, pending) -> {
+                pending.remove(window);
+                return pending.isEmpty() ? null : pending;
+            });
+        }
+    }
+
+    private void add(ConcurrentHashMap<Key, NavigableSet<Window>> target, Key key, Window window) {
+        target.computeIfAbsent(key, k -> new ConcurrentSkipListSet<>(BY_START)).add(window);
+    }
+
+    public record Key(Long branchId, CarCategory category) {
+    }
+
+    public record Span(Instant startTime, Instant endTime) {
+    }
+
+    private record Window(Long entryId, Instant startTime, Instant endTime) {
+    }
+}
@@ -68,6 +68,9 @@ public class Booking extends BaseEntity {
     @Column(name = "weekend_surcharge", nullable = false, precision = 10, scale = 2)
     private BigDecimal weekendSurcharge = BigDecimal.ZERO;
 
+    @Column(name = "seasonal_surcharge", nullable = false, precision = 10, scale = 2)
+    private BigDecimal seasonalSurcharge = BigDecimal.ZERO;
+
     @Column(name = "duration_discount", nullable = false, precision = 10, scale = 2)
     private BigDecimal durationDiscount = BigDecimal.ZERO;
 
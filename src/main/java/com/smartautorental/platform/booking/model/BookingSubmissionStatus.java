@@ -0,0 +1,8 @@
+package com.smartautorental.platform.booking.model;
+
+public enum BookingSubmissionStatus {
+    QUEUED,
+    PROCESSING,
+    COMPLETED,
+    FAILED
+}
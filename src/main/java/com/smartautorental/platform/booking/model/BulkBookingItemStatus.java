@@ -0,0 +1,8 @@
+package com.smartautorental.platform.booking.model;
+
+public enum BulkBookingItemStatus {
+    BOOKED,
+    PAYMENT_FAILED,
+    REJECTED,
+    ROLLED_BACK
+}
@@ -0,0 +1,6 @@
+package com.smartautorental.platform.booking.model;
+
+public enum BulkBookingMode {
+    ALL_OR_NOTHING,
+    BEST_EFFORT
+}
@@ -3,5 +3,8 @@ package com.smartautorental.platform.booking.model;
 public enum PaymentStatus {
     PENDING,
     SUCCESS,
-    FAILED
+    FAILED,
+    // Transaction-only states: written before the core is called, and after a reconciled charge was given back.
+    INITIATED,
+    REFUNDED
 }
@@ -0,0 +1,50 @@
+package com.smartautorental.platform.booking.repo;
+
+import com.smartautorental.platform.booking.model.BookingCodeNodeLease;
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface BookingCodeNodeLeaseRepository extends JpaRepository<BookingCodeNodeLease, Integer> {
+
+    @Query(value = """
+            select n from generate_series(0, :maxNodeId) n
+            where not exists (
+                select 1 from booking_code_node_leases l where l.node_id = n and l.expires_at >= :now
+            )
+            order by n
+            limit 1
+            """, nativeQuery = true)
+    Optional<Integer> findFreeNodeId(@Param("maxNodeId") int maxNodeId, @Param("now") Instant now);
+
+    // Only a lapsed lease, or one this owner already holds, is taken over; two instances racing for the same
+    // free node end up with exactly one row update between them.
+    @Modifying
+    @Query(value = """
+            insert into booking_code_node_leases (node_id, owner, expires_at)
+            values (:nodeId, :owner, :expiresAt)
+            on conflict (node_id) do update
+                set owner = excluded.owner,
+                    expires_at = excluded.expires_at
+                where booking_code_node_leases.expires_at < :now
+                   or booking_code_node_leases.owner = excluded.owner
+            """, nativeQuery = true)
+    int claim(@Param("nodeId") int nodeId,
+              @Param("owner") String owner,
+              @Param("now") Instant now,
+              @Param("expiresAt") Instant expiresAt);
+
+    @Modifying
+    @Query("""
+            update BookingCodeNodeLease l set l.expiresAt = :expiresAt
+            where l.nodeId = :nodeId and l.owner = :owner
+            """)
+    int renew(@Param("nodeId") int nodeId, @Param("owner") String owner, @Param("expiresAt") Instant expiresAt);
+
+    @Modifying
+    @Query("delete from BookingCodeNodeLease l where l.nodeId = :nodeId and l.owner = :owner")
+    int release(@Param("nodeId") int nodeId, @Param("owner") String owner);
+}
@@ -2,29 +2,57 @@ package com.smartautorental.platform.booking.repo;
 
 import com.smartautorental.platform.booking.model.Booking;
 import com.smartautorental.platform.booking.model.BookingStatus;
+import com.smartautorental.platform.booking.model.PaymentMode;
+import jakarta.persistence.LockModeType;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface BookingRepository extends JpaRepository<Booking, Long> {
 
-    @Query("""
-            select (count(b) > 0) from Booking b
-            where b.car.id = :carId
-              and b.status in :statuses
-              and b.startTime < :endTime
-              and b.endTime > :startTime
-            """)
+    // Serialises recording a charge against the hold expiry and cancel, which may close the booking meanwhile.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from Booking b where b.id = :bookingId")
+    Optional<Booking> findByIdForUpdate(@Param("bookingId") Long bookingId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from Booking b where b.id in :bookingIds order by b.id")
+    List<Booking> findAllByIdForUpdate(@Param("bookingIds") Collection<Long> bookingIds);
+
+    // Status list must match the ex_bookings_car_period predicate so its GiST index can serve this probe.
+    @Query(value = """
+            select exists (
+                select 1 from bookings b
+                where b.car_id = :carId
+                  and b.status in ('CONFIRMED', 'PENDING_PAYMENT')
+                  and b.period && tstzrange(cast(:startTime as timestamptz), cast(:endTime as timestamptz), '[)'))
+            """, nativeQuery = true)
     boolean existsConflictingBooking(@Param("carId") Long carId,
                                      @Param("startTime") Instant startTime,
-                                     @Param("endTime") Instant endTime,
-                                     @Param("statuses") Collection<BookingStatus> statuses);
+                                     @Param("endTime") Instant endTime);
+
+    List<Booking> findByCustomerIdOrderByCreatedAtDescIdDesc(Long customerId, Limit limit);
+
+    @Query("""
+            select b from Booking b
+            where b.customer.id = :customerId
+            and (b.createdAt < :createdAt or (b.createdAt = :createdAt and b.id < :id))
+            order by b.createdAt desc, b.id desc
+            """)
+    List<Booking> findCustomerPageAfter(@Param("customerId") Long customerId,
+                                        @Param("createdAt") Instant createdAt,
+                                        @Param("id") Long id,
+                                        Limit limit);
 
-    List<Booking> findByCustomerIdOrderByCreatedAtDesc(Long customerId);
+    // Fixed-width codes sort in generation order; the length filter skips the legacy random format.
+    @Query("select max(b.code) from Booking b where b.code like :prefix and length(b.code) = :length")
+    Optional<String> findMaxCode(@Param("prefix") String prefix, @Param("length") int length);
 
     @Query("""
             select b from Booking b
@@ -34,7 +62,28 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
             """)
     Optional<Booking> findDetailedById(@Param("bookingId") Long bookingId);
 
-    List<Booking> findByStatusAndCreatedAtBefore(BookingStatus status, Instant threshold);
+    // UPDATE ... RETURNING is read as a result set, so these expiry queries stay without @Modifying (which would
+    // force an update count); callers run them inside their own write transaction.
+    // Skipping locked rows lets a confirm or webhook that holds a pending booking win over the sweep.
+    @Query(value = """
+            with expired as (
+                select b.id from bookings b
+                where b.status = 'PENDING_PAYMENT'
+                  and b.created_at < :threshold
+                order by b.created_at
+                limit :chunkSize
+                for update skip locked
+            )
+            update bookings b
+            set status = 'EXPIRED', updated_at = now(), version = b.version + 1
+            from expired e, cars c
+            where b.id = e.id
+              and c.id = b.car_id
+            returning b.id as id, b.car_id as carId, b.branch_id as branchId, c.category as category,
+                      b.start_time as startTime, b.end_time as endTime
+            """, nativeQuery = true)
+    List<ExpiredBookingProjection> expirePendingChunk(@Param("threshold") Instant threshold,
+                                                      @Param("chunkSize") int chunkSize);
 
     @Query("""
             select b from Booking b
@@ -48,6 +97,29 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
                                         @Param("from") Instant from,
                                         @Param("to") Instant to);
 
+    @Query("""
+            select b.id as id, b.car.id as carId, b.startTime as startTime, b.endTime as endTime
+            from Booking b
+            where b.status in :statuses
+              and b.endTime > :after
+            """)
+    List<BlockingWindowProjection> findBlockingWindowsEndingAfter(@Param("statuses") Collection<BookingStatus> statuses,
+                                                                  @Param("after") Instant after);
+
+    @Query("""
+            select b.id as id, b.car.id as carId, b.startTime as startTime, b.endTime as endTime
+            from Booking b
+            where b.branch.id = :branchId
+              and b.status in :statuses
+              and b.startTime < :to
+              and b.endTime > :from
+            order by b.car.id, b.startTime
+            """)
+    List<BlockingWindowProjection> findBlockingWindowsForBranch(@Param("branchId") Long branchId,
+                                                                @Param("statuses") Collection<BookingStatus> statuses,
+                                                                @Param("from") Instant from,
+                                                                @Param("to") Instant to);
+
     @Query("""
             select b.car.id as carId,
                    b.car.licensePlate as licensePlate,
@@ -68,4 +140,45 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
         String getModel();
         long getRentalCount();
     }
+
+    @Query(value = """
+            update bookings b
+            set status = 'EXPIRED', updated_at = now(), version = b.version + 1
+            from cars c
+            where b.id in (:bookingIds)
+              and b.status = 'PENDING_PAYMENT'
+              and c.id = b.car_id
+            returning b.id as id, b.car_id as carId, b.branch_id as branchId, c.category as category,
+                      b.start_time as startTime, b.end_time as endTime
+            """, nativeQuery = true)
+    List<ExpiredBookingProjection> expireHeld(@Param("bookingIds") Collection<Long> bookingIds);
+
+    @Query("""
+            select b.id as id, b.paymentMode as paymentMode, b.createdAt as createdAt
+            from Booking b
+            where b.status = 'PENDING_PAYMENT'
+            """)
+    List<PendingHoldProjection> findPendingHolds();
+
+    interface PendingHoldProjection {
+        Long getId();
+        PaymentMode getPaymentMode();
+        Instant getCreatedAt();
+    }
+
+    interface ExpiredBookingProjection {
+        Long getId();
+        Long getCarId();
+        Long getBranchId();
+        String getCategory();
+        Instant getStartTime();
+        Instant getEndTime();
+    }
+
+    interface BlockingWindowProjection {
+        Long getId();
+        Long getCarId();
+        Instant getStartTime();
+        Instant getEndTime();
+    }
 }
@@ -1,19 +1,53 @@
 package com.smartautorental.platform.booking.repo;
 
 import com.smartautorental.platform.booking.model.WaitlistEntry;
-import com.smartautorental.platform.booking.model.WaitlistStatus;
-import com.smartautorental.platform.fleet.model.CarCategory;
 import java.time.Instant;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface WaitlistRepository extends JpaRepository<WaitlistEntry, Long> {
 
-    List<WaitlistEntry> findByBranchIdAndCategoryAndStatusAndStartTimeLessThanAndEndTimeGreaterThanOrderByCreatedAtAsc(
-            Long branchId,
-            CarCategory category,
-            WaitlistStatus status,
-            Instant endTime,
-            Instant startTime
-    );
+    // Rows another transaction is already promoting are skipped rather than waited on, so concurrent
+    // cancellations on different nodes each claim a disjoint set of entries.
+    @Query(value = """
+            select w.*
+            from waitlist_entries w
+            where w.branch_id = :branchId
+              and w.category = :category
+              and w.status = 'PENDING'
+              and w.start_time > :now
+              and w.start_time < :endTime
+              and w.end_time > :startTime
+            order by w.created_at, w.id
+            limit :limit
+            for update skip locked
+            """, nativeQuery = true)
+    List<WaitlistEntry> claimOverlapping(@Param("branchId") Long branchId,
+                                         @Param("category") String category,
+                                         @Param("startTime") Instant startTime,
+                                         @Param("endTime") Instant endTime,
+                                         @Param("now") Instant now,
+                                         @Param("limit") int limit);
+
+    @Query(value = """
+            select w.id as id,
+                   w.branch_id as branchId,
+                   w.category as category,
+                   w.start_time as startTime,
+                   w.end_time as endTime
+            from waitlist_entries w
+            where w.status = 'PENDING'
+              and w.start_time > :now
+            """, nativeQuery = true)
+    List<PendingWindowProjection> findPendingWindows(@Param("now") Instant now);
+
+    interface PendingWindowProjection {
+        Long getId();
+        Long getBranchId();
+        String getCategory();
+        Instant getStartTime();
+        Instant getEndTime();
+    }
 }
@@ -1,5 +1,6 @@
 package com.smartautorental.platform.booking.scheduler;
 
+import com.smartautorental.platform.booking.config.BookingProperties;
 import com.smartautorental.platform.booking.service.BookingService;
 import java.time.Instant;
 import lombok.RequiredArgsConstructor;
@@ -13,10 +14,13 @@ import org.springframework.stereotype.Component;
 public class BookingScheduler {
 
     private final BookingService bookingService;
+    private final BookingProperties bookingProperties;
 
-    @Scheduled(fixedDelayString = "${app.scheduler.pending-booking-expiration-ms:60000}")
+    // Safety net only: holds normally expire from the timing wheel, this catches ones another instance placed
+    // or a failed expiry left behind.
+    @Scheduled(fixedDelayString = "${app.booking.holds.sweep-interval-ms:600000}")
     public void expirePendingBookings() {
-        Instant threshold = Instant.now().minusSeconds(15 * 60);
+        Instant threshold = Instant.now().minus(bookingProperties.getHolds().maxTtl());
         int expired = bookingService.expirePendingBookings(threshold);
         if (expired > 0) {
             log.info("Expired {} pending bookings", expired);
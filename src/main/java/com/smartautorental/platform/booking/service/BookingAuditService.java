@@ -2,6 +2,9 @@ package com.smartautorental.platform.booking.service;
 
 import com.smartautorental.platform.booking.model.BookingAudit;
 import com.smartautorental.platform.booking.repo.BookingAuditRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -12,11 +15,24 @@ public class BookingAuditService {
     private final BookingAuditRepository bookingAuditRepository;
 
     public void log(Long bookingId, String eventType, String actor, String details) {
+        bookingAuditRepository.save(newAudit(bookingId, eventType, actor, details));
+    }
+
+    public void logAll(String eventType, String actor, Map<Long, String> detailsByBookingId) {
+        if (detailsByBookingId.isEmpty()) {
+            return;
+        }
+        List<BookingAudit> audits = new ArrayList<>(detailsByBookingId.size());
+        detailsByBookingId.forEach((bookingId, details) -> audits.add(newAudit(bookingId, eventType, actor, details)));
+        bookingAuditRepository.saveAll(audits);
+    }
+
+    private BookingAudit newAudit(Long bookingId, String eventType, String actor, String details) {
         BookingAudit audit = new BookingAudit();
         audit.setBookingId(bookingId);
         audit.setEventType(eventType);
         audit.setActor(actor);
         audit.setDetails(details);
-        bookingAuditRepository.save(audit);
+        return audit;
     }
 }
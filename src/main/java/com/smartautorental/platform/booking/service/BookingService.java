@@ -1,10 +1,15 @@
 package com.smartautorental.platform.booking.service;
 
+import com.smartautorental.platform.booking.code.BookingCodeGenerator;
+import com.smartautorental.platform.booking.config.BookingConcurrencyMode;
+import com.smartautorental.platform.booking.config.BookingProperties;
 import com.smartautorental.platform.booking.dto.BookingAuditResponse;
 import com.smartautorental.platform.booking.dto.BookingCreateRequest;
 import com.smartautorental.platform.booking.dto.BookingResponse;
 import com.smartautorental.platform.booking.dto.CancelBookingResponse;
 import com.smartautorental.platform.booking.dto.PriceBreakdownResponse;
+import com.smartautorental.platform.booking.event.PaymentHoldPlacedEvent;
+import com.smartautorental.platform.booking.event.WaitlistEntryChangedEvent;
 import com.smartautorental.platform.booking.model.Booking;
 import com.smartautorental.platform.booking.model.BookingStatus;
 import com.smartautorental.platform.booking.model.PaymentMode;
@@ -16,7 +21,12 @@ import com.smartautorental.platform.booking.repo.BookingRepository;
 import com.smartautorental.platform.booking.repo.WaitlistRepository;
 import com.smartautorental.platform.common.exception.BusinessException;
 import com.smartautorental.platform.common.exception.ErrorCode;
+import com.smartautorental.platform.common.pagination.CursorPage;
+import com.smartautorental.platform.common.pagination.KeysetCursor;
+import com.smartautorental.platform.fleet.event.CarOccupancyChangedEvent;
+import com.smartautorental.platform.fleet.event.OccupancySource;
 import com.smartautorental.platform.fleet.model.Car;
+import com.smartautorental.platform.fleet.model.CarCategory;
 import com.smartautorental.platform.fleet.model.CarStatus;
 import com.smartautorental.platform.fleet.repo.CarRepository;
 import com.smartautorental.platform.identity.model.User;
@@ -24,25 +34,40 @@ import com.smartautorental.platform.identity.model.UserRole;
 import com.smartautorental.platform.maintenance.service.MaintenanceService;
 import com.smartautorental.platform.notification.NotificationService;
 import com.smartautorental.platform.observability.BookingMetrics;
+import com.smartautorental.platform.payment.core.PaymentCoreResult;
 import com.smartautorental.platform.payment.dto.PaymentResult;
 import com.smartautorental.platform.payment.service.PaymentService;
 import com.smartautorental.platform.pricing.dto.PriceQuote;
 import com.smartautorental.platform.pricing.service.PricingService;
+import com.smartautorental.platform.pricing.token.QuoteTerms;
+import com.smartautorental.platform.pricing.token.QuoteTokenService;
 import com.smartautorental.platform.security.CurrentUserService;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.sql.SQLException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
 public class BookingService {
 
+    private static final int MAX_SUGGESTED_ALTERNATIVES = 3;
+    private static final String EXCLUSION_VIOLATION = "23P01";
+    private static final String PHASE_RESERVE = "reserve";
+    private static final String PHASE_CHARGE = "charge";
+    private static final String PHASE_CONFIRM = "confirm";
+
     private final BookingRepository bookingRepository;
     private final WaitlistRepository waitlistRepository;
     private final BookingAuditRepository bookingAuditRepository;
@@ -54,93 +79,149 @@ public class BookingService {
     private final BookingAuditService bookingAuditService;
     private final NotificationService notificationService;
     private final BookingMetrics bookingMetrics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BookingProperties bookingProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final BookingCodeGenerator bookingCodeGenerator;
+    private final QuoteTokenService quoteTokenService;
 
-    @Transactional
     public BookingResponse create(BookingCreateRequest request) {
         validateDates(request.startTime(), request.endTime());
+
+        Reservation reservation = bookingMetrics.recordPhase(PHASE_RESERVE,
+                () -> transactionTemplate.execute(status -> reserve(request)));
+        if (reservation.completed() != null) {
+            return reservation.completed();
+        }
+
+        Booking pending = reservation.booking();
+        PaymentCoreResult charge;
+        try {
+            charge = bookingMetrics.recordPhase(PHASE_CHARGE, () -> paymentService.chargeInitial(pending));
+        } catch (RuntimeException ex) {
+            transactionTemplate.executeWithoutResult(status -> compensateFailedCharge(pending.getId(), ex));
+            throw ex;
+        }
+
+        return bookingMetrics.recordPhase(PHASE_CONFIRM,
+                () -> transactionTemplate.execute(status -> confirm(pending.getId(), reservation.actor(), charge)));
+    }
+
+    private Reservation reserve(BookingCreateRequest request) {
         User customer = currentUserService.requireCurrentUser();
 
-        Car car = carRepository.findByIdForUpdate(request.carId())
+        Car car = (bookingProperties.getConcurrencyMode() == BookingConcurrencyMode.LOCK
+                ? carRepository.findByIdForUpdate(request.carId())
+                : carRepository.findById(request.carId()))
                 .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "Car not found"));
 
         if (car.getStatus() == CarStatus.DISABLED || car.getStatus() == CarStatus.IN_MAINTENANCE) {
-            return handleUnavailableCar(request, customer, car, "Car is not operational");
+            return Reservation.completed(handleUnavailableCar(request, customer, car, "Car is not operational"));
         }
 
         boolean underMaintenance = maintenanceService.isCarUnderMaintenance(car.getId(), request.startTime(), request.endTime());
         boolean conflict = bookingRepository.existsConflictingBooking(
                 car.getId(),
                 request.startTime(),
-                request.endTime(),
-                List.of(BookingStatus.CONFIRMED, BookingStatus.PENDING_PAYMENT)
+                request.endTime()
         );
 
         if (underMaintenance || conflict) {
             String reason = underMaintenance ? "Car in maintenance for selected window" : "Car already booked in selected window";
-            return handleUnavailableCar(request, customer, car, reason);
+            return Reservation.completed(handleUnavailableCar(request, customer, car, reason));
+        }
+
+        PriceQuote quote = quoteFor(request, car);
+
+        Booking booking = newBooking(customer, car, request.startTime(), request.endTime(),
+                request.insuranceSelected(), request.couponCode(), request.payAtDesk(), quote);
+        booking = insertBooking(booking);
+        bookingAuditService.log(booking.getId(), "BOOKING_CREATED", customer.getEmail(),
+                "Booking created for car=" + car.getLicensePlate());
+        eventPublisher.publishEvent(CarOccupancyChangedEvent.of(booking));
+
+        if (request.payAtDesk()) {
+            return Reservation.completed(finish(booking));
+        }
+        // The PENDING_PAYMENT row holds the slot while the charge runs; if we never reach the confirm
+        // phase, the payment hold registered on commit releases it and the INITIATED charge is reconciled.
+        paymentService.initiateCharges(List.of(booking));
+        eventPublisher.publishEvent(PaymentHoldPlacedEvent.of(booking));
+        return Reservation.pending(booking, customer.getEmail());
+    }
+
+    // Honours the price the customer was shown while its token is valid; anything else is priced afresh.
+    private PriceQuote quoteFor(BookingCreateRequest request, Car car) {
+        QuoteTokenService.Redemption redemption = quoteTokenService.redeem(request.quoteToken(), new QuoteTerms(
+                car.getId(),
+                car.getBaseDailyRate(),
+                request.startTime(),
+                request.endTime(),
+                request.insuranceSelected(),
+                request.couponCode()));
+        bookingMetrics.incrementQuoteTokens(redemption.outcome().name().toLowerCase());
+        if (redemption.accepted()) {
+            return redemption.quote();
         }
 
-        long availableCars = pricingService.estimateAvailableCarsForCategory(car.getBranch().getId(), car.getCategory());
-        PriceQuote quote = pricingService.quote(
+        long availableCars = pricingService.fleetAvailability(car.getBranch().getId())
+                .availableCars(car.getCategory(), request.startTime(), request.endTime());
+        return pricingService.quote(
                 car,
                 request.startTime(),
                 request.endTime(),
                 request.insuranceSelected(),
                 request.couponCode(),
                 availableCars);
+    }
 
-        Booking booking = new Booking();
-        booking.setCode("BKG-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase());
-        booking.setCustomer(customer);
-        booking.setCar(car);
-        booking.setBranch(car.getBranch());
-        booking.setStartTime(request.startTime());
-        booking.setEndTime(request.endTime());
-        booking.setInsuranceSelected(request.insuranceSelected());
-        booking.setCouponCode(request.couponCode());
-        booking.setBaseAmount(quote.baseAmount());
-        booking.setWeekendSurcharge(quote.weekendSurcharge());
-        booking.setDurationDiscount(quote.durationDiscount());
-        booking.setDynamicSurcharge(quote.dynamicSurcharge());
-        booking.setInsuranceFee(quote.insuranceFee());
-        booking.setCouponDiscount(quote.couponDiscount());
-        booking.setTotalPrice(quote.total());
-
-        PaymentMode paymentMode = request.payAtDesk() ? PaymentMode.PAY_AT_DESK : PaymentMode.ONLINE;
-        booking.setPaymentMode(paymentMode);
+    private BookingResponse confirm(Long bookingId, String actor, PaymentCoreResult charge) {
+        Booking booking = bookingRepository.findByIdForUpdate(bookingId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "Booking not found"));
 
-        if (request.payAtDesk()) {
-            booking.setStatus(BookingStatus.CONFIRMED);
-            booking.setPaymentStatus(PaymentStatus.PENDING);
-        } else {
-            booking.setStatus(BookingStatus.PENDING_PAYMENT);
-            booking.setPaymentStatus(PaymentStatus.PENDING);
+        if (booking.getStatus() != BookingStatus.PENDING_PAYMENT) {
+            // The hold expired or was cancelled while the core was charging; the INITIATED row is left for
+            // PaymentReconciliationService, which refunds a charge that went through.
+            bookingAuditService.log(booking.getId(), "PAYMENT_ATTEMPT", actor,
+                    "Payment status=" + charge.status() + " ref=" + charge.providerReference()
+                            + " arrived after the booking was " + booking.getStatus() + ", left for reconciliation");
+            return finish(booking);
         }
 
-        booking = bookingRepository.save(booking);
-        bookingAuditService.log(booking.getId(), "BOOKING_CREATED", customer.getEmail(),
-                "Booking created for car=" + car.getLicensePlate());
+        PaymentResult paymentResult = paymentService.recordInitialPayment(booking, charge);
+        applyPaymentOutcome(booking, paymentResult.status());
+        eventPublisher.publishEvent(CarOccupancyChangedEvent.of(booking));
+        bookingAuditService.log(booking.getId(), "PAYMENT_ATTEMPT", actor,
+                "Payment status=" + paymentResult.status() + " ref=" + paymentResult.providerReference());
 
-        if (!request.payAtDesk()) {
-            PaymentResult paymentResult = paymentService.processInitialPayment(booking);
-            applyPaymentOutcome(booking, paymentResult.status());
-            bookingAuditService.log(booking.getId(), "PAYMENT_ATTEMPT", customer.getEmail(),
-                    "Payment status=" + paymentResult.status() + " ref=" + paymentResult.providerReference());
-        }
+        return finish(booking);
+    }
 
-        Booking saved = bookingRepository.save(booking);
+    private void compensateFailedCharge(Long bookingId, RuntimeException cause) {
+        bookingRepository.findByIdForUpdate(bookingId)
+                .filter(booking -> booking.getStatus() == BookingStatus.PENDING_PAYMENT)
+                .ifPresent(booking -> {
+                    applyPaymentOutcome(booking, PaymentStatus.FAILED);
+                    // The charge row stays INITIATED: a timed-out call may still have gone through at the core.
+                    bookingAuditService.log(booking.getId(), "PAYMENT_COMPENSATED", "system",
+                            "Initial charge failed: " + cause.getMessage());
+                    eventPublisher.publishEvent(CarOccupancyChangedEvent.of(booking));
+                    bookingMetrics.incrementFailed();
+                });
+    }
 
-        if (saved.getStatus() == BookingStatus.CONFIRMED) {
+    private BookingResponse finish(Booking booking) {
+        if (booking.getStatus() == BookingStatus.CONFIRMED) {
             bookingMetrics.incrementCreated();
             notificationService.send(
-                    saved.getCustomer().getEmail(),
+                    booking.getCustomer().getEmail(),
                     "Booking confirmed",
-                    "Your booking " + saved.getCode() + " is confirmed");
+                    "Your booking " + booking.getCode() + " is confirmed");
         } else {
             bookingMetrics.incrementFailed();
         }
 
-        return map(saved, null);
+        return map(booking, null);
     }
 
     @Transactional(readOnly = true)
@@ -163,12 +244,32 @@ public class BookingService {
         return map(booking, null);
     }
 
+    /**
+     * @deprecated returns the first {@link CursorPage#LEGACY_LIST_CAP} bookings; use {@link #myBookingsPage}.
+     */
+    @Deprecated
     @Transactional(readOnly = true)
-    public List<BookingResponse> myBookings() {
+    public CursorPage<BookingResponse> myBookings() {
         User current = currentUserService.requireCurrentUser();
-        return bookingRepository.findByCustomerIdOrderByCreatedAtDesc(current.getId()).stream()
-                .map(booking -> map(booking, null))
-                .toList();
+        List<Booking> rows = bookingRepository.findByCustomerIdOrderByCreatedAtDescIdDesc(current.getId(),
+                CursorPage.legacyCap());
+        return CursorPage.of(rows, CursorPage.LEGACY_LIST_CAP,
+                booking -> new KeysetCursor(booking.getCreatedAt(), booking.getId()),
+                booking -> map(booking, null));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<BookingResponse> myBookingsPage(String cursor, Integer limit) {
+        User current = currentUserService.requireCurrentUser();
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = CursorPage.normalizeLimit(limit);
+        List<Booking> rows = after == null
+                ? bookingRepository.findByCustomerIdOrderByCreatedAtDescIdDesc(current.getId(), CursorPage.probe(pageSize))
+                : bookingRepository.findCustomerPageAfter(current.getId(), after.position(), after.id(),
+                        CursorPage.probe(pageSize));
+        return CursorPage.of(rows, pageSize,
+                booking -> new KeysetCursor(booking.getCreatedAt(), booking.getId()),
+                booking -> map(booking, null));
     }
 
     @Transactional
@@ -200,8 +301,7 @@ public class BookingService {
 
         bookingAuditService.log(booking.getId(), "BOOKING_CANCELLED", current.getEmail(),
                 "Cancellation fee=" + cancellationFee + " refund=" + refund);
-
-        promoteWaitlistIfPresent(booking);
+        eventPublisher.publishEvent(CarOccupancyChangedEvent.of(booking));
 
         return new CancelBookingResponse(
                 booking.getId(),
@@ -226,17 +326,103 @@ public class BookingService {
                 .toList();
     }
 
-    @Transactional
     public int expirePendingBookings(Instant threshold) {
-        List<Booking> expired = bookingRepository.findByStatusAndCreatedAtBefore(BookingStatus.PENDING_PAYMENT, threshold);
-        for (Booking booking : expired) {
-            booking.setStatus(BookingStatus.EXPIRED);
-            bookingAuditService.log(booking.getId(), "BOOKING_EXPIRED", "scheduler", "Pending booking expired");
+        int chunkSize = Math.max(1, bookingProperties.getExpiryChunkSize());
+        int total = 0;
+        int expired;
+        do {
+            // One short transaction per chunk keeps row locks and undo small after a payment-core outage.
+            expired = transactionTemplate.execute(status -> expireChunk(threshold, chunkSize));
+            total += expired;
+        } while (expired == chunkSize);
+        return total;
+    }
+
+    public int expireHeldBookings(Collection<Long> bookingIds) {
+        if (bookingIds.isEmpty()) {
+            return 0;
+        }
+        return transactionTemplate.execute(status -> releaseExpired(bookingRepository.expireHeld(bookingIds)));
+    }
+
+    private int expireChunk(Instant threshold, int chunkSize) {
+        return releaseExpired(bookingRepository.expirePendingChunk(threshold, chunkSize));
+    }
+
+    private int releaseExpired(List<BookingRepository.ExpiredBookingProjection> expired) {
+        if (expired.isEmpty()) {
+            return 0;
         }
+
+        Map<Long, String> audits = new LinkedHashMap<>();
+        for (BookingRepository.ExpiredBookingProjection row : expired) {
+            audits.put(row.getId(), "Pending booking expired");
+            eventPublisher.publishEvent(new CarOccupancyChangedEvent(OccupancySource.BOOKING, row.getId(), row.getCarId(),
+                    row.getBranchId(), CarCategory.valueOf(row.getCategory()), row.getStartTime(), row.getEndTime(),
+                    false));
+        }
+        bookingAuditService.logAll("BOOKING_EXPIRED", "scheduler", audits);
         return expired.size();
     }
 
-    private void applyPaymentOutcome(Booking booking, PaymentStatus status) {
+    /**
+     * Reserves {@code carId} for a claimed waitlist entry as a pending-payment hold. Returns {@code null} when the car
+     * was taken in the meantime.
+     */
+    public Booking holdForWaitlist(WaitlistEntry entry, Long carId) {
+        Car car = carRepository.findByIdForUpdate(carId).orElse(null);
+        if (car == null
+                || car.getStatus() != CarStatus.AVAILABLE
+                || maintenanceService.isCarUnderMaintenance(carId, entry.getStartTime(), entry.getEndTime())
+                || bookingRepository.existsConflictingBooking(carId, entry.getStartTime(), entry.getEndTime())) {
+            return null;
+        }
+
+        long availableCars = pricingService.fleetAvailability(car.getBranch().getId())
+                .availableCars(car.getCategory(), entry.getStartTime(), entry.getEndTime());
+        PriceQuote quote = pricingService.quote(car, entry.getStartTime(), entry.getEndTime(), false, null,
+                availableCars);
+        Booking booking = insertBooking(newBooking(entry.getCustomer(), car, entry.getStartTime(), entry.getEndTime(),
+                false, null, false, quote));
+        bookingAuditService.log(booking.getId(), "BOOKING_CREATED", "waitlist",
+                "Booking held for waitlist entry=" + entry.getId() + " car=" + car.getLicensePlate());
+        eventPublisher.publishEvent(CarOccupancyChangedEvent.of(booking));
+        eventPublisher.publishEvent(PaymentHoldPlacedEvent.of(booking));
+        return booking;
+    }
+
+    Booking newBooking(User customer,
+                       Car car,
+                       Instant startTime,
+                       Instant endTime,
+                       boolean insuranceSelected,
+                       String couponCode,
+                       boolean payAtDesk,
+                       PriceQuote quote) {
+        Booking booking = new Booking();
+        booking.setCode(bookingCodeGenerator.next());
+        booking.setCustomer(customer);
+        booking.setCar(car);
+        booking.setBranch(car.getBranch());
+        booking.setStartTime(startTime);
+        booking.setEndTime(endTime);
+        booking.setInsuranceSelected(insuranceSelected);
+        booking.setCouponCode(couponCode);
+        booking.setBaseAmount(quote.baseAmount());
+        booking.setWeekendSurcharge(quote.weekendSurcharge());
+        booking.setSeasonalSurcharge(quote.seasonalSurcharge());
+        booking.setDurationDiscount(quote.durationDiscount());
+        booking.setDynamicSurcharge(quote.dynamicSurcharge());
+        booking.setInsuranceFee(quote.insuranceFee());
+        booking.setCouponDiscount(quote.couponDiscount());
+        booking.setTotalPrice(quote.total());
+        booking.setPaymentMode(payAtDesk ? PaymentMode.PAY_AT_DESK : PaymentMode.ONLINE);
+        booking.setStatus(payAtDesk ? BookingStatus.CONFIRMED : BookingStatus.PENDING_PAYMENT);
+        booking.setPaymentStatus(PaymentStatus.PENDING);
+        return booking;
+    }
+
+    void applyPaymentOutcome(Booking booking, PaymentStatus status) {
         booking.setPaymentStatus(status);
         if (status == PaymentStatus.SUCCESS) {
             booking.setStatus(BookingStatus.CONFIRMED);
@@ -250,7 +436,8 @@ public class BookingService {
     private BookingResponse handleUnavailableCar(BookingCreateRequest request, User customer, Car car, String reason) {
         bookingMetrics.incrementFailed();
         if (!request.allowWaitlist()) {
-            throw new BusinessException(ErrorCode.CONFLICT, reason + ". Enable allowWaitlist to queue request.");
+            throw new BusinessException(ErrorCode.CONFLICT,
+                    reason + describeAlternatives(car, request) + ". Enable allowWaitlist to queue request.");
         }
 
         WaitlistEntry waitlistEntry = new WaitlistEntry();
@@ -261,6 +448,7 @@ public class BookingService {
         waitlistEntry.setEndTime(request.endTime());
         waitlistEntry.setStatus(WaitlistStatus.PENDING);
         WaitlistEntry saved = waitlistRepository.save(waitlistEntry);
+        eventPublisher.publishEvent(WaitlistEntryChangedEvent.of(saved));
 
         notificationService.send(customer.getEmail(), "Waitlist activated",
                 "You are in waitlist for category " + car.getCategory() + " at branch " + car.getBranch().getName());
@@ -279,30 +467,44 @@ public class BookingService {
                 request.endTime(),
                 request.insuranceSelected(),
                 request.couponCode(),
-                new PriceBreakdownResponse(BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO,
+                new PriceBreakdownResponse(BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO,
                         BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO),
                 saved.getId());
     }
 
-    private void promoteWaitlistIfPresent(Booking cancelledBooking) {
-        List<WaitlistEntry> entries = waitlistRepository
-                .findByBranchIdAndCategoryAndStatusAndStartTimeLessThanAndEndTimeGreaterThanOrderByCreatedAtAsc(
-                        cancelledBooking.getBranch().getId(),
-                        cancelledBooking.getCar().getCategory(),
-                        WaitlistStatus.PENDING,
-                        cancelledBooking.getEndTime(),
-                        cancelledBooking.getStartTime());
-
-        if (!entries.isEmpty()) {
-            WaitlistEntry entry = entries.getFirst();
-            entry.setStatus(WaitlistStatus.FULFILLED);
-            notificationService.send(entry.getCustomer().getEmail(),
-                    "Car available from waitlist",
-                    "A car became available for your requested period. Proceed with a new booking.");
+    private String describeAlternatives(Car car, BookingCreateRequest request) {
+        List<String> plates = carRepository.findAvailableCars(
+                        car.getBranch().getId(),
+                        car.getCategory().name(),
+                        request.startTime(),
+                        request.endTime()).stream()
+                .map(CarRepository.AvailableCarProjection::getLicensePlate)
+                .limit(MAX_SUGGESTED_ALTERNATIVES)
+                .toList();
+        return plates.isEmpty() ? "" : ". Alternatives available: " + String.join(", ", plates);
+    }
+
+    private Booking insertBooking(Booking booking) {
+        try {
+            return bookingRepository.saveAndFlush(booking);
+        } catch (DataIntegrityViolationException ex) {
+            if (isPeriodOverlap(ex)) {
+                throw new BusinessException(ErrorCode.CONFLICT, "Car already booked in selected window");
+            }
+            throw ex;
+        }
+    }
+
+    boolean isPeriodOverlap(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sql && EXCLUSION_VIOLATION.equals(sql.getSQLState())) {
+                return true;
+            }
         }
+        return false;
     }
 
-    private void validateDates(Instant startTime, Instant endTime) {
+    void validateDates(Instant startTime, Instant endTime) {
         if (startTime.isBefore(Instant.now())) {
             throw new BusinessException(ErrorCode.VALIDATION_ERROR, "Booking cannot start in the past");
         }
@@ -311,7 +513,7 @@ public class BookingService {
         }
     }
 
-    private BookingResponse map(Booking booking, Long waitlistEntryId) {
+    BookingResponse map(Booking booking, Long waitlistEntryId) {
         return new BookingResponse(
                 booking.getId(),
                 booking.getCode(),
@@ -329,6 +531,7 @@ public class BookingService {
                 new PriceBreakdownResponse(
                         booking.getBaseAmount(),
                         booking.getWeekendSurcharge(),
+                        booking.getSeasonalSurcharge(),
                         booking.getDurationDiscount(),
                         booking.getDynamicSurcharge(),
                         booking.getInsuranceFee(),
@@ -336,4 +539,15 @@ public class BookingService {
                         booking.getTotalPrice()),
                 waitlistEntryId);
     }
+
+    private record Reservation(Booking booking, String actor, BookingResponse completed) {
+
+        static Reservation pending(Booking booking, String actor) {
+            return new Reservation(booking, actor, null);
+        }
+
+        static Reservation completed(BookingResponse response) {
+            return new Reservation(null, null, response);
+        }
+    }
 }
@@ -0,0 +1,239 @@
+package com.smartautorental.platform.booking.service;
+
+import com.smartautorental.platform.booking.config.BookingProperties;
+import com.smartautorental.platform.booking.dto.BookingCreateRequest;
+import com.smartautorental.platform.booking.dto.BookingResponse;
+import com.smartautorental.platform.booking.dto.BookingSubmissionResponse;
+import com.smartautorental.platform.booking.model.BookingSubmissionStatus;
+import com.smartautorental.platform.common.exception.BusinessException;
+import com.smartautorental.platform.common.exception.ErrorCode;
+import com.smartautorental.platform.fleet.repo.CarRepository;
+import com.smartautorental.platform.identity.model.User;
+import com.smartautorental.platform.identity.model.UserRole;
+import com.smartautorental.platform.observability.BookingMetrics;
+import com.smartautorental.platform.security.CurrentUserService;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Asynchronous booking creation on per-car lanes. Queue and submission state are node-local and kept for
+ * {@code app.booking.async.result-retention-ms} after completion; callers must be routed back to the accepting
+ * instance to poll or subscribe.
+ */
+@Slf4j
+@Service
+public class BookingSubmissionService {
+
+    private final BookingService bookingService;
+    private final CarRepository carRepository;
+    private final CurrentUserService currentUserService;
+    private final BookingMetrics bookingMetrics;
+    private final BookingProperties bookingProperties;
+    private final ThreadPoolExecutor[] lanes;
+    private final ConcurrentHashMap<String, Submission> submissions = new ConcurrentHashMap<>();
+
+    public BookingSubmissionService(BookingService bookingService,
+                                    CarRepository carRepository,
+                                    CurrentUserService currentUserService,
+                                    BookingMetrics bookingMetrics,
+                                    BookingProperties bookingProperties) {
+        this.bookingService = bookingService;
+        this.carRepository = carRepository;
+        this.currentUserService = currentUserService;
+        this.bookingMetrics = bookingMetrics;
+        this.bookingProperties = bookingProperties;
+
+        BookingProperties.Async async = bookingProperties.getAsync();
+        this.lanes = new ThreadPoolExecutor[Math.max(1, async.getLanes())];
+        for (int i = 0; i < lanes.length; i++) {
+            String name = "booking-lane-" + i;
+            lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(Math.max(1, async.getLaneQueueCapacity())),
+                    runnable -> new Thread(runnable, name));
+        }
+        bookingMetrics.registerSubmissionQueueDepth(this::queueDepth);
+    }
+
+    public BookingSubmissionResponse submit(BookingCreateRequest request) {
+        bookingService.validateDates(request.startTime(), request.endTime());
+        User customer = currentUserService.requireCurrentUser();
+        if (!carRepository.existsById(request.carId())) {
+            throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "Car not found");
+        }
+
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(SecurityContextHolder.getContext().getAuthentication());
+
+        Submission submission = new Submission(UUID.randomUUID().toString(), customer.getId(), Instant.now());
+        submissions.put(submission.trackingId, submission);
+        BookingSubmissionResponse accepted = submission.snapshot();
+        try {
+            // One single-threaded lane per car hash keeps submissions for the same car in arrival order.
+            lanes[Math.floorMod(request.carId().hashCode(), lanes.length)]
+                    .execute(() -> process(submission, request, context));
+        } catch (RejectedExecutionException ex) {
+            submissions.remove(submission.trackingId);
+            bookingMetrics.incrementSubmissionRejected();
+            throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS, "Booking queue is full, retry later");
+        }
+        return accepted;
+    }
+
+    public BookingSubmissionResponse get(String trackingId) {
+        return requireVisible(trackingId).snapshot();
+    }
+
+    public SseEmitter subscribe(String trackingId) {
+        Submission submission = requireVisible(trackingId);
+        SseEmitter emitter = new SseEmitter(bookingProperties.getAsync().getSubscribeTimeoutMs());
+        send(emitter, "status", submission.snapshot());
+        submission.onDone(result -> {
+            send(emitter, "result", result);
+            emitter.complete();
+        });
+        return emitter;
+    }
+
+    @Scheduled(fixedDelayString = "${app.booking.async.cleanup-interval-ms:60000}")
+    public void evictExpiredResults() {
+        Instant cutoff = Instant.now().minusMillis(bookingProperties.getAsync().getResultRetentionMs());
+        submissions.values().removeIf(submission -> submission.isDoneBefore(cutoff));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+    }
+
+    private void process(Submission submission, BookingCreateRequest request, SecurityContext context) {
+        bookingMetrics.recordSubmissionWait(Duration.between(submission.submittedAt, Instant.now()));
+        submission.markProcessing();
+        SecurityContextHolder.setContext(context);
+        long started = System.nanoTime();
+        try {
+            submission.complete(bookingService.create(request));
+        } catch (BusinessException ex) {
+            submission.fail(ex.getErrorCode().name(), ex.getMessage());
+        } catch (RuntimeException ex) {
+            log.warn("Async booking submission {} failed", submission.trackingId, ex);
+            submission.fail(ErrorCode.INTERNAL_ERROR.name(), "Unexpected error");
+        } finally {
+            SecurityContextHolder.clearContext();
+            bookingMetrics.recordSubmissionProcessing(Duration.ofNanos(System.nanoTime() - started));
+        }
+    }
+
+    private Submission requireVisible(String trackingId) {
+        Submission submission = submissions.get(trackingId);
+        if (submission == null) {
+            throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "Booking submission not found");
+        }
+        User current = currentUserService.requireCurrentUser();
+        if (current.getRole() == UserRole.CUSTOMER && !submission.customerId.equals(current.getId())) {
+            throw new BusinessException(ErrorCode.FORBIDDEN, "Cannot access this booking submission");
+        }
+        return submission;
+    }
+
+    private int queueDepth() {
+        int depth = 0;
+        for (ThreadPoolExecutor lane : lanes) {
+            depth += lane.getQueue().size();
+        }
+        return depth;
+    }
+
+    private void send(SseEmitter emitter, String name, BookingSubmissionResponse payload) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(payload));
+        } catch (IOException | IllegalStateException ex) {
+            emitter.completeWithError(ex);
+        }
+    }
+
+    private static final class Submission {
+
+        private final String trackingId;
+        private final Long customerId;
+        private final Instant submittedAt;
+        private final List<Consumer<BookingSubmissionResponse>> listeners = new ArrayList<>();
+        private BookingSubmissionStatus status = BookingSubmissionStatus.QUEUED;
+        private Instant completedAt;
+        private BookingResponse booking;
+        private String errorCode;
+        private String errorMessage;
+
+        private Submission(String trackingId, Long customerId, Instant submittedAt) {
+            this.trackingId = trackingId;
+            this.customerId = customerId;
+            this.submittedAt = submittedAt;
+        }
+
+        synchronized void markProcessing() {
+            status = BookingSubmissionStatus.PROCESSING;
+        }
+
+        void complete(BookingResponse response) {
+            finish(BookingSubmissionStatus.COMPLETED, response, null, null);
+        }
+
+        void fail(String code, String message) {
+            finish(BookingSubmissionStatus.FAILED, null, code, message);
+        }
+
+        void onDone(Consumer<BookingSubmissionResponse> listener) {
+            BookingSubmissionResponse result;
+            synchronized (this) {
+                if (completedAt == null) {
+                    listeners.add(listener);
+                    return;
+                }
+                result = snapshot();
+            }
+            listener.accept(result);
+        }
+
+        synchronized boolean isDoneBefore(Instant cutoff) {
+            return completedAt != null && completedAt.isBefore(cutoff);
+        }
+
+        synchronized BookingSubmissionResponse snapshot() {
+            return new BookingSubmissionResponse(trackingId, status, submittedAt, completedAt, booking, errorCode, errorMessage);
+        }
+
+        private void finish(BookingSubmissionStatus finalStatus, BookingResponse response, String code, String message) {
+            List<Consumer<BookingSubmissionResponse>> toNotify;
+            BookingSubmissionResponse result;
+            synchronized (this) {
+                status = finalStatus;
+                booking = response;
+                errorCode = code;
+                errorMessage = message;
+                completedAt = Instant.now();
+                result = snapshot();
+                toNotify = List.copyOf(listeners);
+                listeners.clear();
+            }
+            toNotify.forEach(listener -> listener.accept(result));
+        }
+    }
+}
@@ -0,0 +1,340 @@
+package com.smartautorental.platform.booking.service;
+
+import com.smartautorental.platform.booking.config.BookingProperties;
+import com.smartautorental.platform.booking.dto.BulkBookingItem;
+import com.smartautorental.platform.booking.dto.BulkBookingItemResult;
+import com.smartautorental.platform.booking.dto.BulkBookingRequest;
+import com.smartautorental.platform.booking.dto.BulkBookingResponse;
+import com.smartautorental.platform.booking.event.PaymentHoldPlacedEvent;
+import com.smartautorental.platform.booking.model.Booking;
+import com.smartautorental.platform.booking.model.BookingStatus;
+import com.smartautorental.platform.booking.model.BulkBookingItemStatus;
+import com.smartautorental.platform.booking.model.BulkBookingMode;
+import com.smartautorental.platform.booking.model.PaymentStatus;
+import com.smartautorental.platform.booking.repo.BookingRepository;
+import com.smartautorental.platform.common.exception.BusinessException;
+import com.smartautorental.platform.common.exception.ErrorCode;
+import com.smartautorental.platform.fleet.event.CarOccupancyChangedEvent;
+import com.smartautorental.platform.fleet.model.Car;
+import com.smartautorental.platform.fleet.model.CarStatus;
+import com.smartautorental.platform.fleet.repo.CarRepository;
+import com.smartautorental.platform.identity.model.User;
+import com.smartautorental.platform.maintenance.service.MaintenanceService;
+import com.smartautorental.platform.notification.NotificationService;
+import com.smartautorental.platform.observability.BookingMetrics;
+import com.smartautorental.platform.payment.core.PaymentCoreResult;
+import com.smartautorental.platform.payment.service.PaymentService;
+import com.smartautorental.platform.pricing.dto.PriceQuote;
+import com.smartautorental.platform.pricing.occupancy.FleetAvailability;
+import com.smartautorental.platform.pricing.service.PricingService;
+import com.smartautorental.platform.security.CurrentUserService;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkBookingService {
+
+    private final BookingService bookingService;
+    private final BookingRepository bookingRepository;
+    private final CarRepository carRepository;
+    private final MaintenanceService maintenanceService;
+    private final PricingService pricingService;
+    private final PaymentService paymentService;
+    private final BookingAuditService bookingAuditService;
+    private final CurrentUserService currentUserService;
+    private final NotificationService notificationService;
+    private final BookingMetrics bookingMetrics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BookingProperties bookingProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    public BulkBookingResponse book(BulkBookingRequest request) {
+        int maxItems = bookingProperties.getBulk().getMaxItems();
+        if (request.items().size() > maxItems) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, "A bulk booking accepts at most " + maxItems + " items");
+        }
+
+        BulkReservation reservation = transactionTemplate.execute(status -> reserve(request, status));
+        if (!reservation.pending.isEmpty()) {
+            Map<Long, PaymentCoreResult> charges = chargeAll(reservation.pending.values());
+            transactionTemplate.executeWithoutResult(status -> confirm(reservation, charges));
+        }
+
+        BulkBookingResponse response = reservation.toResponse(request.mode());
+        bookingMetrics.incrementBulkItems("booked", response.booked());
+        bookingMetrics.incrementBulkItems("failed", response.failed());
+        return response;
+    }
+
+    private BulkReservation reserve(BulkBookingRequest request, TransactionStatus status) {
+        User customer = currentUserService.requireCurrentUser();
+        List<BulkBookingItem> items = request.items();
+        BulkReservation reservation = new BulkReservation(customer, items.size());
+
+        Map<Long, List<BulkBookingItem>> claimed = new HashMap<>();
+        List<PlannedItem> planned = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            BulkBookingItem item = items.get(i);
+            try {
+                bookingService.validateDates(item.startTime(), item.endTime());
+                Long carId = item.carId() != null ? item.carId() : pickCar(item, claimed);
+                if (overlapsClaimed(claimed.get(carId), item)) {
+                    throw new BusinessException(ErrorCode.CONFLICT, "Overlaps another item for the same car");
+                }
+                claimed.computeIfAbsent(carId, id -> new ArrayList<>()).add(item);
+                planned.add(new PlannedItem(i, carId, item));
+            } catch (BusinessException ex) {
+                reservation.reject(i, ex);
+            }
+        }
+
+        List<Long> carIds = planned.stream().map(PlannedItem::carId).distinct().sorted().toList();
+        Map<Long, Car> cars = carIds.isEmpty()
+                ? Map.of()
+                : carRepository.findAllByIdForUpdate(carIds).stream()
+                        .collect(Collectors.toMap(Car::getId, Function.identity()));
+
+        Map<Long, FleetAvailability> snapshots = new HashMap<>();
+        Map<Integer, Booking> accepted = new LinkedHashMap<>();
+        for (PlannedItem plannedItem : planned) {
+            try {
+                Car car = cars.get(plannedItem.carId());
+                if (car == null) {
+                    throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "Car not found");
+                }
+                accepted.put(plannedItem.index(), newBooking(request, plannedItem.item(), customer, car, snapshots));
+            } catch (BusinessException ex) {
+                reservation.reject(plannedItem.index(), ex);
+            }
+        }
+
+        if (request.mode() == BulkBookingMode.ALL_OR_NOTHING && reservation.hasRejections()) {
+            status.setRollbackOnly();
+            accepted.keySet().forEach(reservation::rollBack);
+            return reservation;
+        }
+        if (accepted.isEmpty()) {
+            return reservation;
+        }
+
+        insertAll(accepted.values());
+        Map<Long, String> audits = new LinkedHashMap<>();
+        accepted.forEach((index, booking) -> {
+            audits.put(booking.getId(), "Bulk booking item " + index + " for car=" + booking.getCar().getLicensePlate());
+            eventPublisher.publishEvent(CarOccupancyChangedEvent.of(booking));
+            if (request.payAtDesk()) {
+                bookingMetrics.incrementCreated();
+                reservation.book(index, booking);
+            } else {
+                eventPublisher.publishEvent(PaymentHoldPlacedEvent.of(booking));
+                reservation.pending.put(index, booking);
+            }
+        });
+        bookingAuditService.logAll("BOOKING_CREATED", customer.getEmail(), audits);
+        if (!reservation.pending.isEmpty()) {
+            paymentService.initiateCharges(reservation.pending.values());
+        }
+
+        if (request.payAtDesk()) {
+            notifyConfirmed(customer, accepted.size());
+        }
+        return reservation;
+    }
+
+    private Booking newBooking(BulkBookingRequest request,
+                               BulkBookingItem item,
+                               User customer,
+                               Car car,
+                               Map<Long, FleetAvailability> snapshots) {
+        if (car.getStatus() == CarStatus.DISABLED || car.getStatus() == CarStatus.IN_MAINTENANCE) {
+            throw new BusinessException(ErrorCode.CONFLICT, "Car is not operational");
+        }
+        if (maintenanceService.isCarUnderMaintenance(car.getId(), item.startTime(), item.endTime())) {
+            throw new BusinessException(ErrorCode.CONFLICT, "Car in maintenance for selected window");
+        }
+        if (bookingRepository.existsConflictingBooking(car.getId(), item.startTime(), item.endTime())) {
+            throw new BusinessException(ErrorCode.CONFLICT, "Car already booked in selected window");
+        }
+
+        long availableCars = snapshots
+                .computeIfAbsent(car.getBranch().getId(), pricingService::fleetAvailability)
+                .availableCars(car.getCategory(), item.startTime(), item.endTime());
+        PriceQuote quote = pricingService.quote(
+                car,
+                item.startTime(),
+                item.endTime(),
+                request.insuranceSelected(),
+                request.couponCode(),
+                availableCars);
+        return bookingService.newBooking(customer, car, item.startTime(), item.endTime(),
+                request.insuranceSelected(), request.couponCode(), request.payAtDesk(), quote);
+    }
+
+    private void insertAll(Iterable<Booking> bookings) {
+        try {
+            bookingRepository.saveAll(bookings);
+            bookingRepository.flush();
+        } catch (DataIntegrityViolationException ex) {
+            if (bookingService.isPeriodOverlap(ex)) {
+                throw new BusinessException(ErrorCode.CONFLICT, "A car in this request was booked concurrently, retry the request");
+            }
+            throw ex;
+        }
+    }
+
+    private Map<Long, PaymentCoreResult> chargeAll(Iterable<Booking> pending) {
+        Map<Long, PaymentCoreResult> charges = new ConcurrentHashMap<>();
+        Semaphore permits = new Semaphore(Math.max(1, bookingProperties.getBulk().getChargeConcurrency()));
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Booking booking : pending) {
+                executor.execute(() -> {
+                    permits.acquireUninterruptibly();
+                    try {
+                        charges.put(booking.getId(), paymentService.chargeInitial(booking));
+                    } catch (RuntimeException ex) {
+                        log.warn("Initial charge failed for bulk booking {}", booking.getId(), ex);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+        return charges;
+    }
+
+    private void confirm(BulkReservation reservation, Map<Long, PaymentCoreResult> charges) {
+        Map<Long, Booking> bookings = bookingRepository.findAllByIdForUpdate(
+                        reservation.pending.values().stream().map(Booking::getId).toList()).stream()
+                .collect(Collectors.toMap(Booking::getId, Function.identity()));
+
+        Map<Booking, PaymentCoreResult> recorded = new LinkedHashMap<>();
+        Map<Long, String> attempts = new LinkedHashMap<>();
+        Map<Long, String> compensations = new LinkedHashMap<>();
+        int confirmed = 0;
+        for (Map.Entry<Integer, Booking> entry : reservation.pending.entrySet()) {
+            Booking booking = bookings.get(entry.getValue().getId());
+            if (booking == null) {
+                continue;
+            }
+            PaymentCoreResult charge = charges.get(booking.getId());
+            boolean holding = booking.getStatus() == BookingStatus.PENDING_PAYMENT;
+            if (charge == null) {
+                compensations.put(booking.getId(), "Initial charge failed");
+            } else if (holding) {
+                recorded.put(booking, charge);
+                attempts.put(booking.getId(), "Payment status=" + charge.status() + " ref=" + charge.providerReference());
+            } else {
+                // Closed while the core was charging: the INITIATED row is left for reconciliation to refund.
+                attempts.put(booking.getId(), "Payment status=" + charge.status() + " ref=" + charge.providerReference()
+                        + " arrived after the booking was " + booking.getStatus() + ", left for reconciliation");
+            }
+            if (holding) {
+                bookingService.applyPaymentOutcome(booking, charge == null ? PaymentStatus.FAILED : charge.status());
+                eventPublisher.publishEvent(CarOccupancyChangedEvent.of(booking));
+            }
+
+            if (booking.getStatus() == BookingStatus.CONFIRMED) {
+                bookingMetrics.incrementCreated();
+                confirmed++;
+            } else if (booking.getStatus() == BookingStatus.PAYMENT_FAILED) {
+                bookingMetrics.incrementFailed();
+            }
+            reservation.book(entry.getKey(), booking);
+        }
+
+        paymentService.recordInitialPayments(recorded);
+        bookingAuditService.logAll("PAYMENT_ATTEMPT", reservation.customer.getEmail(), attempts);
+        bookingAuditService.logAll("PAYMENT_COMPENSATED", "system", compensations);
+        if (confirmed > 0) {
+            notifyConfirmed(reservation.customer, confirmed);
+        }
+    }
+
+    private Long pickCar(BulkBookingItem item, Map<Long, List<BulkBookingItem>> claimed) {
+        if (item.branchId() == null || item.category() == null) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, "Each item needs a carId or a branchId and category");
+        }
+        return carRepository.findAvailableCars(item.branchId(), item.category().name(), item.startTime(), item.endTime())
+                .stream()
+                .map(CarRepository.AvailableCarProjection::getCarId)
+                .filter(carId -> !overlapsClaimed(claimed.get(carId), item))
+                .findFirst()
+                .orElseThrow(() -> new BusinessException(ErrorCode.CONFLICT,
+                        "No " + item.category() + " car available at branch " + item.branchId() + " for selected window"));
+    }
+
+    private boolean overlapsClaimed(List<BulkBookingItem> claimedWindows, BulkBookingItem item) {
+        if (claimedWindows == null) {
+            return false;
+        }
+        return claimedWindows.stream().anyMatch(other ->
+                other.startTime().isBefore(item.endTime()) && other.endTime().isAfter(item.startTime()));
+    }
+
+    private void notifyConfirmed(User customer, int count) {
+        notificationService.send(customer.getEmail(), "Bulk booking confirmed",
+                "Your bulk request confirmed " + count + " booking(s)");
+    }
+
+    private record PlannedItem(int index, Long carId, BulkBookingItem item) {
+    }
+
+    private final class BulkReservation {
+
+        private final User customer;
+        private final BulkBookingItemResult[] results;
+        private final Map<Integer, Booking> pending = new LinkedHashMap<>();
+
+        private BulkReservation(User customer, int size) {
+            this.customer = customer;
+            this.results = new BulkBookingItemResult[size];
+        }
+
+        void reject(int index, BusinessException ex) {
+            results[index] = new BulkBookingItemResult(index, BulkBookingItemStatus.REJECTED, null,
+                    ex.getErrorCode().name(), ex.getMessage());
+        }
+
+        void rollBack(int index) {
+            results[index] = new BulkBookingItemResult(index, BulkBookingItemStatus.ROLLED_BACK, null,
+                    null, "Not booked because another item was rejected");
+        }
+
+        void book(int index, Booking booking) {
+            BulkBookingItemStatus status = booking.getStatus() == BookingStatus.PAYMENT_FAILED
+                    ? BulkBookingItemStatus.PAYMENT_FAILED
+                    : BulkBookingItemStatus.BOOKED;
+            results[index] = new BulkBookingItemResult(index, status, bookingService.map(booking, null), null, null);
+        }
+
+        boolean hasRejections() {
+            return Arrays.stream(results).anyMatch(result -> result != null
+                    && result.status() == BulkBookingItemStatus.REJECTED);
+        }
+
+        BulkBookingResponse toResponse(BulkBookingMode mode) {
+            List<BulkBookingItemResult> items = Arrays.asList(results);
+            int booked = (int) items.stream().filter(r -> r.status() == BulkBookingItemStatus.BOOKED).count();
+            return new BulkBookingResponse(mode, results.length, booked, results.length - booked, items);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.smartautorental.platform.booking.service;
+
+import com.smartautorental.platform.booking.config.BookingProperties;
+import com.smartautorental.platform.booking.event.PaymentHoldPlacedEvent;
+import com.smartautorental.platform.booking.repo.BookingRepository;
+import com.smartautorental.platform.common.concurrent.HierarchicalTimingWheel;
+import com.smartautorental.platform.observability.BookingMetrics;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Service
+public class PaymentHoldService {
+
+    private final BookingService bookingService;
+    private final BookingRepository bookingRepository;
+    private final BookingMetrics bookingMetrics;
+    private final BookingProperties.Holds holds;
+    private final HierarchicalTimingWheel<Long> wheel;
+    private ScheduledExecutorService ticker;
+
+    public PaymentHoldService(BookingService bookingService,
+                              BookingRepository bookingRepository,
+                              BookingMetrics bookingMetrics,
+                              BookingProperties bookingProperties) {
+        this.bookingService = bookingService;
+        this.bookingRepository = bookingRepository;
+        this.bookingMetrics = bookingMetrics;
+        this.holds = bookingProperties.getHolds();
+        this.wheel = new HierarchicalTimingWheel<>(holds.getTickMs(), holds.getWheelSize(), System.currentTimeMillis());
+        bookingMetrics.registerActiveHolds(this::activeHolds);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        List<BookingRepository.PendingHoldProjection> pending = bookingRepository.findPendingHolds();
+        List<Due> overdue = new ArrayList<>();
+        for (BookingRepository.PendingHoldProjection hold : pending) {
+            Due due = schedule(new PaymentHoldPlacedEvent(hold.getId(), hold.getPaymentMode(), hold.getCreatedAt()));
+            if (due != null) {
+                overdue.add(due);
+            }
+        }
+        if (!pending.isEmpty()) {
+            log.info("Restored {} pending-payment holds, {} already past their deadline", pending.size(), overdue.size());
+        }
+        if (!overdue.isEmpty()) {
+            expire(overdue);
+        }
+
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "payment-hold-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, holds.getTickMs(), holds.getTickMs(), TimeUnit.MILLISECONDS);
+    }
+
+    // Registered after commit so a rolled-back reservation never leaves a hold behind.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void place(PaymentHoldPlacedEvent event) {
+        Due due = schedule(event);
+        if (due != null) {
+            expire(List.of(due));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    private Due schedule(PaymentHoldPlacedEvent event) {
+        long deadline = event.createdAt().plus(holds.ttlFor(event.paymentMode())).toEpochMilli();
+        synchronized (wheel) {
+            return wheel.schedule(event.bookingId(), deadline) ? null : new Due(event.bookingId(), deadline);
+        }
+    }
+
+    private void tick() {
+        List<Due> due = new ArrayList<>();
+        synchronized (wheel) {
+            wheel.advance(System.currentTimeMillis(), (bookingId, deadline) -> due.add(new Due(bookingId, deadline)));
+        }
+        if (!due.isEmpty()) {
+            expire(due);
+        }
+    }
+
+    private int activeHolds() {
+        synchronized (wheel) {
+            return wheel.size();
+        }
+    }
+
+    private void expire(List<Due> due) {
+        try {
+            // Holds of bookings that were confirmed or failed in the meantime match no row and are dropped here.
+            int expired = bookingService.expireHeldBookings(due.stream().map(Due::bookingId).toList());
+            long now = System.currentTimeMillis();
+            due.forEach(hold -> bookingMetrics.recordHoldExpiryLag(Duration.ofMillis(Math.max(0, now - hold.deadline()))));
+            if (expired > 0) {
+                log.info("Expired {} pending bookings at hold deadline", expired);
+            }
+        } catch (RuntimeException ex) {
+            // The periodic sweep picks these up; keep the ticker alive.
+            log.warn("Failed to expire {} payment holds", due.size(), ex);
+        }
+    }
+
+    private record Due(Long bookingId, long deadline) {
+    }
+}
@@ -0,0 +1,165 @@
+package com.smartautorental.platform.booking.service;
+
+import com.smartautorental.platform.booking.config.BookingProperties;
+import com.smartautorental.platform.booking.event.WaitlistEntryChangedEvent;
+import com.smartautorental.platform.booking.index.WaitlistIndex;
+import com.smartautorental.platform.booking.model.Booking;
+import com.smartautorental.platform.booking.model.WaitlistEntry;
+import com.smartautorental.platform.booking.model.WaitlistStatus;
+import com.smartautorental.platform.booking.repo.WaitlistRepository;
+import com.smartautorental.platform.fleet.event.CarOccupancyChangedEvent;
+import com.smartautorental.platform.fleet.event.CarStatusChangedEvent;
+import com.smartautorental.platform.fleet.model.CarCategory;
+import com.smartautorental.platform.fleet.model.CarStatus;
+import com.smartautorental.platform.fleet.repo.CarRepository;
+import com.smartautorental.platform.notification.NotificationService;
+import com.smartautorental.platform.observability.BookingMetrics;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Promotes pending waitlist entries when capacity appears: a booking or maintenance window is released, or a car
+ * becomes available. Entries are claimed with {@code FOR UPDATE SKIP LOCKED}, so concurrent promotions on several
+ * instances never hand the same entry out twice.
+ */
+@Slf4j
+@Service
+public class WaitlistMatchingService {
+
+    private static final String OUTCOME_NOTIFIED = "notified";
+    private static final String OUTCOME_BOOKED = "booked";
+
+    private final WaitlistRepository waitlistRepository;
+    private final CarRepository carRepository;
+    private final BookingService bookingService;
+    private final WaitlistIndex waitlistIndex;
+    private final NotificationService notificationService;
+    private final BookingMetrics bookingMetrics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BookingProperties.Waitlist properties;
+    private final TransactionTemplate requiresNew;
+
+    public WaitlistMatchingService(WaitlistRepository waitlistRepository,
+                                   CarRepository carRepository,
+                                   BookingService bookingService,
+                                   WaitlistIndex waitlistIndex,
+                                   NotificationService notificationService,
+                                   BookingMetrics bookingMetrics,
+                                   ApplicationEventPublisher eventPublisher,
+                                   BookingProperties bookingProperties,
+                                   PlatformTransactionManager transactionManager) {
+        this.waitlistRepository = waitlistRepository;
+        this.carRepository = carRepository;
+        this.bookingService = bookingService;
+        this.waitlistIndex = waitlistIndex;
+        this.notificationService = notificationService;
+        this.bookingMetrics = bookingMetrics;
+        this.eventPublisher = eventPublisher;
+        this.properties = bookingProperties.getWaitlist();
+        // Listeners run after the releasing transaction committed, so the claim needs a transaction of its own.
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        waitlistIndex.reload();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOccupancyChanged(CarOccupancyChangedEvent event) {
+        if (!event.active()) {
+            match(event.branchId(), event.category(), event.startTime(), event.endTime());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCarStatusChanged(CarStatusChangedEvent event) {
+        if (event.status() == CarStatus.AVAILABLE) {
+            waitlistIndex.span(event.branchId(), event.category())
+                    .ifPresent(span -> match(event.branchId(), event.category(), span.startTime(), span.endTime()));
+        }
+    }
+
+    // Picks up entries queued on other instances since the last reload and capacity whose event was missed.
+    @Scheduled(fixedDelayString = "${app.booking.waitlist.sweep-interval-ms:300000}",
+            initialDelayString = "${app.booking.waitlist.sweep-interval-ms:300000}")
+    public void sweep() {
+        waitlistIndex.reload();
+        for (WaitlistIndex.Key key : List.copyOf(waitlistIndex.keys())) {
+            waitlistIndex.span(key.branchId(), key.category())
+                    .ifPresent(span -> match(key.branchId(), key.category(), span.startTime(), span.endTime()));
+        }
+    }
+
+    public int match(Long branchId, CarCategory category, Instant startTime, Instant endTime) {
+        if (!waitlistIndex.hasOverlap(branchId, category, startTime, endTime)) {
+            return 0;
+        }
+        try {
+            Integer promoted = requiresNew.execute(status -> promote(branchId, category, startTime, endTime));
+            return promoted == null ? 0 : promoted;
+        } catch (RuntimeException ex) {
+            // Entries stay pending and the next sweep retries them.
+            log.warn("Waitlist promotion failed for branch={} category={}", branchId, category, ex);
+            return 0;
+        }
+    }
+
+    private int promote(Long branchId, CarCategory category, Instant startTime, Instant endTime) {
+        List<WaitlistEntry> claimed = waitlistRepository.claimOverlapping(
+                branchId, category.name(), startTime, endTime, Instant.now(), properties.getClaimBatchSize());
+
+        Set<Long> assignedCars = new HashSet<>();
+        int notified = 0;
+        int booked = 0;
+        for (WaitlistEntry entry : claimed) {
+            Long carId = carRepository.findAvailableCars(
+                            branchId, category.name(), entry.getStartTime(), entry.getEndTime()).stream()
+                    .map(CarRepository.AvailableCarProjection::getCarId)
+                    .filter(id -> !assignedCars.contains(id))
+                    .findFirst()
+                    .orElse(null);
+            if (carId == null) {
+                continue;
+            }
+
+            Booking booking = properties.isAutoBook() ? bookingService.holdForWaitlist(entry, carId) : null;
+            if (properties.isAutoBook() && booking == null) {
+                continue;
+            }
+            assignedCars.add(carId);
+            entry.setStatus(WaitlistStatus.FULFILLED);
+            eventPublisher.publishEvent(WaitlistEntryChangedEvent.of(entry));
+
+            if (booking != null) {
+                notificationService.send(entry.getCustomer().getEmail(),
+                        "Car reserved from waitlist",
+                        "Booking " + booking.getCode() + " is held for your requested period. "
+                                + "Complete the payment before the hold expires to confirm it.");
+                booked++;
+            } else {
+                notificationService.send(entry.getCustomer().getEmail(),
+                        "Car available from waitlist",
+                        "A car became available for your requested period. Proceed with a new booking.");
+                notified++;
+            }
+        }
+
+        bookingMetrics.incrementWaitlistPromotions(OUTCOME_NOTIFIED, notified);
+        bookingMetrics.incrementWaitlistPromotions(OUTCOME_BOOKED, booked);
+        return notified + booked;
+    }
+}
@@ -0,0 +1,113 @@
+package com.smartautorental.platform.common.concurrent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel keyed by wall-clock milliseconds. Level {@code n} has {@code wheelSize} buckets of
+ * {@code tickMs * wheelSize^n} each; timers cascade to finer levels as their bucket comes due and fire on the
+ * first tick at or after their deadline, never before it. Not thread-safe: callers serialize access.
+ */
+public final class HierarchicalTimingWheel<T> {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final List<ArrayDeque<Timer<T>>[]> levels = new ArrayList<>();
+    private long currentTick;
+    private int size;
+
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("tickMs must be positive and wheelSize at least 2");
+        }
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.currentTick = startMs / tickMs;
+        addLevel();
+    }
+
+    /**
+     * Schedules {@code item} to fire at {@code deadlineMs}. Returns {@code false} without scheduling when the
+     * deadline has already been reached, so the caller can fire it immediately.
+     */
+    public boolean schedule(T item, long deadlineMs) {
+        long expiryTick = Math.ceilDiv(deadlineMs, tickMs);
+        if (!insert(new Timer<>(item, deadlineMs, expiryTick))) {
+            return false;
+        }
+        size++;
+        return true;
+    }
+
+    /**
+     * Advances the wheel to {@code nowMs}, handing every timer whose deadline has been reached to {@code expired}
+     * together with its original deadline.
+     */
+    public void advance(long nowMs, Expiry<T> expired) {
+        long targetTick = nowMs / tickMs;
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = levels.size() - 1; level >= 0; level--) {
+                long levelTick = ticksPerBucket(level);
+                if (currentTick % levelTick != 0) {
+                    continue;
+                }
+                ArrayDeque<Timer<T>> bucket = levels.get(level)[(int) ((currentTick / levelTick) % wheelSize)];
+                Timer<T> timer;
+                while ((timer = bucket.poll()) != null) {
+                    if (!insert(timer)) {
+                        size--;
+                        expired.accept(timer.item(), timer.deadlineMs());
+                    }
+                }
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private boolean insert(Timer<T> timer) {
+        if (timer.expiryTick() <= currentTick) {
+            return false;
+        }
+        for (int level = 0; ; level++) {
+            if (level == levels.size()) {
+                addLevel();
+            }
+            long levelTick = ticksPerBucket(level);
+            long bucketIndex = timer.expiryTick() / levelTick;
+            if (bucketIndex - currentTick / levelTick < wheelSize) {
+                levels.get(level)[(int) (bucketIndex % wheelSize)].add(timer);
+                return true;
+            }
+        }
+    }
+
+    private long ticksPerBucket(int level) {
+        long ticks = 1;
+        for (int i = 0; i < level; i++) {
+            ticks = Math.multiplyExact(ticks, wheelSize);
+        }
+        return ticks;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void addLevel() {
+        ArrayDeque<Timer<T>>[] buckets = new ArrayDeque[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+        levels.add(buckets);
+    }
+
+    @FunctionalInterface
+    public interface Expiry<T> {
+        void accept(T item, long deadlineMs);
+    }
+
+    private record Timer<T>(T item, long deadlineMs, long expiryTick) {
+    }
+}
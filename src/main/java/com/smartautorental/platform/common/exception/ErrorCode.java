@@ -7,5 +7,6 @@ public enum ErrorCode {
     BUSINESS_RULE_VIOLATION,
     UNAUTHORIZED,
     FORBIDDEN,
+    TOO_MANY_REQUESTS,
     INTERNAL_ERROR
 }
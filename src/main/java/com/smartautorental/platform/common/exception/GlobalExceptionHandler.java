@@ -3,8 +3,13 @@ package com.smartautorental.platform.common.exception;
 import jakarta.validation.ConstraintViolationException;
 import java.time.Instant;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -13,9 +18,17 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+@Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    // Unique constraints a concurrent request can still trip after the services' existence checks.
+    private static final Map<String, String> CONFLICT_CONSTRAINTS = Map.of(
+            "users_email_key", "Email is already registered",
+            "cars_license_plate_key", "License plate is already registered",
+            "bookings_code_key", "Booking code is already in use",
+            "ex_bookings_car_period", "Car already booked in selected window");
+
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<ApiErrorResponse> handleBusiness(BusinessException ex) {
         HttpStatus status = switch (ex.getErrorCode()) {
@@ -23,6 +36,7 @@ public class GlobalExceptionHandler {
             case CONFLICT -> HttpStatus.CONFLICT;
             case FORBIDDEN -> HttpStatus.FORBIDDEN;
             case UNAUTHORIZED -> HttpStatus.UNAUTHORIZED;
+            case TOO_MANY_REQUESTS -> HttpStatus.TOO_MANY_REQUESTS;
             case VALIDATION_ERROR, BUSINESS_RULE_VIOLATION -> HttpStatus.BAD_REQUEST;
             default -> HttpStatus.INTERNAL_SERVER_ERROR;
         };
@@ -58,13 +72,34 @@ public class GlobalExceptionHandler {
         return build(HttpStatus.FORBIDDEN, ErrorCode.FORBIDDEN.name(), "Access denied", List.of());
     }
 
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ApiErrorResponse> handleDataIntegrity(DataIntegrityViolationException ex) {
+        String constraint = violatedConstraint(ex);
+        String message = constraint == null ? null : CONFLICT_CONSTRAINTS.get(constraint);
+        if (message != null) {
+            return build(HttpStatus.CONFLICT, ErrorCode.CONFLICT.name(), message, List.of(constraint));
+        }
+        log.error("Unhandled data integrity violation, constraint={}", constraint, ex);
+        return build(HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.INTERNAL_ERROR.name(), "Unexpected error", List.of());
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiErrorResponse> handleGeneric(Exception ex) {
         return build(HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.INTERNAL_ERROR.name(), "Unexpected error", List.of(ex.getMessage()));
     }
 
+    private String violatedConstraint(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof org.hibernate.exception.ConstraintViolationException violation
+                    && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT);
+            }
+        }
+        return null;
+    }
+
     private ResponseEntity<ApiErrorResponse> build(HttpStatus status, String code, String message, List<String> details) {
         ApiErrorResponse payload = new ApiErrorResponse(Instant.now(), status.value(), code, message, details);
-        return ResponseEntity.status(status).body(payload);
+        return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(payload);
     }
 }
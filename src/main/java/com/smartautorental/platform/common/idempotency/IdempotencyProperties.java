@@ -0,0 +1,19 @@
+package com.smartautorental.platform.common.idempotency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.idempotency")
+public class IdempotencyProperties {
+
+    private long ttlMs = 86400000;
+    // How long an IN_PROGRESS claim blocks the key before another request may take it over.
+    private long leaseMs = 60000;
+    private int cacheMaxEntries = 10000;
+    private long cleanupIntervalMs = 300000;
+}
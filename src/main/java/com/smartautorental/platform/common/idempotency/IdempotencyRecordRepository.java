@@ -0,0 +1,53 @@
+package com.smartautorental.platform.common.idempotency;
+
+import java.time.Instant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    // An expired row left behind by the cleanup interval, or an IN_PROGRESS row whose lease ran out because its
+    // request died, is taken over instead of blocking the key.
+    @Modifying
+    @Query(value = """
+            insert into idempotency_keys (record_key, request_hash, status, created_at, expires_at, locked_until)
+            values (:recordKey, :requestHash, 'IN_PROGRESS', :createdAt, :expiresAt, :lockedUntil)
+            on conflict (record_key) do update
+                set request_hash = excluded.request_hash,
+                    status = excluded.status,
+                    response_body = null,
+                    created_at = excluded.created_at,
+                    expires_at = excluded.expires_at,
+                    locked_until = excluded.locked_until
+                where idempotency_keys.expires_at < excluded.created_at
+                   or (idempotency_keys.status = 'IN_PROGRESS' and idempotency_keys.locked_until < excluded.created_at)
+            """, nativeQuery = true)
+    int claim(@Param("recordKey") String recordKey,
+              @Param("requestHash") String requestHash,
+              @Param("createdAt") Instant createdAt,
+              @Param("expiresAt") Instant expiresAt,
+              @Param("lockedUntil") Instant lockedUntil);
+
+    // created_at identifies the claim: a request whose lease was taken over no longer matches and updates nothing.
+    @Modifying
+    @Query("""
+            update IdempotencyRecord r set r.status = :status, r.responseBody = :responseBody, r.lockedUntil = null
+            where r.recordKey = :recordKey and r.createdAt = :claimedAt and r.status = com.smartautorental.platform.common.idempotency.IdempotencyStatus.IN_PROGRESS
+            """)
+    int complete(@Param("recordKey") String recordKey,
+                 @Param("claimedAt") Instant claimedAt,
+                 @Param("status") IdempotencyStatus status,
+                 @Param("responseBody") String responseBody);
+
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.recordKey = :recordKey and r.createdAt = :claimedAt and r.status = :status")
+    int release(@Param("recordKey") String recordKey,
+                @Param("claimedAt") Instant claimedAt,
+                @Param("status") IdempotencyStatus status);
+
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,216 @@
+package com.smartautorental.platform.common.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartautorental.platform.common.exception.BusinessException;
+import com.smartautorental.platform.common.exception.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyRecordRepository repository;
+    private final IdempotencyProperties properties;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate requiresNew;
+    private final TransactionTemplate transactional;
+    private final LinkedHashMap<String, CachedResponse> completed = new LinkedHashMap<>(256, 0.75f, true);
+
+    public IdempotencyService(IdempotencyRecordRepository repository,
+                              IdempotencyProperties properties,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactional = new TransactionTemplate(transactionManager);
+    }
+
+    public <T> T execute(String scope, String key, Object request, Class<T> responseType, Supplier<T> action) {
+        return execute(scope, key, request, responseType, action, false);
+    }
+
+    /**
+     * Like {@link #execute}, but runs the action and stores its response in one transaction, so the business write
+     * and the completed key commit or roll back together. Only for actions that do all their writes in a single
+     * transaction; a request that lost its lease meanwhile is rolled back instead of completing twice.
+     */
+    public <T> T executeTransactional(String scope, String key, Object request, Class<T> responseType, Supplier<T> action) {
+        return execute(scope, key, request, responseType, action, true);
+    }
+
+    private <T> T execute(String scope,
+                          String key,
+                          Object request,
+                          Class<T> responseType,
+                          Supplier<T> action,
+                          boolean atomic) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR,
+                    HEADER + " must be at most " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String recordKey = sha256(scope + "\n" + principal() + "\n" + key);
+        String requestHash = fingerprint(request);
+
+        CachedResponse cached = cached(recordKey);
+        if (cached != null) {
+            return replay(cached.requestHash(), cached.body(), requestHash, responseType);
+        }
+
+        // Truncated to the column precision: the claim time is compared back when completing or releasing.
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        Integer claimed = requiresNew.execute(status -> repository.claim(recordKey, requestHash, now,
+                now.plusMillis(properties.getTtlMs()), now.plusMillis(properties.getLeaseMs())));
+        if (claimed == null || claimed == 0) {
+            IdempotencyRecord existing = repository.findById(recordKey)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.CONFLICT,
+                            "A request with this " + HEADER + " was just released, retry"));
+            if (existing.getStatus() != IdempotencyStatus.COMPLETED) {
+                throw new BusinessException(ErrorCode.CONFLICT,
+                        "A request with this " + HEADER + " is still being processed");
+            }
+            remember(recordKey, existing.getRequestHash(), existing.getResponseBody(), existing.getExpiresAt());
+            return replay(existing.getRequestHash(), existing.getResponseBody(), requestHash, responseType);
+        }
+
+        Completed<T> completed;
+        try {
+            completed = atomic
+                    ? transactional.execute(status -> complete(recordKey, now, action.get(), true))
+                    : complete(recordKey, now, action.get(), false);
+        } catch (RuntimeException ex) {
+            // Failed requests are not recorded, so the client can retry with the same key.
+            requiresNew.executeWithoutResult(status -> repository.release(recordKey, now, IdempotencyStatus.IN_PROGRESS));
+            throw ex;
+        }
+
+        remember(recordKey, requestHash, completed.body(), now.plusMillis(properties.getTtlMs()));
+        return completed.response();
+    }
+
+    private <T> Completed<T> complete(String recordKey, Instant claimedAt, T response, boolean atomic) {
+        String body = serialize(response);
+        if (atomic) {
+            if (repository.complete(recordKey, claimedAt, IdempotencyStatus.COMPLETED, body) == 0) {
+                throw new BusinessException(ErrorCode.CONFLICT,
+                        "A request with this " + HEADER + " took over after the lease expired");
+            }
+        } else {
+            requiresNew.executeWithoutResult(status -> {
+                if (repository.complete(recordKey, claimedAt, IdempotencyStatus.COMPLETED, body) == 0) {
+                    log.warn("Idempotency claim {} was taken over before it completed", recordKey);
+                }
+            });
+        }
+        return new Completed<>(response, body);
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.cleanup-interval-ms:300000}")
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        requiresNew.executeWithoutResult(status -> repository.deleteExpired(now));
+        synchronized (completed) {
+            completed.values().removeIf(entry -> entry.expiresAt().isBefore(now));
+        }
+    }
+
+    private <T> T replay(String storedHash, String body, String requestHash, Class<T> responseType) {
+        if (!storedHash.equals(requestHash)) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR,
+                    HEADER + " was already used with a different request");
+        }
+        try {
+            return objectMapper.readValue(body, responseType);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Stored idempotent response cannot be read", ex);
+        }
+    }
+
+    private CachedResponse cached(String recordKey) {
+        synchronized (completed) {
+            CachedResponse cached = completed.get(recordKey);
+            if (cached != null && cached.expiresAt().isBefore(Instant.now())) {
+                completed.remove(recordKey);
+                return null;
+            }
+            return cached;
+        }
+    }
+
+    private void remember(String recordKey, String requestHash, String body, Instant expiresAt) {
+        synchronized (completed) {
+            completed.put(recordKey, new CachedResponse(requestHash, body, expiresAt));
+            Iterator<String> eldest = completed.keySet().iterator();
+            while (completed.size() > properties.getCacheMaxEntries() && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+            }
+        }
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            return sha256(objectMapper.writeValueAsBytes(request));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Cannot fingerprint request", ex);
+        }
+    }
+
+    private static String sha256(String value) {
+        return sha256(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String sha256(byte[] value) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private String serialize(Object response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Cannot store idempotent response", ex);
+        }
+    }
+
+    private String principal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null || !authentication.isAuthenticated() ? "anonymous" : authentication.getName();
+    }
+
+    private record Completed<T>(T response, String body) {
+    }
+
+    private record CachedResponse(String requestHash, String body, Instant expiresAt) {
+    }
+}
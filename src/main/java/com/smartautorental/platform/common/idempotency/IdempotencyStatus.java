@@ -0,0 +1,6 @@
+package com.smartautorental.platform.common.idempotency;
+
+public enum IdempotencyStatus {
+    IN_PROGRESS,
+    COMPLETED
+}
@@ -0,0 +1,66 @@
+package com.smartautorental.platform.common.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.util.UriComponentsBuilder;
+
+public record CursorPage<T>(
+        List<T> items,
+        String nextCursor,
+        boolean hasMore
+) {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+    /** Row cap for the deprecated non-paginated list endpoints; a longer result is flagged as truncated. */
+    public static final int LEGACY_LIST_CAP = 500;
+
+    public static int normalizeLimit(Integer limit) {
+        if (limit == null || limit < 1) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    /**
+     * Rows are expected to be fetched with {@link #probe(int)}, i.e. one more than the page size,
+     * so the extra row tells whether another page exists without a count query.
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows,
+                                          int limit,
+                                          Function<E, KeysetCursor> cursorOf,
+                                          Function<E, T> mapper) {
+        boolean hasMore = rows.size() > limit;
+        List<E> page = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = hasMore ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+        return new CursorPage<>(page.stream().map(mapper).toList(), nextCursor, hasMore);
+    }
+
+    public static Limit legacyCap() {
+        return probe(LEGACY_LIST_CAP);
+    }
+
+    /**
+     * Unwraps a capped legacy page into the old list body so clients see the deprecation and where the paginated
+     * successor lives. A page cut at the cap says so with {@code X-Truncated} and a {@code rel="next"} link that
+     * continues on the successor.
+     */
+    public static <T> ResponseEntity<List<T>> deprecatedList(CursorPage<T> page, UriComponentsBuilder successor) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header("Deprecation", "true")
+                .header(HttpHeaders.LINK, "<" + successor.toUriString() + ">; rel=\"successor-version\"");
+        if (page.hasMore()) {
+            String next = successor.cloneBuilder().queryParam("cursor", page.nextCursor()).toUriString();
+            response.header("X-Truncated", "true")
+                    .header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(page.items());
+    }
+
+    public static Limit probe(int limit) {
+        return Limit.of(limit + 1);
+    }
+}
@@ -0,0 +1,33 @@
+package com.smartautorental.platform.common.pagination;
+
+import com.smartautorental.platform.common.exception.BusinessException;
+import com.smartautorental.platform.common.exception.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+public record KeysetCursor(Instant position, Long id) {
+
+    private static final String VERSION = "v1";
+
+    public String encode() {
+        String raw = VERSION + ":" + position.getEpochSecond() + ":" + position.getNano() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            if (parts.length != 4 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Unsupported cursor");
+            }
+            Instant position = Instant.ofEpochSecond(Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+            return new KeysetCursor(position, Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException | java.time.DateTimeException ex) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, "Invalid cursor");
+        }
+    }
+}
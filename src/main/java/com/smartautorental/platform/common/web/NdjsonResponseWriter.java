@@ -0,0 +1,80 @@
+package com.smartautorental.platform.common.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class NdjsonResponseWriter {
+
+    private static final int FLUSH_EVERY = 64;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Writes every item handed to the sink as one JSON line. Nothing is committed until the first item,
+     * so failures raised before that still go through the regular error handling.
+     */
+    public <T> void write(HttpServletResponse response, Consumer<Consumer<T>> producer) throws IOException {
+        LineSink<T> sink = new LineSink<>(response);
+        try {
+            producer.accept(sink);
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        sink.finish();
+    }
+
+    private final class LineSink<T> implements Consumer<T> {
+
+        private final HttpServletResponse response;
+        private final ObjectWriter objectWriter = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        private JsonGenerator generator;
+        private long written;
+
+        private LineSink(HttpServletResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        public void accept(T item) {
+            try {
+                if (generator == null) {
+                    open();
+                }
+                objectWriter.writeValue(generator, item);
+                generator.writeRaw('\n');
+                if (++written % FLUSH_EVERY == 1) {
+                    generator.flush();
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        private void open() throws IOException {
+            response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            generator = objectMapper.getFactory().createGenerator(response.getOutputStream());
+            generator.setRootValueSeparator(null);
+        }
+
+        private void finish() throws IOException {
+            if (generator == null) {
+                open();
+            }
+            generator.close();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.smartautorental.platform.fleet.cache;
+
+import com.smartautorental.platform.fleet.config.AvailabilityProperties;
+import com.smartautorental.platform.fleet.dto.AvailabilityCarResponse;
+import com.smartautorental.platform.fleet.event.CarOccupancyChangedEvent;
+import com.smartautorental.platform.fleet.event.CarStatusChangedEvent;
+import com.smartautorental.platform.observability.AvailabilityMetrics;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class AvailabilitySearchCache {
+
+    private final AvailabilityProperties availabilityProperties;
+    private final AvailabilityMetrics availabilityMetrics;
+
+    private final LinkedHashMap<AvailabilitySearchKey, CachedResult> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long generation;
+
+    public List<AvailabilityCarResponse> get(AvailabilitySearchKey key, Supplier<List<AvailabilityCarResponse>> loader) {
+        return getStamped(key, () -> stamp(loader));
+    }
+
+    /**
+     * Like {@link #get}, but the loader reports the generation its own load started at. Use this when the loader
+     * may hand back a result computed by another caller (e.g. a collapsed in-flight search), so the put is checked
+     * against the generation the data was actually read at rather than the one this caller observed.
+     */
+    public List<AvailabilityCarResponse> getStamped(AvailabilitySearchKey key, Supplier<Stamped> loader) {
+        AvailabilityProperties.Cache config = availabilityProperties.getCache();
+        if (!config.isEnabled()) {
+            return loader.get().cars();
+        }
+
+        synchronized (entries) {
+            CachedResult cached = entries.get(key);
+            if (cached != null && cached.expiresAtNanos() - System.nanoTime() > 0) {
+                availabilityMetrics.incrementCacheHit();
+                return cached.cars();
+            }
+            if (cached != null) {
+                entries.remove(key);
+            }
+        }
+
+        availabilityMetrics.incrementCacheMiss();
+        Stamped loaded = loader.get();
+
+        synchronized (entries) {
+            // A write committed while the data was being read may have made this result stale; skip caching it.
+            if (generation == loaded.generation()) {
+                entries.put(key, new CachedResult(loaded.cars(), System.nanoTime() + config.getTtlMs() * 1_000_000L));
+                evictOverflow(config.getMaxEntries());
+            }
+        }
+        return loaded.cars();
+    }
+
+    public Stamped stamp(Supplier<List<AvailabilityCarResponse>> loader) {
+        long startGeneration;
+        synchronized (entries) {
+            startGeneration = generation;
+        }
+        return new Stamped(loader.get(), startGeneration);
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOccupancyChanged(CarOccupancyChangedEvent event) {
+        invalidate(key -> key.affectedBy(event.branchId(), event.category())
+                && key.overlaps(event.startTime(), event.endTime()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCarStatusChanged(CarStatusChangedEvent event) {
+        invalidate(key -> key.affectedBy(event.branchId(), event.category()));
+    }
+
+    private void invalidate(Predicate<AvailabilitySearchKey> affected) {
+        int evicted = 0;
+        synchronized (entries) {
+            generation++;
+            Iterator<AvailabilitySearchKey> keys = entries.keySet().iterator();
+            while (keys.hasNext()) {
+                if (affected.test(keys.next())) {
+                    keys.remove();
+                    evicted++;
+                }
+            }
+        }
+        if (evicted > 0) {
+            availabilityMetrics.incrementCacheInvalidations(evicted);
+        }
+    }
+
+    private void evictOverflow(int maxEntries) {
+        Iterator<Map.Entry<AvailabilitySearchKey, CachedResult>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+        }
+    }
+
+    public record Stamped(List<AvailabilityCarResponse> cars, long generation) {
+    }
+
+    private record CachedResult(List<AvailabilityCarResponse> cars, long expiresAtNanos) {
+    }
+}
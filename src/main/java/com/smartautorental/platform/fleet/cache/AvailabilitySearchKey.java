@@ -0,0 +1,29 @@
+package com.smartautorental.platform.fleet.cache;
+
+import com.smartautorental.platform.fleet.model.CarCategory;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+public record AvailabilitySearchKey(
+        Long branchId,
+        CarCategory category,
+        Instant startTime,
+        Instant endTime
+) {
+
+    public static AvailabilitySearchKey normalized(Long branchId, Instant startTime, Instant endTime, CarCategory category) {
+        return new AvailabilitySearchKey(
+                branchId,
+                category,
+                startTime.truncatedTo(ChronoUnit.SECONDS),
+                endTime.truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    boolean affectedBy(Long changedBranchId, CarCategory changedCategory) {
+        return branchId.equals(changedBranchId) && (category == null || category == changedCategory);
+    }
+
+    boolean overlaps(Instant otherStart, Instant otherEnd) {
+        return startTime.isBefore(otherEnd) && endTime.isAfter(otherStart);
+    }
+}
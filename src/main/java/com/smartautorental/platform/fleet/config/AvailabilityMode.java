@@ -0,0 +1,7 @@
+package com.smartautorental.platform.fleet.config;
+
+public enum AvailabilityMode {
+    INDEX,
+    SET_QUERY,
+    SQL
+}
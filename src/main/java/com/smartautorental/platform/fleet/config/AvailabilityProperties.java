@@ -0,0 +1,34 @@
+package com.smartautorental.platform.fleet.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.availability")
+public class AvailabilityProperties {
+
+    // INDEX only sees other instances' writes on reload; keep it for single-node deployments.
+    private AvailabilityMode mode = AvailabilityMode.SQL;
+    private long indexRefreshMs = 300000;
+    private long indexRetentionHours = 24;
+    private int calendarMaxSlots = 2208;
+    private int flexibleMaxToleranceDays = 14;
+    private long fanOutTimeoutMs = 2000;
+    private int fanOutMaxConcurrency = 8;
+    private int fanOutMaxBranches = 50;
+    private long coalesceTimeoutMs = 1500;
+    private Cache cache = new Cache();
+
+    @Getter
+    @Setter
+    public static class Cache {
+
+        private boolean enabled = true;
+        private int maxEntries = 10000;
+        private long ttlMs = 30000;
+    }
+}
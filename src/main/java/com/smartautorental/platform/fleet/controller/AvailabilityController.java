@@ -1,12 +1,25 @@
 package com.smartautorental.platform.fleet.controller;
 
+import com.smartautorental.platform.common.web.NdjsonResponseWriter;
+import com.smartautorental.platform.fleet.dto.AvailabilityCalendarResponse;
 import com.smartautorental.platform.fleet.dto.AvailabilityCarResponse;
+import com.smartautorental.platform.fleet.dto.FlexibleAvailabilityResponse;
+import com.smartautorental.platform.fleet.dto.MultiBranchAvailabilityResponse;
+import com.smartautorental.platform.fleet.model.CalendarGranularity;
+import com.smartautorental.platform.fleet.model.CalendarGrouping;
 import com.smartautorental.platform.fleet.model.CarCategory;
+import com.smartautorental.platform.fleet.model.FlexibleSort;
+import com.smartautorental.platform.fleet.service.AvailabilityCalendarService;
 import com.smartautorental.platform.fleet.service.AvailabilityService;
+import com.smartautorental.platform.fleet.service.FlexibleAvailabilityService;
+import com.smartautorental.platform.fleet.service.MultiBranchAvailabilityService;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.time.Instant;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -18,6 +31,10 @@ import org.springframework.web.bind.annotation.RestController;
 public class AvailabilityController {
 
     private final AvailabilityService availabilityService;
+    private final AvailabilityCalendarService availabilityCalendarService;
+    private final FlexibleAvailabilityService flexibleAvailabilityService;
+    private final MultiBranchAvailabilityService multiBranchAvailabilityService;
+    private final NdjsonResponseWriter ndjsonResponseWriter;
 
     @GetMapping
     public List<AvailabilityCarResponse> search(
@@ -27,4 +44,47 @@ public class AvailabilityController {
             @RequestParam(required = false) CarCategory category) {
         return availabilityService.search(branchId, startTime, endTime, category);
     }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamSearch(
+            @RequestParam Long branchId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant startTime,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant endTime,
+            @RequestParam(required = false) CarCategory category,
+            HttpServletResponse response) throws IOException {
+        ndjsonResponseWriter.<AvailabilityCarResponse>write(response,
+                sink -> availabilityService.stream(branchId, startTime, endTime, category, sink));
+    }
+
+    @GetMapping("/multi")
+    public MultiBranchAvailabilityResponse multiBranchSearch(
+            @RequestParam(required = false) List<Long> branchIds,
+            @RequestParam(required = false) String city,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant startTime,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant endTime,
+            @RequestParam(required = false) CarCategory category) {
+        return multiBranchAvailabilityService.search(branchIds, city, startTime, endTime, category);
+    }
+
+    @GetMapping("/flexible")
+    public List<FlexibleAvailabilityResponse> flexibleSearch(
+            @RequestParam Long branchId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant startTime,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant endTime,
+            @RequestParam(defaultValue = "3") int toleranceDays,
+            @RequestParam(required = false) CarCategory category,
+            @RequestParam(defaultValue = "PRICE") FlexibleSort sort) {
+        return flexibleAvailabilityService.search(branchId, startTime, endTime, toleranceDays, category, sort);
+    }
+
+    @GetMapping("/calendar")
+    public AvailabilityCalendarResponse calendar(
+            @RequestParam Long branchId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(defaultValue = "DAY") CalendarGranularity granularity,
+            @RequestParam(defaultValue = "CAR") CalendarGrouping groupBy,
+            @RequestParam(required = false) CarCategory category) {
+        return availabilityCalendarService.calendar(branchId, from, to, granularity, groupBy, category);
+    }
 }
@@ -1,5 +1,6 @@
 package com.smartautorental.platform.fleet.controller;
 
+import com.smartautorental.platform.common.pagination.CursorPage;
 import com.smartautorental.platform.fleet.dto.CarResponse;
 import com.smartautorental.platform.fleet.dto.CarUpsertRequest;
 import com.smartautorental.platform.fleet.model.CarCategory;
@@ -7,8 +8,10 @@ import com.smartautorental.platform.fleet.model.CarStatus;
 import com.smartautorental.platform.fleet.service.CarService;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -20,6 +23,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriComponentsBuilder;
 
 @RestController
 @RequestMapping("/api/v1/cars")
@@ -46,12 +50,31 @@ public class CarController {
         return carService.getById(carId);
     }
 
+    /**
+     * @deprecated capped at {@link CursorPage#LEGACY_LIST_CAP} rows, flagged with {@code X-Truncated}; use
+     * {@code GET /api/v1/cars/page}.
+     */
+    @Deprecated
     @GetMapping
-    public List<CarResponse> search(
+    public ResponseEntity<List<CarResponse>> search(
             @RequestParam(required = false) Long branchId,
             @RequestParam(required = false) CarCategory category,
             @RequestParam(required = false) CarStatus status) {
-        return carService.search(branchId, category, status);
+        UriComponentsBuilder successor = UriComponentsBuilder.fromPath("/api/v1/cars/page")
+                .queryParamIfPresent("branchId", Optional.ofNullable(branchId))
+                .queryParamIfPresent("category", Optional.ofNullable(category))
+                .queryParamIfPresent("status", Optional.ofNullable(status));
+        return CursorPage.deprecatedList(carService.search(branchId, category, status), successor);
+    }
+
+    @GetMapping("/page")
+    public CursorPage<CarResponse> searchPage(
+            @RequestParam(required = false) Long branchId,
+            @RequestParam(required = false) CarCategory category,
+            @RequestParam(required = false) CarStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return carService.searchPage(branchId, category, status, cursor, limit);
     }
 
     @DeleteMapping("/{carId}")
@@ -0,0 +1,17 @@
+package com.smartautorental.platform.fleet.dto;
+
+import com.smartautorental.platform.fleet.model.CalendarGranularity;
+import com.smartautorental.platform.fleet.model.CalendarGrouping;
+import java.time.Instant;
+import java.util.List;
+
+public record AvailabilityCalendarResponse(
+        Long branchId,
+        Instant from,
+        Instant to,
+        CalendarGranularity granularity,
+        CalendarGrouping groupBy,
+        int slotCount,
+        List<CalendarRow> rows
+) {
+}
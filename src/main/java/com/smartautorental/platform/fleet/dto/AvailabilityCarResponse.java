@@ -10,6 +10,7 @@ public record AvailabilityCarResponse(
         String model,
         CarCategory category,
         BigDecimal estimatedTotalPrice,
-        BigDecimal dynamicFactor
+        BigDecimal dynamicFactor,
+        String quoteToken
 ) {
 }
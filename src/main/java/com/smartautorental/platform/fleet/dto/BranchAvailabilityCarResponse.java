@@ -0,0 +1,18 @@
+package com.smartautorental.platform.fleet.dto;
+
+import com.smartautorental.platform.fleet.model.CarCategory;
+import java.math.BigDecimal;
+
+public record BranchAvailabilityCarResponse(
+        Long branchId,
+        String branchName,
+        Long carId,
+        String licensePlate,
+        String brand,
+        String model,
+        CarCategory category,
+        BigDecimal estimatedTotalPrice,
+        BigDecimal dynamicFactor,
+        String quoteToken
+) {
+}
@@ -0,0 +1,13 @@
+package com.smartautorental.platform.fleet.dto;
+
+import com.smartautorental.platform.fleet.model.CarCategory;
+import java.util.List;
+
+public record CalendarRow(
+        Long carId,
+        String licensePlate,
+        CarCategory category,
+        int totalCars,
+        List<SlotRun> freeRuns
+) {
+}
@@ -0,0 +1,19 @@
+package com.smartautorental.platform.fleet.dto;
+
+import com.smartautorental.platform.fleet.model.CarCategory;
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public record FlexibleAvailabilityResponse(
+        Long carId,
+        String licensePlate,
+        String brand,
+        String model,
+        CarCategory category,
+        Instant startTime,
+        Instant endTime,
+        BigDecimal estimatedTotalPrice,
+        BigDecimal dynamicFactor,
+        String quoteToken
+) {
+}
@@ -0,0 +1,10 @@
+package com.smartautorental.platform.fleet.dto;
+
+import java.util.List;
+
+public record MultiBranchAvailabilityResponse(
+        boolean degraded,
+        List<Long> incompleteBranchIds,
+        List<BranchAvailabilityCarResponse> cars
+) {
+}
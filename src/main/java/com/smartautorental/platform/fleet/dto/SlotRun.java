@@ -0,0 +1,8 @@
+package com.smartautorental.platform.fleet.dto;
+
+public record SlotRun(
+        int start,
+        int length,
+        int freeCars
+) {
+}
@@ -0,0 +1,54 @@
+package com.smartautorental.platform.fleet.event;
+
+import com.smartautorental.platform.booking.model.Booking;
+import com.smartautorental.platform.booking.model.BookingStatus;
+import com.smartautorental.platform.fleet.model.Car;
+import com.smartautorental.platform.fleet.model.CarCategory;
+import com.smartautorental.platform.maintenance.model.MaintenanceRecord;
+import com.smartautorental.platform.maintenance.model.MaintenanceStatus;
+import java.time.Instant;
+import java.util.List;
+
+public record CarOccupancyChangedEvent(
+        OccupancySource source,
+        Long sourceId,
+        Long carId,
+        Long branchId,
+        CarCategory category,
+        Instant startTime,
+        Instant endTime,
+        boolean active
+) {
+
+    public static final List<BookingStatus> BLOCKING_BOOKING_STATUSES =
+            List.of(BookingStatus.CONFIRMED, BookingStatus.PENDING_PAYMENT);
+
+    public static final List<MaintenanceStatus> BLOCKING_MAINTENANCE_STATUSES =
+            List.of(MaintenanceStatus.SCHEDULED, MaintenanceStatus.IN_PROGRESS);
+
+    public static CarOccupancyChangedEvent of(Booking booking) {
+        Car car = booking.getCar();
+        return new CarOccupancyChangedEvent(
+                OccupancySource.BOOKING,
+                booking.getId(),
+                car.getId(),
+                booking.getBranch().getId(),
+                car.getCategory(),
+                booking.getStartTime(),
+                booking.getEndTime(),
+                BLOCKING_BOOKING_STATUSES.contains(booking.getStatus()));
+    }
+
+    public static CarOccupancyChangedEvent of(MaintenanceRecord record) {
+        Car car = record.getCar();
+        return new CarOccupancyChangedEvent(
+                OccupancySource.MAINTENANCE,
+                record.getId(),
+                car.getId(),
+                car.getBranch().getId(),
+                car.getCategory(),
+                record.getStartTime(),
+                record.getEndTime(),
+                BLOCKING_MAINTENANCE_STATUSES.contains(record.getStatus()));
+    }
+}
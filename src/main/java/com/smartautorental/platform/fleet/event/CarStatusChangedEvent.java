@@ -0,0 +1,22 @@
+package com.smartautorental.platform.fleet.event;
+
+import com.smartautorental.platform.fleet.model.Car;
+import com.smartautorental.platform.fleet.model.CarCategory;
+import com.smartautorental.platform.fleet.model.CarStatus;
+
+public record CarStatusChangedEvent(
+        Long carId,
+        Long branchId,
+        CarCategory category,
+        CarStatus status,
+        boolean removed
+) {
+
+    public static CarStatusChangedEvent of(Car car) {
+        return new CarStatusChangedEvent(car.getId(), car.getBranch().getId(), car.getCategory(), car.getStatus(), false);
+    }
+
+    public static CarStatusChangedEvent removed(Car car) {
+        return new CarStatusChangedEvent(car.getId(), car.getBranch().getId(), car.getCategory(), car.getStatus(), true);
+    }
+}
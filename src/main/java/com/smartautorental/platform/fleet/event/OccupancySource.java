@@ -0,0 +1,6 @@
+package com.smartautorental.platform.fleet.event;
+
+public enum OccupancySource {
+    BOOKING,
+    MAINTENANCE
+}
@@ -0,0 +1,152 @@
+package com.smartautorental.platform.fleet.index;
+
+import com.smartautorental.platform.booking.repo.BookingRepository;
+import com.smartautorental.platform.fleet.config.AvailabilityMode;
+import com.smartautorental.platform.fleet.config.AvailabilityProperties;
+import com.smartautorental.platform.fleet.event.CarOccupancyChangedEvent;
+import com.smartautorental.platform.fleet.event.OccupancySource;
+import com.smartautorental.platform.maintenance.repo.MaintenanceRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Node-local copy of every blocking window, kept current by this node's own after-commit events. Writes made by
+ * other instances only arrive with the next {@code index-refresh-ms} reload, so {@code app.availability.mode=index}
+ * is meant for single-instance deployments; multi-instance deployments should stay on {@code sql} or
+ * {@code set-query}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AvailabilityIndex {
+
+    private final BookingRepository bookingRepository;
+    private final MaintenanceRepository maintenanceRepository;
+    private final AvailabilityProperties availabilityProperties;
+
+    private final Object writeLock = new Object();
+    private volatile ConcurrentHashMap<Long, CarTimeline> timelines = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+    private List<CarOccupancyChangedEvent> pendingReplay;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean hasConflict(Long carId, Instant startTime, Instant endTime) {
+        return timelines.getOrDefault(carId, CarTimeline.EMPTY)
+                .overlaps(startTime.toEpochMilli(), endTime.toEpochMilli());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (availabilityProperties.getMode() == AvailabilityMode.INDEX) {
+            reload();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.availability.index-refresh-ms:300000}",
+            initialDelayString = "${app.availability.index-refresh-ms:300000}")
+    public void refresh() {
+        if (availabilityProperties.getMode() == AvailabilityMode.INDEX) {
+            reload();
+        }
+    }
+
+    public void reload() {
+        synchronized (writeLock) {
+            pendingReplay = new ArrayList<>();
+        }
+
+        ConcurrentHashMap<Long, CarTimeline> fresh = new ConcurrentHashMap<>();
+        long pruneBefore = pruneBefore();
+        Instant after = Instant.ofEpochMilli(pruneBefore);
+        int windows = 0;
+        try {
+            for (var window : bookingRepository.findBlockingWindowsEndingAfter(
+                    CarOccupancyChangedEvent.BLOCKING_BOOKING_STATUSES, after)) {
+                upsert(fresh, window.getCarId(), key(OccupancySource.BOOKING, window.getId()),
+                        window.getStartTime(), window.getEndTime(), pruneBefore);
+                windows++;
+            }
+            for (var window : maintenanceRepository.findBlockingWindowsEndingAfter(
+                    CarOccupancyChangedEvent.BLOCKING_MAINTENANCE_STATUSES, after)) {
+                upsert(fresh, window.getCarId(), key(OccupancySource.MAINTENANCE, window.getId()),
+                        window.getStartTime(), window.getEndTime(), pruneBefore);
+                windows++;
+            }
+        } catch (RuntimeException ex) {
+            synchronized (writeLock) {
+                pendingReplay = null;
+            }
+            throw ex;
+        }
+
+        synchronized (writeLock) {
+            for (CarOccupancyChangedEvent event : pendingReplay) {
+                apply(fresh, event);
+            }
+            pendingReplay = null;
+            timelines = fresh;
+            ready = true;
+        }
+
+        log.info("Availability index loaded: cars={} windows={}", fresh.size(), windows);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOccupancyChanged(CarOccupancyChangedEvent event) {
+        synchronized (writeLock) {
+            if (pendingReplay != null) {
+                pendingReplay.add(event);
+            }
+            apply(timelines, event);
+        }
+    }
+
+    private void apply(ConcurrentHashMap<Long, CarTimeline> target, CarOccupancyChangedEvent event) {
+        long key = key(event.source(), event.sourceId());
+        long pruneBefore = pruneBefore();
+        if (event.active()) {
+            upsert(target, event.carId(), key, event.startTime(), event.endTime(), pruneBefore);
+        } else {
+            target.computeIfPresent(event.carId(), (carId, timeline) -> {
+                CarTimeline updated = timeline.remove(key, pruneBefore);
+                return updated.size() == 0 ? null : updated;
+            });
+        }
+    }
+
+    private void upsert(ConcurrentHashMap<Long, CarTimeline> target,
+                        Long carId,
+                        long key,
+                        Instant startTime,
+                        Instant endTime,
+                        long pruneBefore) {
+        target.compute(carId, (id, timeline) -> {
+            CarTimeline updated = (timeline == null ? CarTimeline.EMPTY : timeline)
+                    .upsert(key, startTime.toEpochMilli(), endTime.toEpochMilli(), pruneBefore);
+            return updated.size() == 0 ? null : updated;
+        });
+    }
+
+    private long pruneBefore() {
+        return Instant.now()
+                .minus(Duration.ofHours(availabilityProperties.getIndexRetentionHours()))
+                .toEpochMilli();
+    }
+
+    private static long key(OccupancySource source, Long sourceId) {
+        return (sourceId << 1) | (source == OccupancySource.MAINTENANCE ? 1 : 0);
+    }
+}
@@ -0,0 +1,107 @@
+package com.smartautorental.platform.fleet.index;
+
+import java.util.Arrays;
+
+/**
+ * Immutable, start-sorted set of blocking windows for a single car. Updates return a new
+ * instance so readers never need a lock; {@code maxEnds} is a running maximum of end times
+ * which turns the overlap test into one binary search.
+ */
+final class CarTimeline {
+
+    static final CarTimeline EMPTY = new CarTimeline(new long[0], new long[0], new long[0], new long[0]);
+
+    private final long[] keys;
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnds;
+
+    private CarTimeline(long[] keys, long[] starts, long[] ends, long[] maxEnds) {
+        this.keys = keys;
+        this.starts = starts;
+        this.ends = ends;
+        this.maxEnds = maxEnds;
+    }
+
+    int size() {
+        return keys.length;
+    }
+
+    boolean overlaps(long start, long end) {
+        int candidates = countStartingBefore(end);
+        return candidates > 0 && maxEnds[candidates - 1] > start;
+    }
+
+    CarTimeline upsert(long key, long start, long end, long pruneBefore) {
+        return rebuild(key, true, start, end, pruneBefore);
+    }
+
+    CarTimeline remove(long key, long pruneBefore) {
+        return rebuild(key, false, 0, 0, pruneBefore);
+    }
+
+    private CarTimeline rebuild(long key, boolean insert, long start, long end, long pruneBefore) {
+        // A window that already ended before the retention horizon is dropped like any other pruned window.
+        insert = insert && end > pruneBefore;
+        int capacity = keys.length + (insert ? 1 : 0);
+        long[] newKeys = new long[capacity];
+        long[] newStarts = new long[capacity];
+        long[] newEnds = new long[capacity];
+
+        int size = 0;
+        boolean inserted = !insert;
+        for (int i = 0; i < keys.length; i++) {
+            if (!inserted && start < starts[i]) {
+                newKeys[size] = key;
+                newStarts[size] = start;
+                newEnds[size] = end;
+                size++;
+                inserted = true;
+            }
+            if (keys[i] == key || ends[i] <= pruneBefore) {
+                continue;
+            }
+            newKeys[size] = keys[i];
+            newStarts[size] = starts[i];
+            newEnds[size] = ends[i];
+            size++;
+        }
+        if (!inserted) {
+            newKeys[size] = key;
+            newStarts[size] = start;
+            newEnds[size] = end;
+            size++;
+        }
+
+        if (size == 0) {
+            return EMPTY;
+        }
+
+        long[] newMaxEnds = new long[size];
+        long runningMax = Long.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            runningMax = Math.max(runningMax, newEnds[i]);
+            newMaxEnds[i] = runningMax;
+        }
+
+        return new CarTimeline(
+                Arrays.copyOf(newKeys, size),
+                Arrays.copyOf(newStarts, size),
+                Arrays.copyOf(newEnds, size),
+                newMaxEnds);
+    }
+
+    private int countStartingBefore(long instant) {
+        int low = 0;
+        int high = starts.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] < instant) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -21,4 +21,7 @@ public class Branch extends BaseEntity {
 
     @Column(nullable = false, length = 255)
     private String address;
+
+    @Column(name = "time_zone", nullable = false, length = 64)
+    private String timeZone = "UTC";
 }
@@ -0,0 +1,23 @@
+package com.smartautorental.platform.fleet.model;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+public enum CalendarGranularity {
+    HOUR(ChronoUnit.HOURS),
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    CalendarGranularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    public ChronoUnit unit() {
+        return unit;
+    }
+
+    public Duration slot() {
+        return unit.getDuration();
+    }
+}
@@ -0,0 +1,6 @@
+package com.smartautorental.platform.fleet.model;
+
+public enum FlexibleSort {
+    PRICE,
+    EARLIEST
+}
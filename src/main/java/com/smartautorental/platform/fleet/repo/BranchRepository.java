@@ -1,7 +1,10 @@
 package com.smartautorental.platform.fleet.repo;
 
 import com.smartautorental.platform.fleet.model.Branch;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface BranchRepository extends JpaRepository<Branch, Long> {
+
+    List<Branch> findByCityIgnoreCaseOrderById(String city);
 }
@@ -4,25 +4,70 @@ import com.smartautorental.platform.fleet.model.Car;
 import com.smartautorental.platform.fleet.model.CarCategory;
 import com.smartautorental.platform.fleet.model.CarStatus;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface CarRepository extends JpaRepository<Car, Long> {
 
+    // Only the free set: prices read category availability from FleetAvailability like every other quote path.
+    String AVAILABLE_CARS_QUERY = """
+            select c.id as carId,
+                   c.license_plate as licensePlate,
+                   c.brand as brand,
+                   c.model as model,
+                   c.category as category,
+                   c.branch_id as branchId,
+                   c.base_daily_rate as baseDailyRate
+            from cars c
+            where c.branch_id = :branchId
+              and c.status = 'AVAILABLE'
+              and (cast(:category as varchar) is null or c.category = cast(:category as varchar))
+              and not exists (
+                    select 1 from bookings b
+                    where b.car_id = c.id
+                      and b.status in ('CONFIRMED', 'PENDING_PAYMENT')
+                      and b.start_time < :endTime
+                      and b.end_time > :startTime)
+              and not exists (
+                    select 1 from maintenance_records m
+                    where m.car_id = c.id
+                      and m.status in ('SCHEDULED', 'IN_PROGRESS')
+                      and m.start_time < :endTime
+                      and m.end_time > :startTime)
+            order by c.id
+            """;
+
     boolean existsByLicensePlateIgnoreCase(String licensePlate);
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("select c from Car c where c.id = :carId")
     Optional<Car> findByIdForUpdate(@Param("carId") Long carId);
 
+    // Rows are locked in id order, so concurrent multi-car reservations cannot deadlock on each other.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from Car c where c.id in :carIds order by c.id")
+    List<Car> findAllByIdForUpdate(@Param("carIds") Collection<Long> carIds);
+
     List<Car> findByBranchIdAndStatus(Long branchId, CarStatus status);
 
     List<Car> findByBranchIdAndCategoryAndStatus(Long branchId, CarCategory category, CarStatus status);
 
+    List<Car> findByBranchIdAndCategoryInAndStatusOrderById(Long branchId,
+                                                            Collection<CarCategory> categories,
+                                                            CarStatus status);
+
     @Query("""
             select c from Car c
             where (:branchId is null or c.branch.id = :branchId)
@@ -32,9 +77,88 @@ public interface CarRepository extends JpaRepository<Car, Long> {
             """)
     List<Car> search(@Param("branchId") Long branchId,
                      @Param("category") CarCategory category,
-                     @Param("status") CarStatus status);
+                     @Param("status") CarStatus status,
+                     Limit limit);
+
+    @Query("""
+            select c from Car c
+            where (:branchId is null or c.branch.id = :branchId)
+            and (:category is null or c.category = :category)
+            and (:status is null or c.status = :status)
+            order by c.createdAt desc, c.id desc
+            """)
+    List<Car> searchPage(@Param("branchId") Long branchId,
+                         @Param("category") CarCategory category,
+                         @Param("status") CarStatus status,
+                         Limit limit);
+
+    @Query("""
+            select c from Car c
+            where (:branchId is null or c.branch.id = :branchId)
+            and (:category is null or c.category = :category)
+            and (:status is null or c.status = :status)
+            and (c.createdAt < :createdAt or (c.createdAt = :createdAt and c.id < :id))
+            order by c.createdAt desc, c.id desc
+            """)
+    List<Car> searchPageAfter(@Param("branchId") Long branchId,
+                              @Param("category") CarCategory category,
+                              @Param("status") CarStatus status,
+                              @Param("createdAt") Instant createdAt,
+                              @Param("id") Long id,
+                              Limit limit);
 
     long countByBranchIdAndCategoryAndStatus(Long branchId, CarCategory category, CarStatus status);
 
     long countByBranchId(Long branchId);
+
+    @Query("""
+            select c.category as category, count(c) as total
+            from Car c
+            where c.branch.id = :branchId
+            and c.status = :status
+            group by c.category
+            """)
+    List<CategoryCountProjection> countByCategory(@Param("branchId") Long branchId,
+                                                  @Param("status") CarStatus status);
+
+    @Query("""
+            select c.id as id, c.branch.id as branchId, c.category as category, c.status as status
+            from Car c
+            """)
+    List<FleetSlotProjection> findFleetSlots();
+
+    @Query(value = AVAILABLE_CARS_QUERY, nativeQuery = true)
+    List<AvailableCarProjection> findAvailableCars(@Param("branchId") Long branchId,
+                                                   @Param("category") String category,
+                                                   @Param("startTime") Instant startTime,
+                                                   @Param("endTime") Instant endTime);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "256"))
+    @Query(value = AVAILABLE_CARS_QUERY, nativeQuery = true)
+    Stream<AvailableCarProjection> streamAvailableCars(@Param("branchId") Long branchId,
+                                                       @Param("category") String category,
+                                                       @Param("startTime") Instant startTime,
+                                                       @Param("endTime") Instant endTime);
+
+    interface AvailableCarProjection {
+        Long getCarId();
+        String getLicensePlate();
+        String getBrand();
+        String getModel();
+        String getCategory();
+        Long getBranchId();
+        BigDecimal getBaseDailyRate();
+    }
+
+    interface FleetSlotProjection {
+        Long getId();
+        Long getBranchId();
+        CarCategory getCategory();
+        CarStatus getStatus();
+    }
+
+    interface CategoryCountProjection {
+        CarCategory getCategory();
+        long getTotal();
+    }
 }
@@ -0,0 +1,159 @@
+package com.smartautorental.platform.fleet.service;
+
+import com.smartautorental.platform.booking.repo.BookingRepository;
+import com.smartautorental.platform.common.exception.BusinessException;
+import com.smartautorental.platform.common.exception.ErrorCode;
+import com.smartautorental.platform.fleet.config.AvailabilityProperties;
+import com.smartautorental.platform.fleet.dto.AvailabilityCalendarResponse;
+import com.smartautorental.platform.fleet.dto.CalendarRow;
+import com.smartautorental.platform.fleet.dto.SlotRun;
+import com.smartautorental.platform.fleet.event.CarOccupancyChangedEvent;
+import com.smartautorental.platform.fleet.model.CalendarGranularity;
+import com.smartautorental.platform.fleet.model.CalendarGrouping;
+import com.smartautorental.platform.fleet.model.Car;
+import com.smartautorental.platform.fleet.model.CarCategory;
+import com.smartautorental.platform.fleet.model.CarStatus;
+import com.smartautorental.platform.fleet.repo.CarRepository;
+import com.smartautorental.platform.maintenance.repo.MaintenanceRepository;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class AvailabilityCalendarService {
+
+    private final CarRepository carRepository;
+    private final BookingRepository bookingRepository;
+    private final MaintenanceRepository maintenanceRepository;
+    private final AvailabilityProperties availabilityProperties;
+
+    @Transactional(readOnly = true)
+    public AvailabilityCalendarResponse calendar(Long branchId,
+                                                 Instant from,
+                                                 Instant to,
+                                                 CalendarGranularity granularity,
+                                                 CalendarGrouping groupBy,
+                                                 CarCategory category) {
+        if (!to.isAfter(from)) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, "Calendar end must be after start");
+        }
+
+        Instant alignedFrom = from.truncatedTo(granularity.unit());
+        long slotMillis = granularity.slot().toMillis();
+        long slots = Math.ceilDiv(to.toEpochMilli() - alignedFrom.toEpochMilli(), slotMillis);
+        if (slots > availabilityProperties.getCalendarMaxSlots()) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR,
+                    "Calendar range exceeds " + availabilityProperties.getCalendarMaxSlots() + " slots");
+        }
+        int slotCount = (int) slots;
+        Instant alignedTo = alignedFrom.plusMillis(slotCount * slotMillis);
+
+        List<Car> cars = category == null
+                ? carRepository.findByBranchIdAndStatus(branchId, CarStatus.AVAILABLE)
+                : carRepository.findByBranchIdAndCategoryAndStatus(branchId, category, CarStatus.AVAILABLE);
+
+        Map<Long, BitSet> occupancy = new HashMap<>();
+        for (Car car : cars) {
+            occupancy.put(car.getId(), new BitSet(slotCount));
+        }
+
+        SlotGrid grid = new SlotGrid(alignedFrom.toEpochMilli(), slotMillis, slotCount);
+        bookingRepository.findBlockingWindowsForBranch(
+                        branchId, CarOccupancyChangedEvent.BLOCKING_BOOKING_STATUSES, alignedFrom, alignedTo)
+                .forEach(w -> grid.mark(occupancy.get(w.getCarId()), w.getStartTime(), w.getEndTime()));
+        maintenanceRepository.findBlockingWindowsForBranch(
+                        branchId, CarOccupancyChangedEvent.BLOCKING_MAINTENANCE_STATUSES, alignedFrom, alignedTo)
+                .forEach(w -> grid.mark(occupancy.get(w.getCarId()), w.getStartTime(), w.getEndTime()));
+
+        List<CalendarRow> rows = groupBy == CalendarGrouping.CATEGORY
+                ? categoryRows(cars, occupancy, slotCount)
+                : carRows(cars, occupancy, slotCount);
+
+        return new AvailabilityCalendarResponse(
+                branchId, alignedFrom, alignedTo, granularity, groupBy, slotCount, rows);
+    }
+
+    private List<CalendarRow> carRows(List<Car> cars, Map<Long, BitSet> occupancy, int slotCount) {
+        List<CalendarRow> rows = new ArrayList<>(cars.size());
+        for (Car car : cars) {
+            List<SlotRun> runs = new ArrayList<>();
+            forEachFreeRun(occupancy.get(car.getId()), slotCount,
+                    (start, end) -> runs.add(new SlotRun(start, end - start, 1)));
+            rows.add(new CalendarRow(car.getId(), car.getLicensePlate(), car.getCategory(), 1, runs));
+        }
+        return rows;
+    }
+
+    private List<CalendarRow> categoryRows(List<Car> cars, Map<Long, BitSet> occupancy, int slotCount) {
+        Map<CarCategory, int[]> deltas = new EnumMap<>(CarCategory.class);
+        Map<CarCategory, Integer> totals = new EnumMap<>(CarCategory.class);
+        for (Car car : cars) {
+            int[] delta = deltas.computeIfAbsent(car.getCategory(), c -> new int[slotCount + 1]);
+            totals.merge(car.getCategory(), 1, Integer::sum);
+            forEachFreeRun(occupancy.get(car.getId()), slotCount, (start, end) -> {
+                delta[start]++;
+                delta[end]--;
+            });
+        }
+
+        List<CalendarRow> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((category, delta) -> {
+            List<SlotRun> runs = new ArrayList<>();
+            int runStart = 0;
+            int free = 0;
+            for (int slot = 0; slot <= slotCount; slot++) {
+                int next = slot == slotCount ? 0 : free + delta[slot];
+                if (slot == slotCount || next != free) {
+                    if (free > 0 && slot > runStart) {
+                        runs.add(new SlotRun(runStart, slot - runStart, free));
+                    }
+                    runStart = slot;
+                }
+                free = next;
+            }
+            rows.add(new CalendarRow(null, null, category, totals.get(category), runs));
+        });
+        return rows;
+    }
+
+    private void forEachFreeRun(BitSet occupied, int slotCount, RunConsumer consumer) {
+        int start = occupied.nextClearBit(0);
+        while (start < slotCount) {
+            int end = occupied.nextSetBit(start);
+            if (end < 0 || end > slotCount) {
+                end = slotCount;
+            }
+            consumer.accept(start, end);
+            start = occupied.nextClearBit(end);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RunConsumer {
+        void accept(int start, int end);
+    }
+
+    private record SlotGrid(long originMillis, long slotMillis, int slotCount) {
+
+        void mark(BitSet occupied, Instant startTime, Instant endTime) {
+            if (occupied == null) {
+                return;
+            }
+            long fromSlot = Math.floorDiv(startTime.toEpochMilli() - originMillis, slotMillis);
+            long toSlot = Math.ceilDiv(endTime.toEpochMilli() - originMillis, slotMillis);
+            int from = (int) Math.max(0, fromSlot);
+            int to = (int) Math.min(slotCount, toSlot);
+            if (from < to) {
+                occupied.set(from, to);
+            }
+        }
+    }
+}
@@ -1,52 +1,182 @@
 package com.smartautorental.platform.fleet.service;
 
-import com.smartautorental.platform.booking.model.BookingStatus;
 import com.smartautorental.platform.booking.repo.BookingRepository;
+import com.smartautorental.platform.common.concurrent.SingleFlight;
 import com.smartautorental.platform.common.exception.BusinessException;
 import com.smartautorental.platform.common.exception.ErrorCode;
+import com.smartautorental.platform.fleet.cache.AvailabilitySearchCache;
+import com.smartautorental.platform.fleet.cache.AvailabilitySearchKey;
+import com.smartautorental.platform.fleet.config.AvailabilityMode;
+import com.smartautorental.platform.fleet.config.AvailabilityProperties;
 import com.smartautorental.platform.fleet.dto.AvailabilityCarResponse;
+import com.smartautorental.platform.fleet.index.AvailabilityIndex;
 import com.smartautorental.platform.fleet.model.Car;
 import com.smartautorental.platform.fleet.model.CarCategory;
 import com.smartautorental.platform.fleet.model.CarStatus;
 import com.smartautorental.platform.fleet.repo.CarRepository;
+import com.smartautorental.platform.fleet.repo.CarRepository.AvailableCarProjection;
 import com.smartautorental.platform.maintenance.service.MaintenanceService;
+import com.smartautorental.platform.observability.AvailabilityMetrics;
 import com.smartautorental.platform.pricing.dto.PriceQuote;
+import com.smartautorental.platform.pricing.occupancy.FleetAvailability;
 import com.smartautorental.platform.pricing.service.PricingService;
+import com.smartautorental.platform.pricing.token.QuoteTerms;
+import com.smartautorental.platform.pricing.token.QuoteTokenService;
+import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
-@RequiredArgsConstructor
 public class AvailabilityService {
 
     private final CarRepository carRepository;
     private final BookingRepository bookingRepository;
     private final MaintenanceService maintenanceService;
     private final PricingService pricingService;
+    private final QuoteTokenService quoteTokenService;
+    private final AvailabilityIndex availabilityIndex;
+    private final AvailabilityProperties availabilityProperties;
+    private final AvailabilitySearchCache availabilitySearchCache;
+    private final TransactionTemplate readOnlyTransaction;
+    private final SingleFlight<AvailabilitySearchKey, AvailabilitySearchCache.Stamped> searchFlight;
+
+    public AvailabilityService(CarRepository carRepository,
+                               BookingRepository bookingRepository,
+                               MaintenanceService maintenanceService,
+                               PricingService pricingService,
+                               QuoteTokenService quoteTokenService,
+                               AvailabilityIndex availabilityIndex,
+                               AvailabilityProperties availabilityProperties,
+                               AvailabilitySearchCache availabilitySearchCache,
+                               PlatformTransactionManager transactionManager,
+                               AvailabilityMetrics availabilityMetrics) {
+        this.carRepository = carRepository;
+        this.bookingRepository = bookingRepository;
+        this.maintenanceService = maintenanceService;
+        this.pricingService = pricingService;
+        this.quoteTokenService = quoteTokenService;
+        this.availabilityIndex = availabilityIndex;
+        this.availabilityProperties = availabilityProperties;
+        this.availabilitySearchCache = availabilitySearchCache;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.searchFlight = new SingleFlight<>(
+                () -> availabilityMetrics.incrementCollapsed("search"),
+                () -> availabilityMetrics.incrementCollapseTimeout("search"));
+    }
 
-    @Transactional(readOnly = true)
     public List<AvailabilityCarResponse> search(Long branchId,
                                                 Instant startTime,
                                                 Instant endTime,
                                                 CarCategory category) {
+        validateWindow(startTime, endTime);
+
+        AvailabilitySearchKey key = AvailabilitySearchKey.normalized(branchId, startTime, endTime, category);
+        Duration coalesceTimeout = Duration.ofMillis(availabilityProperties.getCoalesceTimeoutMs());
+        // The generation is stamped by whoever actually runs the load, so a joiner never caches a leader's stale read.
+        return availabilitySearchCache.getStamped(key, () -> searchFlight.execute(key, coalesceTimeout,
+                () -> availabilitySearchCache.stamp(() -> readOnlyTransaction.execute(status -> load(key)))));
+    }
+
+    public void stream(Long branchId,
+                       Instant startTime,
+                       Instant endTime,
+                       CarCategory category,
+                       Consumer<AvailabilityCarResponse> sink) {
+        validateWindow(startTime, endTime);
+
+        AvailabilitySearchKey key = AvailabilitySearchKey.normalized(branchId, startTime, endTime, category);
+        readOnlyTransaction.executeWithoutResult(status -> {
+            FleetAvailability fleetAvailability = pricingService.fleetAvailability(key.branchId());
+            try (Stream<AvailableCarProjection> cars = carRepository.streamAvailableCars(
+                    key.branchId(),
+                    key.category() == null ? null : key.category().name(),
+                    key.startTime(),
+                    key.endTime())) {
+                cars.map(car -> price(car, fleetAvailability, key.startTime(), key.endTime())).forEach(sink);
+            }
+        });
+    }
+
+    private void validateWindow(Instant startTime, Instant endTime) {
         if (startTime.isBefore(Instant.now())) {
             throw new BusinessException(ErrorCode.VALIDATION_ERROR, "Start time cannot be in the past");
         }
         if (!endTime.isAfter(startTime)) {
             throw new BusinessException(ErrorCode.VALIDATION_ERROR, "End time must be after start time");
         }
+    }
+
+    private List<AvailabilityCarResponse> load(AvailabilitySearchKey key) {
+        return availabilityProperties.getMode() == AvailabilityMode.SET_QUERY
+                ? searchWithSetQuery(key.branchId(), key.startTime(), key.endTime(), key.category())
+                : searchWithConflictChecks(key.branchId(), key.startTime(), key.endTime(), key.category());
+    }
+
+    private List<AvailabilityCarResponse> searchWithSetQuery(Long branchId,
+                                                             Instant startTime,
+                                                             Instant endTime,
+                                                             CarCategory category) {
+        List<AvailableCarProjection> cars = carRepository.findAvailableCars(
+                branchId,
+                category == null ? null : category.name(),
+                startTime,
+                endTime);
+
+        if (cars.isEmpty()) {
+            return List.of();
+        }
+
+        FleetAvailability fleetAvailability = pricingService.fleetAvailability(branchId);
+        return cars.stream()
+                .map(car -> price(car, fleetAvailability, startTime, endTime))
+                .toList();
+    }
 
+    private AvailabilityCarResponse price(AvailableCarProjection car,
+                                          FleetAvailability fleetAvailability,
+                                          Instant startTime,
+                                          Instant endTime) {
+        CarCategory category = CarCategory.valueOf(car.getCategory());
+        long availableCars = fleetAvailability.availableCars(category, startTime, endTime);
+        PriceQuote quote = pricingService.quote(car.getBranchId(), car.getBaseDailyRate(), startTime, endTime,
+                false, null, availableCars);
+        return new AvailabilityCarResponse(
+                car.getCarId(),
+                car.getLicensePlate(),
+                car.getBrand(),
+                car.getModel(),
+                category,
+                quote.total(),
+                quote.dynamicFactor(),
+                quoteToken(car.getCarId(), car.getBaseDailyRate(), startTime, endTime, quote));
+    }
+
+    private List<AvailabilityCarResponse> searchWithConflictChecks(Long branchId,
+                                                                   Instant startTime,
+                                                                   Instant endTime,
+                                                                   CarCategory category) {
         List<Car> candidates = category == null
                 ? carRepository.findByBranchIdAndStatus(branchId, CarStatus.AVAILABLE)
                 : carRepository.findByBranchIdAndCategoryAndStatus(branchId, category, CarStatus.AVAILABLE);
 
-        return candidates.stream()
+        List<Car> available = candidates.stream()
                 .filter(car -> !hasConflict(car, startTime, endTime))
+                .toList();
+        if (available.isEmpty()) {
+            return List.of();
+        }
+
+        FleetAvailability fleetAvailability = pricingService.fleetAvailability(branchId);
+        return available.stream()
                 .map(car -> {
-                    long availableCars = pricingService.estimateAvailableCarsForCategory(branchId, car.getCategory());
+                    long availableCars = fleetAvailability.availableCars(car.getCategory(), startTime, endTime);
                     PriceQuote quote = pricingService.quote(car, startTime, endTime, false, null, availableCars);
                     return new AvailabilityCarResponse(
                             car.getId(),
@@ -55,17 +185,22 @@ public class AvailabilityService {
                             car.getModel(),
                             car.getCategory(),
                             quote.total(),
-                            quote.dynamicFactor());
+                            quote.dynamicFactor(),
+                            quoteToken(car.getId(), car.getBaseDailyRate(), startTime, endTime, quote));
                 })
                 .toList();
     }
 
+    private String quoteToken(Long carId, BigDecimal baseDailyRate, Instant startTime, Instant endTime, PriceQuote quote) {
+        return quoteTokenService.issue(new QuoteTerms(carId, baseDailyRate, startTime, endTime, false, null), quote);
+    }
+
     private boolean hasConflict(Car car, Instant startTime, Instant endTime) {
-        boolean bookingConflict = bookingRepository.existsConflictingBooking(
-                car.getId(),
-                startTime,
-                endTime,
-                List.of(BookingStatus.CONFIRMED, BookingStatus.PENDING_PAYMENT));
+        if (availabilityProperties.getMode() == AvailabilityMode.INDEX && availabilityIndex.isReady()) {
+            return availabilityIndex.hasConflict(car.getId(), startTime, endTime);
+        }
+
+        boolean bookingConflict = bookingRepository.existsConflictingBooking(car.getId(), startTime, endTime);
 
         boolean maintenanceConflict = maintenanceService.isCarUnderMaintenance(car.getId(), startTime, endTime);
 
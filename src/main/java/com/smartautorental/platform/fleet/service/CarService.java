@@ -2,8 +2,11 @@ package com.smartautorental.platform.fleet.service;
 
 import com.smartautorental.platform.common.exception.BusinessException;
 import com.smartautorental.platform.common.exception.ErrorCode;
+import com.smartautorental.platform.common.pagination.CursorPage;
+import com.smartautorental.platform.common.pagination.KeysetCursor;
 import com.smartautorental.platform.fleet.dto.CarResponse;
 import com.smartautorental.platform.fleet.dto.CarUpsertRequest;
+import com.smartautorental.platform.fleet.event.CarStatusChangedEvent;
 import com.smartautorental.platform.fleet.model.Branch;
 import com.smartautorental.platform.fleet.model.Car;
 import com.smartautorental.platform.fleet.model.CarCategory;
@@ -12,6 +15,7 @@ import com.smartautorental.platform.fleet.repo.BranchRepository;
 import com.smartautorental.platform.fleet.repo.CarRepository;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +25,7 @@ public class CarService {
 
     private final CarRepository carRepository;
     private final BranchRepository branchRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public CarResponse create(CarUpsertRequest request) {
@@ -33,7 +38,9 @@ public class CarService {
 
         Car car = new Car();
         updateEntity(car, request, branch);
-        return map(carRepository.save(car));
+        Car saved = carRepository.save(car);
+        eventPublisher.publishEvent(CarStatusChangedEvent.of(saved));
+        return map(saved);
     }
 
     @Transactional
@@ -49,8 +56,12 @@ public class CarService {
         Branch branch = branchRepository.findById(request.branchId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "Branch not found"));
 
+        CarStatusChangedEvent previous = CarStatusChangedEvent.of(car);
         updateEntity(car, request, branch);
-        return map(carRepository.save(car));
+        Car saved = carRepository.save(car);
+        eventPublisher.publishEvent(previous);
+        eventPublisher.publishEvent(CarStatusChangedEvent.of(saved));
+        return map(saved);
     }
 
     @Transactional(readOnly = true)
@@ -60,17 +71,39 @@ public class CarService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "Car not found"));
     }
 
+    /**
+     * @deprecated returns the first {@link CursorPage#LEGACY_LIST_CAP} cars; use {@link #searchPage}.
+     */
+    @Deprecated
     @Transactional(readOnly = true)
-    public List<CarResponse> search(Long branchId, CarCategory category, CarStatus status) {
-        return carRepository.search(branchId, category, status).stream().map(this::map).toList();
+    public CursorPage<CarResponse> search(Long branchId, CarCategory category, CarStatus status) {
+        List<Car> rows = carRepository.search(branchId, category, status, CursorPage.legacyCap());
+        return CursorPage.of(rows, CursorPage.LEGACY_LIST_CAP,
+                car -> new KeysetCursor(car.getCreatedAt(), car.getId()), this::map);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<CarResponse> searchPage(Long branchId,
+                                              CarCategory category,
+                                              CarStatus status,
+                                              String cursor,
+                                              Integer limit) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = CursorPage.normalizeLimit(limit);
+        List<Car> rows = after == null
+                ? carRepository.searchPage(branchId, category, status, CursorPage.probe(pageSize))
+                : carRepository.searchPageAfter(branchId, category, status, after.position(), after.id(),
+                        CursorPage.probe(pageSize));
+        return CursorPage.of(rows, pageSize, car -> new KeysetCursor(car.getCreatedAt(), car.getId()), this::map);
     }
 
     @Transactional
     public void delete(Long carId) {
-        if (!carRepository.existsById(carId)) {
-            throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "Car not found");
-        }
-        carRepository.deleteById(carId);
+        Car car = carRepository.findById(carId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "Car not found"));
+        CarStatusChangedEvent removed = CarStatusChangedEvent.removed(car);
+        carRepository.delete(car);
+        eventPublisher.publishEvent(removed);
     }
 
     private void updateEntity(Car car, CarUpsertRequest request, Branch branch) {
@@ -0,0 +1,195 @@
+package com.smartautorental.platform.fleet.service;
+
+import com.smartautorental.platform.booking.repo.BookingRepository;
+import com.smartautorental.platform.common.exception.BusinessException;
+import com.smartautorental.platform.common.exception.ErrorCode;
+import com.smartautorental.platform.fleet.config.AvailabilityProperties;
+import com.smartautorental.platform.fleet.dto.FlexibleAvailabilityResponse;
+import com.smartautorental.platform.fleet.event.CarOccupancyChangedEvent;
+import com.smartautorental.platform.fleet.model.Car;
+import com.smartautorental.platform.fleet.model.CarCategory;
+import com.smartautorental.platform.fleet.model.CarStatus;
+import com.smartautorental.platform.fleet.model.FlexibleSort;
+import com.smartautorental.platform.fleet.repo.CarRepository;
+import com.smartautorental.platform.maintenance.repo.MaintenanceRepository;
+import com.smartautorental.platform.pricing.dto.PriceQuote;
+import com.smartautorental.platform.pricing.occupancy.FleetAvailability;
+import com.smartautorental.platform.pricing.service.PricingService;
+import com.smartautorental.platform.pricing.token.QuoteTerms;
+import com.smartautorental.platform.pricing.token.QuoteTokenService;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class FlexibleAvailabilityService {
+
+    private static final Duration STEP = Duration.ofDays(1);
+
+    private final CarRepository carRepository;
+    private final BookingRepository bookingRepository;
+    private final MaintenanceRepository maintenanceRepository;
+    private final PricingService pricingService;
+    private final QuoteTokenService quoteTokenService;
+    private final AvailabilityProperties availabilityProperties;
+
+    @Transactional(readOnly = true)
+    public List<FlexibleAvailabilityResponse> search(Long branchId,
+                                                     Instant startTime,
+                                                     Instant endTime,
+                                                     int toleranceDays,
+                                                     CarCategory category,
+                                                     FlexibleSort sort) {
+        if (!endTime.isAfter(startTime)) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, "End time must be after start time");
+        }
+        if (toleranceDays < 0 || toleranceDays > availabilityProperties.getFlexibleMaxToleranceDays()) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR,
+                    "Tolerance must be between 0 and " + availabilityProperties.getFlexibleMaxToleranceDays() + " days");
+        }
+
+        Duration duration = Duration.between(startTime, endTime);
+        List<Instant> candidateStarts = candidateStarts(startTime, toleranceDays);
+        if (candidateStarts.isEmpty()) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, "No candidate window starts in the future");
+        }
+        Instant rangeStart = candidateStarts.getFirst();
+        Instant rangeEnd = candidateStarts.getLast().plus(duration);
+
+        List<Car> cars = category == null
+                ? carRepository.findByBranchIdAndStatus(branchId, CarStatus.AVAILABLE)
+                : carRepository.findByBranchIdAndCategoryAndStatus(branchId, category, CarStatus.AVAILABLE);
+
+        Map<Long, List<long[]>> windowsByCar = new HashMap<>();
+        bookingRepository.findBlockingWindowsForBranch(
+                        branchId, CarOccupancyChangedEvent.BLOCKING_BOOKING_STATUSES, rangeStart, rangeEnd)
+                .forEach(w -> addWindow(windowsByCar, w.getCarId(), w.getStartTime(), w.getEndTime()));
+        maintenanceRepository.findBlockingWindowsForBranch(
+                        branchId, CarOccupancyChangedEvent.BLOCKING_MAINTENANCE_STATUSES, rangeStart, rangeEnd)
+                .forEach(w -> addWindow(windowsByCar, w.getCarId(), w.getStartTime(), w.getEndTime()));
+
+        FleetAvailability fleetAvailability = pricingService.fleetAvailability(branchId);
+        Comparator<FlexibleAvailabilityResponse> order = comparator(sort);
+
+        List<FlexibleAvailabilityResponse> results = new ArrayList<>();
+        for (Car car : cars) {
+            long[][] busy = mergedBusyWindows(windowsByCar.getOrDefault(car.getId(), List.of()));
+
+            FlexibleAvailabilityResponse best = null;
+            PriceQuote bestQuote = null;
+            int cursor = 0;
+            for (Instant candidateStart : candidateStarts) {
+                long start = candidateStart.toEpochMilli();
+                long end = start + duration.toMillis();
+                while (cursor < busy.length && busy[cursor][1] <= start) {
+                    cursor++;
+                }
+                if (cursor < busy.length && busy[cursor][0] < end) {
+                    continue;
+                }
+
+                Instant candidateEnd = candidateStart.plus(duration);
+                long availableCars = fleetAvailability.availableCars(car.getCategory(), candidateStart, candidateEnd);
+                PriceQuote quote = pricingService.quote(car, candidateStart, candidateEnd, false, null, availableCars);
+                FlexibleAvailabilityResponse option = new FlexibleAvailabilityResponse(
+                        car.getId(),
+                        car.getLicensePlate(),
+                        car.getBrand(),
+                        car.getModel(),
+                        car.getCategory(),
+                        candidateStart,
+                        candidateEnd,
+                        quote.total(),
+                        quote.dynamicFactor(),
+                        null);
+                if (best == null || order.compare(option, best) < 0) {
+                    best = option;
+                    bestQuote = quote;
+                }
+                if (sort == FlexibleSort.EARLIEST) {
+                    break;
+                }
+            }
+
+            if (best != null) {
+                // Only the option returned to the caller is signed.
+                results.add(withQuoteToken(car, best, bestQuote));
+            }
+        }
+
+        results.sort(order);
+        return results;
+    }
+
+    private FlexibleAvailabilityResponse withQuoteToken(Car car, FlexibleAvailabilityResponse option, PriceQuote quote) {
+        String token = quoteTokenService.issue(new QuoteTerms(
+                car.getId(), car.getBaseDailyRate(), option.startTime(), option.endTime(), false, null), quote);
+        return new FlexibleAvailabilityResponse(
+                option.carId(),
+                option.licensePlate(),
+                option.brand(),
+                option.model(),
+                option.category(),
+                option.startTime(),
+                option.endTime(),
+                option.estimatedTotalPrice(),
+                option.dynamicFactor(),
+                token);
+    }
+
+    private List<Instant> candidateStarts(Instant preferredStart, int toleranceDays) {
+        Instant now = Instant.now();
+        List<Instant> starts = new ArrayList<>(toleranceDays * 2 + 1);
+        for (int offset = -toleranceDays; offset <= toleranceDays; offset++) {
+            Instant start = preferredStart.plus(STEP.multipliedBy(offset));
+            if (!start.isBefore(now)) {
+                starts.add(start);
+            }
+        }
+        return starts;
+    }
+
+    private void addWindow(Map<Long, List<long[]>> windowsByCar, Long carId, Instant startTime, Instant endTime) {
+        windowsByCar.computeIfAbsent(carId, id -> new ArrayList<>())
+                .add(new long[] {startTime.toEpochMilli(), endTime.toEpochMilli()});
+    }
+
+    private long[][] mergedBusyWindows(List<long[]> windows) {
+        if (windows.isEmpty()) {
+            return new long[0][];
+        }
+        List<long[]> sorted = new ArrayList<>(windows);
+        sorted.sort(Comparator.comparingLong(w -> w[0]));
+
+        List<long[]> merged = new ArrayList<>(sorted.size());
+        long[] current = sorted.getFirst().clone();
+        for (int i = 1; i < sorted.size(); i++) {
+            long[] next = sorted.get(i);
+            if (next[0] <= current[1]) {
+                current[1] = Math.max(current[1], next[1]);
+            } else {
+                merged.add(current);
+                current = next.clone();
+            }
+        }
+        merged.add(current);
+        return merged.toArray(new long[0][]);
+    }
+
+    private Comparator<FlexibleAvailabilityResponse> comparator(FlexibleSort sort) {
+        Comparator<FlexibleAvailabilityResponse> byStart = Comparator.comparing(FlexibleAvailabilityResponse::startTime);
+        Comparator<FlexibleAvailabilityResponse> byPrice = Comparator.comparing(FlexibleAvailabilityResponse::estimatedTotalPrice);
+        Comparator<FlexibleAvailabilityResponse> order = sort == FlexibleSort.EARLIEST
+                ? byStart.thenComparing(byPrice)
+                : byPrice.thenComparing(byStart);
+        return order.thenComparing(FlexibleAvailabilityResponse::carId);
+    }
+}
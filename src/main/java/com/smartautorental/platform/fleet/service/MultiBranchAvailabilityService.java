@@ -0,0 +1,148 @@
+package com.smartautorental.platform.fleet.service;
+
+import com.smartautorental.platform.common.exception.BusinessException;
+import com.smartautorental.platform.common.exception.ErrorCode;
+import com.smartautorental.platform.fleet.config.AvailabilityProperties;
+import com.smartautorental.platform.fleet.dto.AvailabilityCarResponse;
+import com.smartautorental.platform.fleet.dto.BranchAvailabilityCarResponse;
+import com.smartautorental.platform.fleet.dto.MultiBranchAvailabilityResponse;
+import com.smartautorental.platform.fleet.model.Branch;
+import com.smartautorental.platform.fleet.model.CarCategory;
+import com.smartautorental.platform.fleet.repo.BranchRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class MultiBranchAvailabilityService {
+
+    private final AvailabilityService availabilityService;
+    private final BranchRepository branchRepository;
+    private final AvailabilityProperties availabilityProperties;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+
+    public MultiBranchAvailabilityService(AvailabilityService availabilityService,
+                                          BranchRepository branchRepository,
+                                          AvailabilityProperties availabilityProperties) {
+        this.availabilityService = availabilityService;
+        this.branchRepository = branchRepository;
+        this.availabilityProperties = availabilityProperties;
+        this.permits = new Semaphore(availabilityProperties.getFanOutMaxConcurrency());
+    }
+
+    public MultiBranchAvailabilityResponse search(List<Long> branchIds,
+                                                  String city,
+                                                  Instant startTime,
+                                                  Instant endTime,
+                                                  CarCategory category) {
+        List<Branch> branches = resolveBranches(branchIds, city);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(availabilityProperties.getFanOutTimeoutMs());
+
+        Map<Branch, Future<List<AvailabilityCarResponse>>> futures = new LinkedHashMap<>();
+        for (Branch branch : branches) {
+            futures.put(branch, executor.submit(() -> searchBranch(branch.getId(), startTime, endTime, category)));
+        }
+
+        List<BranchAvailabilityCarResponse> cars = new ArrayList<>();
+        List<Long> incompleteBranchIds = new ArrayList<>();
+        for (Map.Entry<Branch, Future<List<AvailabilityCarResponse>>> entry : futures.entrySet()) {
+            Branch branch = entry.getKey();
+            Future<List<AvailabilityCarResponse>> future = entry.getValue();
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                future.get(remaining, TimeUnit.NANOSECONDS).forEach(car -> cars.add(toBranchResult(branch, car)));
+            } catch (TimeoutException ex) {
+                future.cancel(true);
+                incompleteBranchIds.add(branch.getId());
+                log.warn("Availability fan-out deadline exceeded for branch={}", branch.getId());
+            } catch (ExecutionException ex) {
+                if (ex.getCause() instanceof BusinessException businessException) {
+                    cancelAll(futures.values());
+                    throw businessException;
+                }
+                incompleteBranchIds.add(branch.getId());
+                log.warn("Availability fan-out failed for branch={}", branch.getId(), ex.getCause());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                cancelAll(futures.values());
+                throw new BusinessException(ErrorCode.INTERNAL_ERROR, "Availability search interrupted");
+            }
+        }
+
+        cars.sort(Comparator.comparing(BranchAvailabilityCarResponse::estimatedTotalPrice)
+                .thenComparing(BranchAvailabilityCarResponse::branchId)
+                .thenComparing(BranchAvailabilityCarResponse::carId));
+
+        return new MultiBranchAvailabilityResponse(!incompleteBranchIds.isEmpty(), incompleteBranchIds, cars);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private List<AvailabilityCarResponse> searchBranch(Long branchId,
+                                                       Instant startTime,
+                                                       Instant endTime,
+                                                       CarCategory category) throws InterruptedException {
+        permits.acquire();
+        try {
+            return availabilityService.search(branchId, startTime, endTime, category);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private List<Branch> resolveBranches(List<Long> branchIds, String city) {
+        List<Branch> branches;
+        if (branchIds != null && !branchIds.isEmpty()) {
+            branches = branchRepository.findAllById(branchIds);
+        } else if (city != null && !city.isBlank()) {
+            branches = branchRepository.findByCityIgnoreCaseOrderById(city.trim());
+        } else {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, "Provide branchIds or city");
+        }
+
+        if (branches.isEmpty()) {
+            throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "No branch found");
+        }
+        if (branches.size() > availabilityProperties.getFanOutMaxBranches()) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR,
+                    "At most " + availabilityProperties.getFanOutMaxBranches() + " branches per search");
+        }
+        return branches;
+    }
+
+    private void cancelAll(Iterable<Future<List<AvailabilityCarResponse>>> futures) {
+        futures.forEach(future -> future.cancel(true));
+    }
+
+    private BranchAvailabilityCarResponse toBranchResult(Branch branch, AvailabilityCarResponse car) {
+        return new BranchAvailabilityCarResponse(
+                branch.getId(),
+                branch.getName(),
+                car.carId(),
+                car.licensePlate(),
+                car.brand(),
+                car.model(),
+                car.category(),
+                car.estimatedTotalPrice(),
+                car.dynamicFactor(),
+                car.quoteToken());
+    }
+}
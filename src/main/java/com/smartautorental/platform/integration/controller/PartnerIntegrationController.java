@@ -4,14 +4,18 @@ import com.smartautorental.platform.booking.dto.BookingResponse;
 import com.smartautorental.platform.booking.service.BookingService;
 import com.smartautorental.platform.common.exception.BusinessException;
 import com.smartautorental.platform.common.exception.ErrorCode;
+import com.smartautorental.platform.common.web.NdjsonResponseWriter;
 import com.smartautorental.platform.fleet.dto.AvailabilityCarResponse;
 import com.smartautorental.platform.fleet.model.CarCategory;
 import com.smartautorental.platform.fleet.service.AvailabilityService;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.time.Instant;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -25,6 +29,7 @@ public class PartnerIntegrationController {
 
     private final AvailabilityService availabilityService;
     private final BookingService bookingService;
+    private final NdjsonResponseWriter ndjsonResponseWriter;
 
     @Value("${app.integrations.api-key}")
     private String integrationApiKey;
@@ -40,6 +45,19 @@ public class PartnerIntegrationController {
         return availabilityService.search(branchId, startTime, endTime, category);
     }
 
+    @GetMapping(value = "/availability", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamAvailability(
+            @RequestHeader("X-API-KEY") String apiKey,
+            @RequestParam Long branchId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant startTime,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant endTime,
+            @RequestParam(required = false) CarCategory category,
+            HttpServletResponse response) throws IOException {
+        requireApiKey(apiKey);
+        ndjsonResponseWriter.<AvailabilityCarResponse>write(response,
+                sink -> availabilityService.stream(branchId, startTime, endTime, category, sink));
+    }
+
     @GetMapping("/bookings/status")
     public BookingResponse bookingStatus(@RequestHeader("X-API-KEY") String apiKey,
                                          @RequestParam Long bookingId) {
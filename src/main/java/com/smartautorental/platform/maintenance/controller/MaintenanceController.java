@@ -1,5 +1,6 @@
 package com.smartautorental.platform.maintenance.controller;
 
+import com.smartautorental.platform.common.pagination.CursorPage;
 import com.smartautorental.platform.maintenance.dto.MaintenanceCreateRequest;
 import com.smartautorental.platform.maintenance.dto.MaintenanceResponse;
 import com.smartautorental.platform.maintenance.service.MaintenanceService;
@@ -7,14 +8,17 @@ import jakarta.validation.Valid;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriComponentsBuilder;
 
 @RestController
 @RequestMapping("/api/v1/maintenance")
@@ -36,9 +40,23 @@ public class MaintenanceController {
         return maintenanceService.complete(maintenanceId);
     }
 
+    /**
+     * @deprecated capped at {@link CursorPage#LEGACY_LIST_CAP} rows, flagged with {@code X-Truncated}; use
+     * {@code GET /api/v1/maintenance/car/{carId}/page}.
+     */
+    @Deprecated
     @GetMapping("/car/{carId}")
     @PreAuthorize("hasAnyRole('ADMIN','OPERATOR')")
-    public List<MaintenanceResponse> history(@PathVariable Long carId) {
-        return maintenanceService.history(carId);
+    public ResponseEntity<List<MaintenanceResponse>> history(@PathVariable Long carId) {
+        return CursorPage.deprecatedList(maintenanceService.history(carId),
+                UriComponentsBuilder.fromPath("/api/v1/maintenance/car/" + carId + "/page"));
+    }
+
+    @GetMapping("/car/{carId}/page")
+    @PreAuthorize("hasAnyRole('ADMIN','OPERATOR')")
+    public CursorPage<MaintenanceResponse> historyPage(@PathVariable Long carId,
+                                                       @RequestParam(required = false) String cursor,
+                                                       @RequestParam(required = false) Integer limit) {
+        return maintenanceService.historyPage(carId, cursor, limit);
     }
 }
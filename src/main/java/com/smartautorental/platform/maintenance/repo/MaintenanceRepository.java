@@ -5,23 +5,65 @@ import com.smartautorental.platform.maintenance.model.MaintenanceStatus;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface MaintenanceRepository extends JpaRepository<MaintenanceRecord, Long> {
 
+    // Status list must match the idx_maintenance_car_period_active predicate.
+    @Query(value = """
+            select exists (
+                select 1 from maintenance_records m
+                where m.car_id = :carId
+                  and m.status in ('SCHEDULED', 'IN_PROGRESS')
+                  and m.period && tstzrange(cast(:startTime as timestamptz), cast(:endTime as timestamptz), '[)'))
+            """, nativeQuery = true)
+    boolean existsOverlapping(@Param("carId") Long carId,
+                              @Param("startTime") Instant startTime,
+                              @Param("endTime") Instant endTime);
+
+    List<MaintenanceRecord> findByCarIdOrderByStartTimeDescIdDesc(Long carId, Limit limit);
+
     @Query("""
-            select (count(m) > 0) from MaintenanceRecord m
+            select m from MaintenanceRecord m
             where m.car.id = :carId
+            and (m.startTime < :startTime or (m.startTime = :startTime and m.id < :id))
+            order by m.startTime desc, m.id desc
+            """)
+    List<MaintenanceRecord> findCarHistoryPageAfter(@Param("carId") Long carId,
+                                                    @Param("startTime") Instant startTime,
+                                                    @Param("id") Long id,
+                                                    Limit limit);
+
+    @Query("""
+            select m.id as id, m.car.id as carId, m.startTime as startTime, m.endTime as endTime
+            from MaintenanceRecord m
+            where m.status in :statuses
+              and m.endTime > :after
+            """)
+    List<BlockingWindowProjection> findBlockingWindowsEndingAfter(@Param("statuses") Collection<MaintenanceStatus> statuses,
+                                                                  @Param("after") Instant after);
+
+    @Query("""
+            select m.id as id, m.car.id as carId, m.startTime as startTime, m.endTime as endTime
+            from MaintenanceRecord m
+            where m.car.branch.id = :branchId
               and m.status in :statuses
-              and m.startTime < :endTime
-              and m.endTime > :startTime
+              and m.startTime < :to
+              and m.endTime > :from
+            order by m.car.id, m.startTime
             """)
-    boolean existsOverlapping(@Param("carId") Long carId,
-                              @Param("startTime") Instant startTime,
-                              @Param("endTime") Instant endTime,
-                              @Param("statuses") Collection<MaintenanceStatus> statuses);
+    List<BlockingWindowProjection> findBlockingWindowsForBranch(@Param("branchId") Long branchId,
+                                                                @Param("statuses") Collection<MaintenanceStatus> statuses,
+                                                                @Param("from") Instant from,
+                                                                @Param("to") Instant to);
 
-    List<MaintenanceRecord> findByCarIdOrderByStartTimeDesc(Long carId);
+    interface BlockingWindowProjection {
+        Long getId();
+        Long getCarId();
+        Instant getStartTime();
+        Instant getEndTime();
+    }
 }
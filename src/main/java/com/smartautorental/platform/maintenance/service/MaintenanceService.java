@@ -1,9 +1,12 @@
 package com.smartautorental.platform.maintenance.service;
 
-import com.smartautorental.platform.booking.model.BookingStatus;
 import com.smartautorental.platform.booking.repo.BookingRepository;
 import com.smartautorental.platform.common.exception.BusinessException;
 import com.smartautorental.platform.common.exception.ErrorCode;
+import com.smartautorental.platform.common.pagination.CursorPage;
+import com.smartautorental.platform.common.pagination.KeysetCursor;
+import com.smartautorental.platform.fleet.event.CarOccupancyChangedEvent;
+import com.smartautorental.platform.fleet.event.CarStatusChangedEvent;
 import com.smartautorental.platform.fleet.model.Car;
 import com.smartautorental.platform.fleet.model.CarStatus;
 import com.smartautorental.platform.fleet.repo.CarRepository;
@@ -15,6 +18,7 @@ import com.smartautorental.platform.maintenance.repo.MaintenanceRepository;
 import java.time.Instant;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +29,7 @@ public class MaintenanceService {
     private final MaintenanceRepository maintenanceRepository;
     private final CarRepository carRepository;
     private final BookingRepository bookingRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public MaintenanceResponse schedule(MaintenanceCreateRequest request) {
@@ -38,8 +43,7 @@ public class MaintenanceService {
         boolean hasConfirmedBooking = bookingRepository.existsConflictingBooking(
                 car.getId(),
                 request.startTime(),
-                request.endTime(),
-                List.of(BookingStatus.CONFIRMED, BookingStatus.PENDING_PAYMENT)
+                request.endTime()
         );
         if (hasConfirmedBooking) {
             throw new BusinessException(ErrorCode.CONFLICT, "Cannot schedule maintenance due to active bookings");
@@ -55,9 +59,11 @@ public class MaintenanceService {
         if (!Instant.now().isBefore(request.startTime())) {
             record.setStatus(MaintenanceStatus.IN_PROGRESS);
             car.setStatus(CarStatus.IN_MAINTENANCE);
+            eventPublisher.publishEvent(CarStatusChangedEvent.of(car));
         }
 
         MaintenanceRecord saved = maintenanceRepository.save(record);
+        eventPublisher.publishEvent(CarOccupancyChangedEvent.of(saved));
         return map(saved);
     }
 
@@ -70,23 +76,38 @@ public class MaintenanceService {
         Car car = record.getCar();
         if (car.getStatus() == CarStatus.IN_MAINTENANCE) {
             car.setStatus(CarStatus.AVAILABLE);
+            eventPublisher.publishEvent(CarStatusChangedEvent.of(car));
         }
+        eventPublisher.publishEvent(CarOccupancyChangedEvent.of(record));
 
         return map(record);
     }
 
+    /**
+     * @deprecated returns the first {@link CursorPage#LEGACY_LIST_CAP} records; use {@link #historyPage}.
+     */
+    @Deprecated
     @Transactional(readOnly = true)
-    public List<MaintenanceResponse> history(Long carId) {
-        return maintenanceRepository.findByCarIdOrderByStartTimeDesc(carId).stream().map(this::map).toList();
+    public CursorPage<MaintenanceResponse> history(Long carId) {
+        List<MaintenanceRecord> rows = maintenanceRepository.findByCarIdOrderByStartTimeDescIdDesc(carId,
+                CursorPage.legacyCap());
+        return CursorPage.of(rows, CursorPage.LEGACY_LIST_CAP,
+                record -> new KeysetCursor(record.getStartTime(), record.getId()), this::map);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<MaintenanceResponse> historyPage(Long carId, String cursor, Integer limit) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = CursorPage.normalizeLimit(limit);
+        List<MaintenanceRecord> rows = after == null
+                ? maintenanceRepository.findByCarIdOrderByStartTimeDescIdDesc(carId, CursorPage.probe(pageSize))
+                : maintenanceRepository.findCarHistoryPageAfter(carId, after.position(), after.id(),
+                        CursorPage.probe(pageSize));
+        return CursorPage.of(rows, pageSize, record -> new KeysetCursor(record.getStartTime(), record.getId()), this::map);
     }
 
     public boolean isCarUnderMaintenance(Long carId, Instant start, Instant end) {
-        return maintenanceRepository.existsOverlapping(
-                carId,
-                start,
-                end,
-                List.of(MaintenanceStatus.SCHEDULED, MaintenanceStatus.IN_PROGRESS)
-        );
+        return maintenanceRepository.existsOverlapping(carId, start, end);
     }
 
     private MaintenanceResponse map(MaintenanceRecord record) {
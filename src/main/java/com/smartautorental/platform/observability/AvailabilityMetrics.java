@@ -0,0 +1,71 @@
+package com.smartautorental.platform.observability;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AvailabilityMetrics {
+
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+    private final Counter cacheInvalidations;
+    private final DistributionSummary occupancyDrift;
+    private final AtomicLong occupancyDriftedCells = new AtomicLong();
+    private final MeterRegistry meterRegistry;
+
+    public AvailabilityMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.cacheHits = Counter.builder("availability.cache.hits.total")
+                .description("Availability searches answered from cache")
+                .register(meterRegistry);
+        this.cacheMisses = Counter.builder("availability.cache.misses.total")
+                .description("Availability searches computed against the database")
+                .register(meterRegistry);
+        this.cacheInvalidations = Counter.builder("availability.cache.invalidations.total")
+                .description("Cached availability results evicted by booking, payment, maintenance or fleet changes")
+                .register(meterRegistry);
+        this.occupancyDrift = DistributionSummary.builder("availability.occupancy.drift")
+                .description("Absolute difference between live occupancy counters and the database, per reconciliation")
+                .register(meterRegistry);
+        Gauge.builder("availability.occupancy.drifted.cells", occupancyDriftedCells, AtomicLong::get)
+                .description("Occupancy counter cells that disagreed with the database at the last reconciliation")
+                .register(meterRegistry);
+    }
+
+    public void incrementCacheHit() {
+        cacheHits.increment();
+    }
+
+    public void incrementCacheMiss() {
+        cacheMisses.increment();
+    }
+
+    public void incrementCacheInvalidations(int evicted) {
+        cacheInvalidations.increment(evicted);
+    }
+
+    public void incrementCollapsed(String operation) {
+        Counter.builder("availability.requests.collapsed.total")
+                .description("Requests that joined an identical in-flight computation")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void incrementCollapseTimeout(String operation) {
+        Counter.builder("availability.requests.collapse.timeouts.total")
+                .description("Collapsed requests that stopped waiting and computed on their own")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void recordOccupancyDrift(long units, int cells) {
+        occupancyDrift.record(units);
+        occupancyDriftedCells.set(cells);
+    }
+}
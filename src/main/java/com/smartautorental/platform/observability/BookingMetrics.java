@@ -1,7 +1,11 @@
 package com.smartautorental.platform.observability;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.function.Supplier;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -9,14 +13,35 @@ public class BookingMetrics {
 
     private final Counter bookingCreated;
     private final Counter bookingFailed;
+    private final Counter submissionRejected;
+    private final Timer submissionWait;
+    private final Timer submissionProcessing;
+    private final Timer holdExpiryLag;
+    private final MeterRegistry meterRegistry;
 
     public BookingMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
         this.bookingCreated = Counter.builder("booking.created.total")
                 .description("Number of created bookings")
                 .register(meterRegistry);
         this.bookingFailed = Counter.builder("booking.failed.total")
                 .description("Number of booking attempts failed due to conflicts or payments")
                 .register(meterRegistry);
+        this.submissionRejected = Counter.builder("booking.submission.rejected.total")
+                .description("Async booking submissions rejected because the lane queue was full")
+                .register(meterRegistry);
+        this.submissionWait = Timer.builder("booking.submission.wait.duration")
+                .description("Time async booking submissions spend queued before processing")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.submissionProcessing = Timer.builder("booking.submission.processing.duration")
+                .description("Time spent processing an async booking submission")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.holdExpiryLag = Timer.builder("booking.hold.expiry.lag")
+                .description("Delay between a payment hold deadline and the moment the timing wheel fired it")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
     public void incrementCreated() {
@@ -26,4 +51,71 @@ public class BookingMetrics {
     public void incrementFailed() {
         bookingFailed.increment();
     }
+
+    public void registerSubmissionQueueDepth(Supplier<Number> depth) {
+        Gauge.builder("booking.submission.queue.depth", depth)
+                .description("Async booking submissions waiting in lane queues")
+                .register(meterRegistry);
+    }
+
+    public void incrementSubmissionRejected() {
+        submissionRejected.increment();
+    }
+
+    public void recordSubmissionWait(Duration duration) {
+        submissionWait.record(duration);
+    }
+
+    public void recordSubmissionProcessing(Duration duration) {
+        submissionProcessing.record(duration);
+    }
+
+    public void registerActiveHolds(Supplier<Number> holds) {
+        Gauge.builder("booking.holds.active", holds)
+                .description("Pending-payment holds waiting in the timing wheel")
+                .register(meterRegistry);
+    }
+
+    public void recordHoldExpiryLag(Duration lag) {
+        holdExpiryLag.record(lag);
+    }
+
+    public void incrementBulkItems(String outcome, int count) {
+        if (count == 0) {
+            return;
+        }
+        Counter.builder("booking.bulk.items.total")
+                .description("Bulk booking items by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    public void incrementWaitlistPromotions(String outcome, int count) {
+        if (count == 0) {
+            return;
+        }
+        Counter.builder("booking.waitlist.promotions.total")
+                .description("Waitlist entries promoted when capacity appeared, by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    public void incrementQuoteTokens(String outcome) {
+        Counter.builder("booking.quote_token.total")
+                .description("Quote tokens presented at booking creation, by redemption outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public <T> T recordPhase(String phase, Supplier<T> action) {
+        return Timer.builder("booking.create.phase.duration")
+                .description("Latency of each booking creation phase (reserve, charge, confirm)")
+                .tag("phase", phase)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(action);
+    }
 }
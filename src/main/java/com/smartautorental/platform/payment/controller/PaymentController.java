@@ -1,5 +1,6 @@
 package com.smartautorental.platform.payment.controller;
 
+import com.smartautorental.platform.common.idempotency.IdempotencyService;
 import com.smartautorental.platform.payment.dto.PaymentRetryResponse;
 import com.smartautorental.platform.payment.dto.PaymentTransactionResponse;
 import com.smartautorental.platform.payment.dto.PaymentWebhookRequest;
@@ -7,12 +8,14 @@ import com.smartautorental.platform.payment.service.PaymentService;
 import com.smartautorental.platform.security.CurrentUserService;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -21,12 +24,15 @@ public class PaymentController {
 
     private final PaymentService paymentService;
     private final CurrentUserService currentUserService;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping("/api/v1/payments/{bookingId}/retry")
     @PreAuthorize("hasAnyRole('CUSTOMER','ADMIN','OPERATOR')")
-    public PaymentRetryResponse retryPayment(@PathVariable Long bookingId) {
-        var actor = currentUserService.requireCurrentUser();
-        return paymentService.retryPayment(bookingId, actor);
+    public PaymentRetryResponse retryPayment(@PathVariable Long bookingId,
+                                             @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        return idempotencyService.executeTransactional("payment_retry", idempotencyKey, Map.of("bookingId", bookingId),
+                PaymentRetryResponse.class,
+                () -> paymentService.retryPayment(bookingId, currentUserService.requireCurrentUser()));
     }
 
     @GetMapping("/api/v1/payments/{bookingId}/transactions")
@@ -44,7 +50,13 @@ public class PaymentController {
     }
 
     @PostMapping("/api/v1/integrations/payments/webhook")
-    public void webhook(@Valid @RequestBody PaymentWebhookRequest request) {
-        paymentService.handleWebhook(request);
+    public void webhook(@RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+                        @Valid @RequestBody PaymentWebhookRequest request) {
+        // Providers redeliver webhooks without a key; the reference and status identify a delivery.
+        String key = idempotencyKey != null ? idempotencyKey : request.providerReference() + ":" + request.status();
+        idempotencyService.executeTransactional("payment_webhook", key, request, Void.class, () -> {
+            paymentService.handleWebhook(request);
+            return null;
+        });
     }
 }
@@ -3,13 +3,16 @@ package com.smartautorental.platform.payment.core;
 import com.smartautorental.platform.booking.model.PaymentStatus;
 import com.smartautorental.platform.common.exception.BusinessException;
 import com.smartautorental.platform.common.exception.ErrorCode;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
@@ -18,50 +21,92 @@ import org.springframework.web.client.RestTemplate;
 @ConditionalOnProperty(name = "app.payment-core.mode", havingValue = "http")
 public class HttpPaymentCoreClient implements PaymentCoreClient {
 
+    private static final String IDEMPOTENCY_HEADER = "Idempotency-Key";
+
     private final RestTemplate paymentCoreRestTemplate;
     private final PaymentCoreProperties paymentCoreProperties;
 
     @Override
     public PaymentCoreResult charge(PaymentCoreRequest request) {
-        try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            if (paymentCoreProperties.getApiKey() != null && !paymentCoreProperties.getApiKey().isBlank()) {
-                headers.set("X-API-KEY", paymentCoreProperties.getApiKey());
-            }
+        CoreChargeRequest payload = new CoreChargeRequest(
+                request.bookingId(),
+                request.bookingCode(),
+                request.amount(),
+                request.currency(),
+                request.attemptType().name(),
+                request.idempotencyReference()
+        );
+        return post(paymentCoreProperties.getChargePath(), payload, request.idempotencyReference());
+    }
 
-            CoreChargeRequest payload = new CoreChargeRequest(
-                    request.bookingId(),
-                    request.bookingCode(),
-                    request.amount(),
-                    request.currency(),
-                    request.attemptType().name()
+    @Override
+    public Optional<PaymentCoreResult> find(String idempotencyReference) {
+        try {
+            ResponseEntity<CoreChargeResponse> response = paymentCoreRestTemplate.exchange(
+                    buildUrl(paymentCoreProperties.getChargePath()) + "/{reference}",
+                    HttpMethod.GET,
+                    new HttpEntity<>(headers(null)),
+                    CoreChargeResponse.class,
+                    idempotencyReference
             );
+            return Optional.of(toResult(response.getBody()));
+        } catch (HttpClientErrorException.NotFound ex) {
+            return Optional.empty();
+        } catch (RestClientException ex) {
+            throw new BusinessException(ErrorCode.INTERNAL_ERROR, "Payment core is unavailable");
+        }
+    }
 
-            HttpEntity<CoreChargeRequest> entity = new HttpEntity<>(payload, headers);
+    @Override
+    public PaymentCoreResult refund(PaymentCoreRefundRequest request) {
+        CoreRefundRequest payload = new CoreRefundRequest(
+                request.bookingId(),
+                request.chargeReference(),
+                request.providerReference(),
+                request.amount(),
+                request.currency()
+        );
+        return post(paymentCoreProperties.getRefundPath(), payload, request.chargeReference() + "-refund");
+    }
+
+    private PaymentCoreResult post(String path, Object payload, String idempotencyReference) {
+        try {
+            HttpEntity<Object> entity = new HttpEntity<>(payload, headers(idempotencyReference));
             ResponseEntity<CoreChargeResponse> response = paymentCoreRestTemplate.postForEntity(
-                    buildChargeUrl(),
+                    buildUrl(path),
                     entity,
                     CoreChargeResponse.class
             );
-
-            CoreChargeResponse body = response.getBody();
-            if (body == null || body.status() == null || body.providerReference() == null || body.providerReference().isBlank()) {
-                throw new BusinessException(ErrorCode.INTERNAL_ERROR, "Payment core returned an invalid response");
-            }
-
-            return new PaymentCoreResult(body.status(), body.providerReference());
+            return toResult(response.getBody());
         } catch (RestClientException ex) {
             throw new BusinessException(ErrorCode.INTERNAL_ERROR, "Payment core is unavailable");
         }
     }
 
-    private String buildChargeUrl() {
+    private HttpHeaders headers(String idempotencyReference) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        if (paymentCoreProperties.getApiKey() != null && !paymentCoreProperties.getApiKey().isBlank()) {
+            headers.set("X-API-KEY", paymentCoreProperties.getApiKey());
+        }
+        if (idempotencyReference != null) {
+            headers.set(IDEMPOTENCY_HEADER, idempotencyReference);
+        }
+        return headers;
+    }
+
+    private PaymentCoreResult toResult(CoreChargeResponse body) {
+        if (body == null || body.status() == null || body.providerReference() == null || body.providerReference().isBlank()) {
+            throw new BusinessException(ErrorCode.INTERNAL_ERROR, "Payment core returned an invalid response");
+        }
+        return new PaymentCoreResult(body.status(), body.providerReference());
+    }
+
+    private String buildUrl(String path) {
         String baseUrl = paymentCoreProperties.getBaseUrl();
-        String chargePath = paymentCoreProperties.getChargePath();
 
         String normalizedBase = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
-        String normalizedPath = chargePath.startsWith("/") ? chargePath : "/" + chargePath;
+        String normalizedPath = path.startsWith("/") ? path : "/" + path;
         return normalizedBase + normalizedPath;
     }
 
@@ -70,7 +115,17 @@ public class HttpPaymentCoreClient implements PaymentCoreClient {
             String bookingCode,
             java.math.BigDecimal amount,
             String currency,
-            String attemptType
+            String attemptType,
+            String idempotencyReference
+    ) {
+    }
+
+    private record CoreRefundRequest(
+            Long bookingId,
+            String chargeReference,
+            String providerReference,
+            java.math.BigDecimal amount,
+            String currency
     ) {
     }
 
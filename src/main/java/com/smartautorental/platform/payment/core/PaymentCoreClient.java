@@ -1,6 +1,14 @@
 package com.smartautorental.platform.payment.core;
 
+import java.util.Optional;
+
 public interface PaymentCoreClient {
 
+    /** Charges at most once per {@link PaymentCoreRequest#idempotencyReference()}; a replay returns the first outcome. */
     PaymentCoreResult charge(PaymentCoreRequest request);
+
+    /** Outcome of an earlier charge, or empty when the core never received it. */
+    Optional<PaymentCoreResult> find(String idempotencyReference);
+
+    PaymentCoreResult refund(PaymentCoreRefundRequest request);
 }
@@ -14,7 +14,18 @@ public class PaymentCoreProperties {
     private String mode = "stub";
     private String baseUrl = "http://localhost:8090";
     private String chargePath = "/api/v1/core/payments/charge";
+    private String refundPath = "/api/v1/core/payments/refund";
     private String apiKey = "";
     private int connectTimeoutMs = 2000;
     private int readTimeoutMs = 5000;
+    private Reconcile reconcile = new Reconcile();
+
+    @Getter
+    @Setter
+    public static class Reconcile {
+        // Charges still INITIATED after this long are assumed to belong to a crashed or timed-out request.
+        private long afterMs = 300000;
+        private long intervalMs = 60000;
+        private int batchSize = 100;
+    }
 }
@@ -0,0 +1,12 @@
+package com.smartautorental.platform.payment.core;
+
+import java.math.BigDecimal;
+
+public record PaymentCoreRefundRequest(
+        Long bookingId,
+        String chargeReference,
+        String providerReference,
+        BigDecimal amount,
+        String currency
+) {
+}
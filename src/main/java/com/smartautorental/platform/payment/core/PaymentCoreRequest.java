@@ -7,6 +7,7 @@ public record PaymentCoreRequest(
         String bookingCode,
         BigDecimal amount,
         String currency,
-        PaymentAttemptType attemptType
+        PaymentAttemptType attemptType,
+        String idempotencyReference
 ) {
 }
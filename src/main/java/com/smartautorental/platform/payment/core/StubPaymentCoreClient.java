@@ -1,7 +1,10 @@
 package com.smartautorental.platform.payment.core;
 
 import com.smartautorental.platform.booking.model.PaymentStatus;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
@@ -9,11 +12,23 @@ import org.springframework.stereotype.Component;
 @ConditionalOnProperty(name = "app.payment-core.mode", havingValue = "stub", matchIfMissing = true)
 public class StubPaymentCoreClient implements PaymentCoreClient {
 
+    private final Map<String, PaymentCoreResult> charges = new ConcurrentHashMap<>();
+
     @Override
     public PaymentCoreResult charge(PaymentCoreRequest request) {
-        return new PaymentCoreResult(
+        return charges.computeIfAbsent(request.idempotencyReference(), reference -> new PaymentCoreResult(
                 PaymentStatus.SUCCESS,
                 "core-stub-" + UUID.randomUUID()
-        );
+        ));
+    }
+
+    @Override
+    public Optional<PaymentCoreResult> find(String idempotencyReference) {
+        return Optional.ofNullable(charges.get(idempotencyReference));
+    }
+
+    @Override
+    public PaymentCoreResult refund(PaymentCoreRefundRequest request) {
+        return new PaymentCoreResult(PaymentStatus.REFUNDED, "core-stub-refund-" + request.chargeReference());
     }
 }
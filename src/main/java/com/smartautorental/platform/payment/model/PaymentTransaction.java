@@ -32,6 +32,9 @@ public class PaymentTransaction extends BaseEntity {
     @Column(nullable = false, length = 20)
     private PaymentStatus status;
 
-    @Column(name = "provider_reference", nullable = false, length = 80)
+    @Column(name = "provider_reference", length = 80)
     private String providerReference;
+
+    @Column(name = "idempotency_reference", length = 80, unique = true)
+    private String idempotencyReference;
 }
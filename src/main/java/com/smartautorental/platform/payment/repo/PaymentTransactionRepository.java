@@ -1,9 +1,22 @@
 package com.smartautorental.platform.payment.repo;
 
+import com.smartautorental.platform.booking.model.PaymentStatus;
 import com.smartautorental.platform.payment.model.PaymentTransaction;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface PaymentTransactionRepository extends JpaRepository<PaymentTransaction, Long> {
     List<PaymentTransaction> findByBookingIdOrderByCreatedAtDesc(Long bookingId);
+
+    Optional<PaymentTransaction> findByIdempotencyReference(String idempotencyReference);
+
+    List<PaymentTransaction> findByIdempotencyReferenceIn(Collection<String> idempotencyReferences);
+
+    List<PaymentTransaction> findByStatusAndCreatedAtBeforeOrderByCreatedAt(PaymentStatus status,
+                                                                             Instant createdBefore,
+                                                                             Limit limit);
 }
@@ -0,0 +1,23 @@
+package com.smartautorental.platform.payment.scheduler;
+
+import com.smartautorental.platform.payment.service.PaymentReconciliationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentReconciliationScheduler {
+
+    private final PaymentReconciliationService paymentReconciliationService;
+
+    @Scheduled(fixedDelayString = "${app.payment-core.reconcile.interval-ms:60000}")
+    public void reconcileStaleCharges() {
+        int settled = paymentReconciliationService.reconcileStaleCharges();
+        if (settled > 0) {
+            log.info("Reconciled {} initiated payment charges", settled);
+        }
+    }
+}
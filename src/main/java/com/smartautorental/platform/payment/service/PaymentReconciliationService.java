@@ -0,0 +1,125 @@
+package com.smartautorental.platform.payment.service;
+
+import com.smartautorental.platform.booking.model.Booking;
+import com.smartautorental.platform.booking.model.BookingStatus;
+import com.smartautorental.platform.booking.model.PaymentStatus;
+import com.smartautorental.platform.booking.service.BookingAuditService;
+import com.smartautorental.platform.payment.core.PaymentCoreClient;
+import com.smartautorental.platform.payment.core.PaymentCoreProperties;
+import com.smartautorental.platform.payment.core.PaymentCoreRefundRequest;
+import com.smartautorental.platform.payment.core.PaymentCoreResult;
+import com.smartautorental.platform.payment.model.PaymentTransaction;
+import com.smartautorental.platform.payment.repo.PaymentTransactionRepository;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Settles charges left INITIATED by a crash between the booking phases or by an ambiguous core timeout. The core is
+ * asked for the outcome under the charge's idempotency reference: a charge for a booking that is still holding its
+ * slot confirms it, a charge for a booking that expired or failed in the meantime is refunded.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentReconciliationService {
+
+    private final PaymentTransactionRepository paymentTransactionRepository;
+    private final PaymentCoreClient paymentCoreClient;
+    private final PaymentService paymentService;
+    private final BookingAuditService bookingAuditService;
+    private final PaymentCoreProperties paymentCoreProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    public int reconcileStaleCharges() {
+        PaymentCoreProperties.Reconcile config = paymentCoreProperties.getReconcile();
+        Instant cutoff = Instant.now().minusMillis(config.getAfterMs());
+        List<Long> stale = transactionTemplate.execute(status -> paymentTransactionRepository
+                .findByStatusAndCreatedAtBeforeOrderByCreatedAt(PaymentStatus.INITIATED, cutoff,
+                        Limit.of(Math.max(1, config.getBatchSize())))
+                .stream()
+                .map(PaymentTransaction::getId)
+                .toList());
+
+        int settled = 0;
+        for (Long transactionId : stale) {
+            try {
+                if (reconcile(transactionId)) {
+                    settled++;
+                }
+            } catch (RuntimeException ex) {
+                // Left INITIATED; the next run retries it.
+                log.warn("Failed to reconcile payment transaction {}", transactionId, ex);
+            }
+        }
+        return settled;
+    }
+
+    boolean reconcile(Long transactionId) {
+        String reference = transactionTemplate.execute(status -> paymentTransactionRepository.findById(transactionId)
+                .filter(tx -> tx.getStatus() == PaymentStatus.INITIATED)
+                .map(PaymentTransaction::getIdempotencyReference)
+                .orElse(null));
+        if (reference == null) {
+            return false;
+        }
+
+        // Core calls stay outside the database transactions.
+        Optional<PaymentCoreResult> outcome = paymentCoreClient.find(reference);
+        PaymentCoreRefundRequest refund = transactionTemplate.execute(status -> settle(transactionId, outcome));
+        if (refund != null) {
+            PaymentCoreResult refunded = paymentCoreClient.refund(refund);
+            transactionTemplate.executeWithoutResult(status -> markRefunded(transactionId, refunded));
+        }
+        return true;
+    }
+
+    private PaymentCoreRefundRequest settle(Long transactionId, Optional<PaymentCoreResult> outcome) {
+        PaymentTransaction tx = paymentTransactionRepository.findById(transactionId).orElse(null);
+        if (tx == null || tx.getStatus() != PaymentStatus.INITIATED) {
+            return null;
+        }
+        Booking booking = tx.getBooking();
+        boolean holding = booking.getStatus() == BookingStatus.PENDING_PAYMENT;
+
+        if (outcome.isEmpty()) {
+            tx.setStatus(PaymentStatus.FAILED);
+            if (holding) {
+                paymentService.applyPaymentOutcome(booking, PaymentStatus.FAILED);
+            }
+            bookingAuditService.log(booking.getId(), "PAYMENT_RECONCILED", "system",
+                    "Charge ref=" + tx.getIdempotencyReference() + " never reached the payment core");
+            return null;
+        }
+
+        PaymentCoreResult result = outcome.get();
+        tx.setProviderReference(result.providerReference());
+        if (result.status() == PaymentStatus.SUCCESS && !holding && booking.getStatus() != BookingStatus.CONFIRMED) {
+            // The slot is gone; the money has to go back. The row stays INITIATED until the refund is acknowledged.
+            return new PaymentCoreRefundRequest(booking.getId(), tx.getIdempotencyReference(),
+                    result.providerReference(), tx.getAmount(), "EUR");
+        }
+
+        tx.setStatus(result.status());
+        if (holding && result.status() != PaymentStatus.PENDING) {
+            paymentService.applyPaymentOutcome(booking, result.status());
+        }
+        bookingAuditService.log(booking.getId(), "PAYMENT_RECONCILED", "system",
+                "Charge ref=" + tx.getIdempotencyReference() + " settled as " + result.status()
+                        + " providerRef=" + result.providerReference());
+        return null;
+    }
+
+    private void markRefunded(Long transactionId, PaymentCoreResult refunded) {
+        paymentTransactionRepository.findById(transactionId).ifPresent(tx -> {
+            tx.setStatus(PaymentStatus.REFUNDED);
+            bookingAuditService.log(tx.getBooking().getId(), "PAYMENT_REFUNDED", "system",
+                    "Charge ref=" + tx.getIdempotencyReference() + " refunded, refundRef=" + refunded.providerReference());
+        });
+    }
+}
@@ -7,6 +7,7 @@ import com.smartautorental.platform.booking.repo.BookingRepository;
 import com.smartautorental.platform.booking.service.BookingAuditService;
 import com.smartautorental.platform.common.exception.BusinessException;
 import com.smartautorental.platform.common.exception.ErrorCode;
+import com.smartautorental.platform.fleet.event.CarOccupancyChangedEvent;
 import com.smartautorental.platform.identity.model.User;
 import com.smartautorental.platform.identity.model.UserRole;
 import com.smartautorental.platform.notification.NotificationService;
@@ -20,8 +21,15 @@ import com.smartautorental.platform.payment.dto.PaymentWebhookRequest;
 import com.smartautorental.platform.payment.model.PaymentTransaction;
 import com.smartautorental.platform.payment.repo.PaymentTransactionRepository;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,14 +42,59 @@ public class PaymentService {
     private final BookingAuditService bookingAuditService;
     private final NotificationService notificationService;
     private final PaymentCoreClient paymentCoreClient;
+    private final ApplicationEventPublisher eventPublisher;
 
+    public static String initialChargeReference(Booking booking) {
+        return "booking-" + booking.getId() + "-initial";
+    }
+
+    /**
+     * Writes the INITIATED transaction in the reservation transaction, before the core is called, so a crash or an
+     * ambiguous timeout leaves a row for {@link PaymentReconciliationService} to settle.
+     */
     @Transactional
-    public PaymentResult processInitialPayment(Booking booking) {
-        PaymentCoreResult coreResult = executeCharge(booking, PaymentAttemptType.INITIAL);
-        saveTransaction(booking, booking.getTotalPrice(), coreResult.status(), coreResult.providerReference());
+    public void initiateCharges(Collection<Booking> bookings) {
+        List<PaymentTransaction> transactions = new ArrayList<>(bookings.size());
+        for (Booking booking : bookings) {
+            PaymentTransaction tx = newTransaction(booking, booking.getTotalPrice(), PaymentStatus.INITIATED, null);
+            tx.setIdempotencyReference(initialChargeReference(booking));
+            transactions.add(tx);
+        }
+        paymentTransactionRepository.saveAll(transactions);
+    }
+
+    public PaymentCoreResult chargeInitial(Booking booking) {
+        return executeCharge(booking, PaymentAttemptType.INITIAL, initialChargeReference(booking));
+    }
+
+    @Transactional
+    public PaymentResult recordInitialPayment(Booking booking, PaymentCoreResult coreResult) {
+        recordInitialPayments(Map.of(booking, coreResult));
         return new PaymentResult(coreResult.status(), coreResult.providerReference());
     }
 
+    @Transactional
+    public void recordInitialPayments(Map<Booking, PaymentCoreResult> charges) {
+        Map<String, PaymentTransaction> initiated = paymentTransactionRepository.findByIdempotencyReferenceIn(
+                        charges.keySet().stream().map(PaymentService::initialChargeReference).toList()).stream()
+                .collect(Collectors.toMap(PaymentTransaction::getIdempotencyReference, Function.identity()));
+
+        List<PaymentTransaction> transactions = new ArrayList<>(charges.size());
+        charges.forEach((booking, coreResult) -> {
+            String reference = initialChargeReference(booking);
+            PaymentTransaction tx = initiated.get(reference);
+            if (tx == null) {
+                tx = newTransaction(booking, booking.getTotalPrice(), coreResult.status(), coreResult.providerReference());
+                tx.setIdempotencyReference(reference);
+            } else {
+                tx.setStatus(coreResult.status());
+                tx.setProviderReference(coreResult.providerReference());
+            }
+            transactions.add(tx);
+        });
+        paymentTransactionRepository.saveAll(transactions);
+    }
+
     @Transactional
     public PaymentRetryResponse retryPayment(Long bookingId, User actor) {
         Booking booking = bookingRepository.findById(bookingId)
@@ -55,8 +108,11 @@ public class PaymentService {
             throw new BusinessException(ErrorCode.BUSINESS_RULE_VIOLATION, "Booking is already confirmed");
         }
 
-        PaymentCoreResult coreResult = executeCharge(booking, PaymentAttemptType.RETRY);
-        saveTransaction(booking, booking.getTotalPrice(), coreResult.status(), coreResult.providerReference());
+        String reference = "booking-" + bookingId + "-retry-" + UUID.randomUUID();
+        PaymentCoreResult coreResult = executeCharge(booking, PaymentAttemptType.RETRY, reference);
+        PaymentTransaction tx = newTransaction(booking, booking.getTotalPrice(), coreResult.status(), coreResult.providerReference());
+        tx.setIdempotencyReference(reference);
+        paymentTransactionRepository.save(tx);
         PaymentResult result = new PaymentResult(coreResult.status(), coreResult.providerReference());
         applyPaymentOutcome(booking, result.status());
         bookingAuditService.log(bookingId, "PAYMENT_RETRY", actor.getEmail(),
@@ -94,18 +150,19 @@ public class PaymentService {
         return paymentTransactionRepository.findByBookingIdOrderByCreatedAtDesc(bookingId);
     }
 
-    private PaymentCoreResult executeCharge(Booking booking, PaymentAttemptType attemptType) {
+    private PaymentCoreResult executeCharge(Booking booking, PaymentAttemptType attemptType, String idempotencyReference) {
         PaymentCoreRequest request = new PaymentCoreRequest(
                 booking.getId(),
                 booking.getCode(),
                 booking.getTotalPrice(),
                 "EUR",
-                attemptType
+                attemptType,
+                idempotencyReference
         );
         return paymentCoreClient.charge(request);
     }
 
-    private void applyPaymentOutcome(Booking booking, PaymentStatus status) {
+    void applyPaymentOutcome(Booking booking, PaymentStatus status) {
         booking.setPaymentStatus(status);
         if (status == PaymentStatus.SUCCESS) {
             booking.setStatus(BookingStatus.CONFIRMED);
@@ -114,17 +171,25 @@ public class PaymentService {
         } else {
             booking.setStatus(BookingStatus.PENDING_PAYMENT);
         }
+        eventPublisher.publishEvent(CarOccupancyChangedEvent.of(booking));
     }
 
     private PaymentTransaction saveTransaction(Booking booking,
                                                BigDecimal amount,
                                                PaymentStatus status,
                                                String providerReference) {
+        return paymentTransactionRepository.save(newTransaction(booking, amount, status, providerReference));
+    }
+
+    private PaymentTransaction newTransaction(Booking booking,
+                                              BigDecimal amount,
+                                              PaymentStatus status,
+                                              String providerReference) {
         PaymentTransaction tx = new PaymentTransaction();
         tx.setBooking(booking);
         tx.setAmount(amount);
         tx.setStatus(status);
         tx.setProviderReference(providerReference);
-        return paymentTransactionRepository.save(tx);
+        return tx;
     }
 }
@@ -0,0 +1,125 @@
+package com.smartautorental.platform.pricing.calendar;
+
+import com.smartautorental.platform.pricing.model.CalendarRuleType;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Day-class table for one branch over a fixed range of local dates, stored as prefix sums so the surcharge inputs
+ * of any window are two array reads. A holiday replaces the weekend surcharge on its day; peak season stacks on
+ * top of either. Days outside the range count weekends arithmetically and carry no holiday or season surcharge.
+ */
+public final class BranchCalendar {
+
+    private final ZoneRules zoneRules;
+    private final long firstDay;
+    // weekendPrefix[i] and surchargePrefix[i] cover the days [firstDay, firstDay + i).
+    private final int[] weekendPrefix;
+    private final long[] surchargePrefix;
+
+    private BranchCalendar(ZoneRules zoneRules, long firstDay, int[] weekendPrefix, long[] surchargePrefix) {
+        this.zoneRules = zoneRules;
+        this.firstDay = firstDay;
+        this.weekendPrefix = weekendPrefix;
+        this.surchargePrefix = surchargePrefix;
+    }
+
+    /**
+     * Builds the table for {@code [from, to]}. Branch rules override global rules of the same type on the days
+     * they cover; overlapping rules within one scope keep the highest rate.
+     */
+    public static BranchCalendar build(ZoneId zone, LocalDate from, LocalDate to, List<Rule> globalRules,
+                                       List<Rule> branchRules) {
+        long firstDay = from.toEpochDay();
+        int days = Math.toIntExact(to.toEpochDay() - firstDay + 1);
+
+        int[] holiday = paint(CalendarRuleType.HOLIDAY, firstDay, days, globalRules, branchRules);
+        int[] season = paint(CalendarRuleType.PEAK_SEASON, firstDay, days, globalRules, branchRules);
+
+        int[] weekendPrefix = new int[days + 1];
+        long[] surchargePrefix = new long[days + 1];
+        for (int i = 0; i < days; i++) {
+            boolean weekend = isWeekend(firstDay + i) && holiday[i] < 0;
+            weekendPrefix[i + 1] = weekendPrefix[i] + (weekend ? 1 : 0);
+            surchargePrefix[i + 1] = surchargePrefix[i] + Math.max(0, holiday[i]) + Math.max(0, season[i]);
+        }
+        return new BranchCalendar(zone.getRules(), firstDay, weekendPrefix, surchargePrefix);
+    }
+
+    /**
+     * Weekend days, holidays excluded, from the local date of {@code start} through the local date of {@code end}.
+     */
+    public long weekendDays(Instant start, Instant end) {
+        long from = localDay(start);
+        long to = localDay(end) + 1;
+        long lastDay = firstDay + weekendPrefix.length - 1;
+        long inside = weekendPrefix[index(to)] - weekendPrefix[index(from)];
+        long before = from < firstDay ? weekendsBefore(Math.min(to, firstDay)) - weekendsBefore(from) : 0;
+        long after = to > lastDay ? weekendsBefore(to) - weekendsBefore(Math.max(from, lastDay)) : 0;
+        return inside + before + after;
+    }
+
+    /**
+     * Sum of the holiday and peak-season surcharge rates, in basis points, over the same days as
+     * {@link #weekendDays(Instant, Instant)}.
+     */
+    public long surchargeBasisPoints(Instant start, Instant end) {
+        return surchargePrefix[index(localDay(end) + 1)] - surchargePrefix[index(localDay(start))];
+    }
+
+    private long localDay(Instant instant) {
+        long seconds = instant.getEpochSecond() + zoneRules.getOffset(instant).getTotalSeconds();
+        return Math.floorDiv(seconds, 86_400);
+    }
+
+    private int index(long day) {
+        return (int) Math.clamp(day - firstDay, 0, weekendPrefix.length - 1);
+    }
+
+    private static int[] paint(CalendarRuleType type, long firstDay, int days, List<Rule> globalRules,
+                               List<Rule> branchRules) {
+        int[] rates = paint(type, firstDay, days, globalRules);
+        int[] overrides = paint(type, firstDay, days, branchRules);
+        for (int i = 0; i < days; i++) {
+            if (overrides[i] >= 0) {
+                rates[i] = overrides[i];
+            }
+        }
+        return rates;
+    }
+
+    // -1 marks a day no rule of this type covers.
+    private static int[] paint(CalendarRuleType type, long firstDay, int days, List<Rule> rules) {
+        int[] rates = new int[days];
+        Arrays.fill(rates, -1);
+        for (Rule rule : rules) {
+            if (rule.type() != type) {
+                continue;
+            }
+            int from = (int) Math.max(0, rule.startDate().toEpochDay() - firstDay);
+            int to = (int) Math.min(days - 1, rule.endDate().toEpochDay() - firstDay);
+            for (int i = from; i <= to; i++) {
+                rates[i] = Math.max(rates[i], rule.basisPoints());
+            }
+        }
+        return rates;
+    }
+
+    private static boolean isWeekend(long epochDay) {
+        // 1970-01-01 was a Thursday, so Monday maps to 0 and the weekend to 5 and 6.
+        return Math.floorMod(epochDay + 3, 7) >= 5;
+    }
+
+    // Weekend days among all days before epochDay, counted from a fixed Monday.
+    private static long weekendsBefore(long epochDay) {
+        long shifted = epochDay + 3;
+        return 2 * Math.floorDiv(shifted, 7) + Math.max(0, Math.floorMod(shifted, 7) - 5);
+    }
+
+    public record Rule(CalendarRuleType type, LocalDate startDate, LocalDate endDate, int basisPoints) {
+    }
+}
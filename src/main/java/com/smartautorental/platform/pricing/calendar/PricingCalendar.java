@@ -0,0 +1,118 @@
+package com.smartautorental.platform.pricing.calendar;
+
+import com.smartautorental.platform.fleet.model.Branch;
+import com.smartautorental.platform.fleet.repo.BranchRepository;
+import com.smartautorental.platform.pricing.config.PricingProperties;
+import com.smartautorental.platform.pricing.repo.PricingCalendarRuleRepository;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Per-branch {@link BranchCalendar}s, rebuilt from the calendar rules and branch time zones after every rule change
+ * and periodically, so edits made on another instance apply without a restart. Branches in UTC without rules of
+ * their own share one table.
+ */
+@Slf4j
+@Component
+public class PricingCalendar {
+
+    private final PricingCalendarRuleRepository ruleRepository;
+    private final BranchRepository branchRepository;
+    private final PricingProperties.Calendar properties;
+    private volatile Snapshot snapshot;
+
+    public PricingCalendar(PricingCalendarRuleRepository ruleRepository,
+                           BranchRepository branchRepository,
+                           PricingProperties pricingProperties) {
+        this.ruleRepository = ruleRepository;
+        this.branchRepository = branchRepository;
+        this.properties = pricingProperties.getCalendar();
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        this.snapshot = new Snapshot(BranchCalendar.build(ZoneOffset.UTC, firstDate(today), lastDate(today),
+                List.of(), List.of()), Map.of());
+    }
+
+    public BranchCalendar forBranch(Long branchId) {
+        Snapshot current = snapshot;
+        return branchId == null ? current.shared() : current.branches().getOrDefault(branchId, current.shared());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${app.pricing.calendar.refresh-ms:300000}",
+            initialDelayString = "${app.pricing.calendar.refresh-ms:300000}")
+    public void refresh() {
+        reload();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRulesChanged(PricingCalendarChangedEvent event) {
+        reload();
+    }
+
+    public synchronized void reload() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        LocalDate from = firstDate(today);
+        LocalDate to = lastDate(today);
+
+        List<BranchCalendar.Rule> globalRules = new ArrayList<>();
+        Map<Long, List<BranchCalendar.Rule>> branchRules = new HashMap<>();
+        for (PricingCalendarRuleRepository.RuleWindowProjection row : ruleRepository.findWindows(from, to)) {
+            BranchCalendar.Rule rule = new BranchCalendar.Rule(row.getRuleType(), row.getStartDate(),
+                    row.getEndDate(), row.getSurchargeRate().movePointRight(4).intValueExact());
+            if (row.getBranchId() == null) {
+                globalRules.add(rule);
+            } else {
+                branchRules.computeIfAbsent(row.getBranchId(), id -> new ArrayList<>()).add(rule);
+            }
+        }
+
+        BranchCalendar shared = BranchCalendar.build(ZoneOffset.UTC, from, to, globalRules, List.of());
+        Map<Long, BranchCalendar> branches = new HashMap<>();
+        for (Branch branch : branchRepository.findAll()) {
+            ZoneId zone = zoneOf(branch);
+            List<BranchCalendar.Rule> own = branchRules.getOrDefault(branch.getId(), List.of());
+            if (!own.isEmpty() || !zone.normalized().equals(ZoneOffset.UTC)) {
+                branches.put(branch.getId(), BranchCalendar.build(zone, from, to, globalRules, own));
+            }
+        }
+        snapshot = new Snapshot(shared, Map.copyOf(branches));
+        log.info("Pricing calendar loaded: {}..{} globalRules={} branchCalendars={}",
+                from, to, globalRules.size(), branches.size());
+    }
+
+    private ZoneId zoneOf(Branch branch) {
+        try {
+            return ZoneId.of(branch.getTimeZone());
+        } catch (DateTimeException ex) {
+            log.warn("Branch {} has invalid time zone '{}', pricing it in UTC", branch.getId(), branch.getTimeZone());
+            return ZoneOffset.UTC;
+        }
+    }
+
+    private LocalDate firstDate(LocalDate today) {
+        return today.minusYears(properties.getYearsBack()).withDayOfYear(1);
+    }
+
+    private LocalDate lastDate(LocalDate today) {
+        return today.plusYears(properties.getYearsAhead()).withMonth(12).withDayOfMonth(31);
+    }
+
+    private record Snapshot(BranchCalendar shared, Map<Long, BranchCalendar> branches) {
+    }
+}
@@ -0,0 +1,4 @@
+package com.smartautorental.platform.pricing.calendar;
+
+public record PricingCalendarChangedEvent(Long ruleId) {
+}
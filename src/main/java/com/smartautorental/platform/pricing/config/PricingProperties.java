@@ -0,0 +1,61 @@
+package com.smartautorental.platform.pricing.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.pricing")
+public class PricingProperties {
+
+    // cents | decimal
+    private String engine = "cents";
+    private Calendar calendar = new Calendar();
+    private Batch batch = new Batch();
+    private QuoteToken quoteToken = new QuoteToken();
+    private Occupancy occupancy = new Occupancy();
+
+    @Getter
+    @Setter
+    public static class Calendar {
+
+        private int yearsBack = 1;
+        private int yearsAhead = 4;
+        private long refreshMs = 300000;
+    }
+
+    @Getter
+    @Setter
+    public static class Batch {
+
+        private int maxCars = 500;
+        private int maxWindows = 200;
+        private int maxQuotes = 20000;
+        private int parallelThreshold = 4000;
+        // 0 uses one worker per available processor.
+        private int parallelism = 0;
+    }
+
+    @Getter
+    @Setter
+    public static class QuoteToken {
+
+        // Shared by every instance that may redeem a token; a random per-instance key is used when unset.
+        private String secret;
+        private Duration ttl = Duration.ofMinutes(15);
+    }
+
+    @Getter
+    @Setter
+    public static class Occupancy {
+
+        private boolean enabled = true;
+        private int bucketHours = 24;
+        private int horizonDays = 370;
+        private long reconcileMs = 600000;
+    }
+}
@@ -0,0 +1,51 @@
+package com.smartautorental.platform.pricing.controller;
+
+import com.smartautorental.platform.pricing.dto.CalendarRuleRequest;
+import com.smartautorental.platform.pricing.dto.CalendarRuleResponse;
+import com.smartautorental.platform.pricing.service.PricingCalendarService;
+import jakarta.validation.Valid;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/pricing-calendar/rules")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class PricingCalendarController {
+
+    private final PricingCalendarService pricingCalendarService;
+
+    @GetMapping
+    public List<CalendarRuleResponse> list(@RequestParam(required = false) Long branchId) {
+        return pricingCalendarService.list(branchId);
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public CalendarRuleResponse create(@Valid @RequestBody CalendarRuleRequest request) {
+        return pricingCalendarService.create(request);
+    }
+
+    @PutMapping("/{ruleId}")
+    public CalendarRuleResponse update(@PathVariable Long ruleId, @Valid @RequestBody CalendarRuleRequest request) {
+        return pricingCalendarService.update(ruleId, request);
+    }
+
+    @DeleteMapping("/{ruleId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void delete(@PathVariable Long ruleId) {
+        pricingCalendarService.delete(ruleId);
+    }
+}
@@ -0,0 +1,24 @@
+package com.smartautorental.platform.pricing.controller;
+
+import com.smartautorental.platform.pricing.dto.BatchQuoteRequest;
+import com.smartautorental.platform.pricing.dto.BatchQuoteResponse;
+import com.smartautorental.platform.pricing.service.BatchQuoteService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/pricing/quotes")
+@RequiredArgsConstructor
+public class PricingQuoteController {
+
+    private final BatchQuoteService batchQuoteService;
+
+    @PostMapping("/batch")
+    public BatchQuoteResponse batch(@Valid @RequestBody BatchQuoteRequest request) {
+        return batchQuoteService.quote(request);
+    }
+}
@@ -0,0 +1,15 @@
+package com.smartautorental.platform.pricing.dto;
+
+import com.smartautorental.platform.fleet.model.CarCategory;
+import java.time.Instant;
+
+public record BatchQuoteItem(
+        Long carId,
+        Long branchId,
+        CarCategory category,
+        Instant startTime,
+        Instant endTime,
+        PriceQuote quote,
+        String quoteToken
+) {
+}
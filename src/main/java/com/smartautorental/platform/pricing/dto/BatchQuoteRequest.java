@@ -0,0 +1,17 @@
+package com.smartautorental.platform.pricing.dto;
+
+import com.smartautorental.platform.fleet.model.CarCategory;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+
+public record BatchQuoteRequest(
+        Long branchId,
+        List<@NotNull Long> carIds,
+        List<@NotNull CarCategory> categories,
+        @NotEmpty List<@Valid @NotNull QuoteWindow> windows,
+        boolean insuranceSelected,
+        String couponCode
+) {
+}
@@ -0,0 +1,11 @@
+package com.smartautorental.platform.pricing.dto;
+
+import java.util.List;
+
+public record BatchQuoteResponse(
+        int cars,
+        int windows,
+        boolean parallel,
+        List<BatchQuoteItem> quotes
+) {
+}
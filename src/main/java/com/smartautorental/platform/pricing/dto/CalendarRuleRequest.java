@@ -0,0 +1,21 @@
+package com.smartautorental.platform.pricing.dto;
+
+import com.smartautorental.platform.pricing.model.CalendarRuleType;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record CalendarRuleRequest(
+        Long branchId,
+        @NotNull CalendarRuleType ruleType,
+        @NotBlank @Size(max = 120) String name,
+        @NotNull LocalDate startDate,
+        @NotNull LocalDate endDate,
+        @NotNull @DecimalMin("0.0000") @DecimalMax("9.9999") @Digits(integer = 1, fraction = 4) BigDecimal surchargeRate
+) {
+}
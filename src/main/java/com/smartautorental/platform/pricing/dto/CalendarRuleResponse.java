@@ -0,0 +1,16 @@
+package com.smartautorental.platform.pricing.dto;
+
+import com.smartautorental.platform.pricing.model.CalendarRuleType;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record CalendarRuleResponse(
+        Long id,
+        Long branchId,
+        CalendarRuleType ruleType,
+        String name,
+        LocalDate startDate,
+        LocalDate endDate,
+        BigDecimal surchargeRate
+) {
+}
@@ -0,0 +1,30 @@
+package com.smartautorental.platform.pricing.dto;
+
+import com.smartautorental.platform.fleet.model.CarCategory;
+import com.smartautorental.platform.pricing.occupancy.FleetAvailability;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+public record CategoryAvailability(
+        Long branchId,
+        Map<CarCategory, Long> availableCars
+) implements FleetAvailability {
+
+    public CategoryAvailability {
+        EnumMap<CarCategory, Long> copy = new EnumMap<>(CarCategory.class);
+        copy.putAll(availableCars);
+        availableCars = Collections.unmodifiableMap(copy);
+    }
+
+    public long availableCars(CarCategory category) {
+        return availableCars.getOrDefault(category, 0L);
+    }
+
+    // A status snapshot has no notion of time, so every window sees the same count.
+    @Override
+    public long availableCars(CarCategory category, Instant startTime, Instant endTime) {
+        return availableCars(category);
+    }
+}
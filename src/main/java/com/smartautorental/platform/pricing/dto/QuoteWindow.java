@@ -0,0 +1,10 @@
+package com.smartautorental.platform.pricing.dto;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.Instant;
+
+public record QuoteWindow(
+        @NotNull Instant startTime,
+        @NotNull Instant endTime
+) {
+}
@@ -0,0 +1,6 @@
+package com.smartautorental.platform.pricing.model;
+
+public enum CalendarRuleType {
+    HOLIDAY,
+    PEAK_SEASON
+}
@@ -0,0 +1,44 @@
+package com.smartautorental.platform.pricing.model;
+
+import com.smartautorental.platform.common.model.BaseEntity;
+import com.smartautorental.platform.fleet.model.Branch;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "pricing_calendar_rules")
+public class PricingCalendarRule extends BaseEntity {
+
+    // Null applies the rule to every branch; a branch rule overrides global ones of the same type on its days.
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "branch_id")
+    private Branch branch;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "rule_type", nullable = false, length = 20)
+    private CalendarRuleType ruleType;
+
+    @Column(nullable = false, length = 120)
+    private String name;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    @Column(name = "surcharge_rate", nullable = false, precision = 5, scale = 4)
+    private BigDecimal surchargeRate;
+}
@@ -0,0 +1,17 @@
+package com.smartautorental.platform.pricing.occupancy;
+
+import com.smartautorental.platform.fleet.model.CarCategory;
+import com.smartautorental.platform.fleet.model.CarStatus;
+import java.time.Instant;
+
+/**
+ * Cars of a category a branch can still offer for a window; the input to the dynamic surcharge.
+ */
+@FunctionalInterface
+public interface FleetAvailability {
+
+    /** The only status counted as fleet capacity, by the live counters and the status snapshot alike. */
+    CarStatus CAPACITY_STATUS = CarStatus.AVAILABLE;
+
+    long availableCars(CarCategory category, Instant startTime, Instant endTime);
+}
@@ -0,0 +1,246 @@
+package com.smartautorental.platform.pricing.occupancy;
+
+import com.smartautorental.platform.booking.repo.BookingRepository;
+import com.smartautorental.platform.fleet.event.CarOccupancyChangedEvent;
+import com.smartautorental.platform.fleet.event.CarStatusChangedEvent;
+import com.smartautorental.platform.fleet.event.OccupancySource;
+import com.smartautorental.platform.fleet.repo.CarRepository;
+import com.smartautorental.platform.maintenance.repo.MaintenanceRepository;
+import com.smartautorental.platform.observability.AvailabilityMetrics;
+import com.smartautorental.platform.pricing.config.PricingProperties;
+import com.smartautorental.platform.pricing.occupancy.OccupancyGrid.Key;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Live fleet occupancy for dynamic pricing. Booking, payment, expiry and maintenance changes arrive as
+ * {@link CarOccupancyChangedEvent}s and fleet changes as {@link CarStatusChangedEvent}s; both are applied per source
+ * id, so a repeated event replaces rather than double counts. A periodic reconciliation rebuilds the counters from
+ * the database, records how far the live ones had drifted and swaps the rebuilt ones in.
+ */
+@Slf4j
+@Component
+public class OccupancyCounters {
+
+    private final CarRepository carRepository;
+    private final BookingRepository bookingRepository;
+    private final MaintenanceRepository maintenanceRepository;
+    private final PricingProperties.Occupancy config;
+    private final AvailabilityMetrics availabilityMetrics;
+
+    private final Object reconcileLock = new Object();
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private volatile State state;
+    private volatile boolean ready;
+    private volatile Queue<Object> pendingReplay;
+
+    public OccupancyCounters(CarRepository carRepository,
+                             BookingRepository bookingRepository,
+                             MaintenanceRepository maintenanceRepository,
+                             PricingProperties pricingProperties,
+                             AvailabilityMetrics availabilityMetrics) {
+        this.carRepository = carRepository;
+        this.bookingRepository = bookingRepository;
+        this.maintenanceRepository = maintenanceRepository;
+        this.config = pricingProperties.getOccupancy();
+        this.availabilityMetrics = availabilityMetrics;
+        this.state = newState();
+    }
+
+    public boolean isReady() {
+        return ready && config.isEnabled();
+    }
+
+    public FleetAvailability forBranch(Long branchId) {
+        OccupancyGrid grid = state.grid();
+        return (category, startTime, endTime) ->
+                grid.availableCars(new Key(branchId, category), startTime.toEpochMilli(), endTime.toEpochMilli());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (config.isEnabled()) {
+            reconcile();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.pricing.occupancy.reconcile-ms:600000}",
+            initialDelayString = "${app.pricing.occupancy.reconcile-ms:600000}")
+    public void refresh() {
+        if (config.isEnabled()) {
+            reconcile();
+        }
+    }
+
+    public void reconcile() {
+        synchronized (reconcileLock) {
+            pendingReplay = new ConcurrentLinkedQueue<>();
+            State fresh;
+            try {
+                fresh = load();
+            } catch (RuntimeException ex) {
+                pendingReplay = null;
+                throw ex;
+            }
+
+            OccupancyGrid.Drift drift;
+            swapLock.writeLock().lock();
+            try {
+                pendingReplay.forEach(event -> apply(fresh, event));
+                pendingReplay = null;
+                drift = ready ? state.grid().driftFrom(fresh.grid()) : null;
+                state = fresh;
+                ready = true;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+
+            if (drift == null) {
+                log.info("Occupancy counters loaded: cars={} windows={}", fresh.cars().size(), fresh.windows().size());
+                return;
+            }
+            availabilityMetrics.recordOccupancyDrift(drift.units(), drift.cells());
+            if (drift.cells() > 0) {
+                log.warn("Occupancy counters drifted from the database: cells={} units={}", drift.cells(), drift.units());
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOccupancyChanged(CarOccupancyChangedEvent event) {
+        record(event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCarStatusChanged(CarStatusChangedEvent event) {
+        record(event);
+    }
+
+    private void record(Object event) {
+        swapLock.readLock().lock();
+        try {
+            Queue<Object> replay = pendingReplay;
+            if (replay != null) {
+                replay.add(event);
+            }
+            apply(state, event);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private State load() {
+        State fresh = newState();
+        for (var car : carRepository.findFleetSlots()) {
+            fresh.putCar(car.getId(), new CarSlot(new Key(car.getBranchId(), car.getCategory()),
+                    car.getStatus() == FleetAvailability.CAPACITY_STATUS));
+        }
+        Instant after = Instant.ofEpochMilli(fresh.grid().startMs());
+        for (var window : bookingRepository.findBlockingWindowsEndingAfter(
+                CarOccupancyChangedEvent.BLOCKING_BOOKING_STATUSES, after)) {
+            putWindow(fresh, OccupancySource.BOOKING, window.getId(), window.getCarId(),
+                    window.getStartTime(), window.getEndTime());
+        }
+        for (var window : maintenanceRepository.findBlockingWindowsEndingAfter(
+                CarOccupancyChangedEvent.BLOCKING_MAINTENANCE_STATUSES, after)) {
+            putWindow(fresh, OccupancySource.MAINTENANCE, window.getId(), window.getCarId(),
+                    window.getStartTime(), window.getEndTime());
+        }
+        return fresh;
+    }
+
+    private void putWindow(State target, OccupancySource source, Long id, Long carId, Instant startTime, Instant endTime) {
+        if (target.cars().containsKey(carId)) {
+            target.putWindow(key(source, id), carId,
+                    new Window(carId, startTime.toEpochMilli(), endTime.toEpochMilli()));
+        }
+    }
+
+    private void apply(State target, Object event) {
+        if (event instanceof CarOccupancyChangedEvent occupancy) {
+            target.putWindow(key(occupancy.source(), occupancy.sourceId()), occupancy.carId(), occupancy.active()
+                    ? new Window(occupancy.carId(), occupancy.startTime().toEpochMilli(),
+                            occupancy.endTime().toEpochMilli())
+                    : null);
+        } else if (event instanceof CarStatusChangedEvent status) {
+            target.putCar(status.carId(), status.removed()
+                    ? null
+                    : new CarSlot(new Key(status.branchId(), status.category()),
+                            status.status() == FleetAvailability.CAPACITY_STATUS));
+        }
+    }
+
+    private State newState() {
+        long bucketMs = Duration.ofHours(config.getBucketHours()).toMillis();
+        int buckets = (int) Math.ceilDiv(Duration.ofDays(config.getHorizonDays()).toMillis(), bucketMs) + 1;
+        // One bucket of history so rentals already under way still count.
+        OccupancyGrid grid = new OccupancyGrid(bucketMs, System.currentTimeMillis() - bucketMs, buckets);
+        return new State(grid, new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+    }
+
+    private static long key(OccupancySource source, Long sourceId) {
+        return (sourceId << 1) | (source == OccupancySource.MAINTENANCE ? 1 : 0);
+    }
+
+    private record CarSlot(Key key, boolean inCapacity) {
+    }
+
+    private record Window(Long carId, long startMs, long endMs) {
+    }
+
+    /**
+     * A car's windows busy the grid only while the car counts as capacity, so a car leaving it (disabled, in the
+     * workshop, removed) takes its future bookings out of the busy cells too, and brings them back when it returns.
+     * Both updates run inside the car's {@code cars.compute}, which keeps them ordered per car.
+     */
+    private record State(OccupancyGrid grid, ConcurrentHashMap<Long, CarSlot> cars, ConcurrentHashMap<Long, Window> windows) {
+
+        void putCar(Long carId, CarSlot next) {
+            cars.compute(carId, (id, previous) -> {
+                if (previous != null && previous.inCapacity()) {
+                    grid.addCapacity(previous.key(), -1);
+                    addWindows(carId, previous.key(), -1);
+                }
+                if (next != null && next.inCapacity()) {
+                    grid.addCapacity(next.key(), 1);
+                    addWindows(carId, next.key(), 1);
+                }
+                return next;
+            });
+        }
+
+        void putWindow(long key, Long carId, Window next) {
+            Window kept = next != null && next.endMs() > grid.startMs() ? next : null;
+            cars.compute(carId, (id, slot) -> {
+                Window previous = kept == null ? windows.remove(key) : windows.put(key, kept);
+                if (slot != null && slot.inCapacity()) {
+                    if (previous != null) {
+                        grid.addWindow(slot.key(), carId, previous.startMs(), previous.endMs(), -1);
+                    }
+                    if (kept != null) {
+                        grid.addWindow(slot.key(), carId, kept.startMs(), kept.endMs(), 1);
+                    }
+                }
+                return slot;
+            });
+        }
+
+        private void addWindows(Long carId, Key key, int delta) {
+            for (Window window : windows.values()) {
+                if (window.carId().equals(carId)) {
+                    grid.addWindow(key, carId, window.startMs(), window.endMs(), delta);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.smartautorental.platform.pricing.occupancy;
+
+import com.smartautorental.platform.fleet.model.CarCategory;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per branch and category: cars counted as capacity, and busy cars per time bucket over a fixed range. Each car keeps a
+ * count of its windows per bucket and only the 0 to 1 and 1 to 0 transitions move the bucket cell, so back-to-back
+ * rentals or a booking overlapping maintenance on one car count that car once. Cells are {@link LongAdder}s, so
+ * concurrent event listeners update them without contending on a lock. A window busies every bucket it touches;
+ * windows outside the range are clipped.
+ */
+public final class OccupancyGrid {
+
+    private final long bucketMs;
+    private final long firstBucket;
+    private final int buckets;
+    private final ConcurrentHashMap<Key, Row> rows = new ConcurrentHashMap<>();
+
+    public OccupancyGrid(long bucketMs, long startMs, int buckets) {
+        if (bucketMs <= 0 || buckets <= 0) {
+            throw new IllegalArgumentException("bucketMs and buckets must be positive");
+        }
+        this.bucketMs = bucketMs;
+        this.firstBucket = Math.floorDiv(startMs, bucketMs);
+        this.buckets = buckets;
+    }
+
+    public long startMs() {
+        return firstBucket * bucketMs;
+    }
+
+    public void addCapacity(Key key, long delta) {
+        row(key).capacity.add(delta);
+    }
+
+    public void addWindow(Key key, Long carId, long startMs, long endMs, int delta) {
+        int from = clip(Math.floorDiv(startMs, bucketMs));
+        int to = clip(Math.floorDiv(endMs - 1, bucketMs) + 1);
+        if (from >= to) {
+            return;
+        }
+        Row row = row(key);
+        AtomicIntegerArray windows = row.windowsByCar.computeIfAbsent(carId,
+                ignored -> new AtomicIntegerArray(buckets));
+        for (int i = from; i < to; i++) {
+            int after = windows.addAndGet(i, delta);
+            int before = after - delta;
+            if (before <= 0 && after > 0) {
+                row.occupied[i].increment();
+            } else if (before > 0 && after <= 0) {
+                row.occupied[i].decrement();
+            }
+        }
+    }
+
+    /**
+     * Capacity minus the bucket in {@code [startMs, endMs)} with the most busy cars, never negative.
+     */
+    public long availableCars(Key key, long startMs, long endMs) {
+        Row row = rows.get(key);
+        if (row == null) {
+            return 0;
+        }
+        int from = clip(Math.floorDiv(startMs, bucketMs));
+        int to = clip(Math.floorDiv(endMs - 1, bucketMs) + 1);
+        long peak = 0;
+        for (int i = from; i < to; i++) {
+            peak = Math.max(peak, row.occupied[i].sum());
+        }
+        return Math.max(0, row.capacity.sum() - peak);
+    }
+
+    /**
+     * Compares every cell this grid shares with {@code other}, matching buckets by absolute time.
+     */
+    public Drift driftFrom(OccupancyGrid other) {
+        if (bucketMs != other.bucketMs) {
+            throw new IllegalArgumentException("Grids use different bucket sizes");
+        }
+        long lo = Math.max(firstBucket, other.firstBucket);
+        long hi = Math.min(firstBucket + buckets, other.firstBucket + other.buckets);
+        long units = 0;
+        int cells = 0;
+        for (Key key : keys(other)) {
+            Row mine = rows.get(key);
+            Row theirs = other.rows.get(key);
+            long diff = Math.abs(sum(mine == null ? null : mine.capacity) - sum(theirs == null ? null : theirs.capacity));
+            units += diff;
+            cells += diff == 0 ? 0 : 1;
+            for (long bucket = lo; bucket < hi; bucket++) {
+                diff = Math.abs(occupied(mine, (int) (bucket - firstBucket))
+                        - other.occupied(theirs, (int) (bucket - other.firstBucket)));
+                units += diff;
+                cells += diff == 0 ? 0 : 1;
+            }
+        }
+        return new Drift(units, cells);
+    }
+
+    private Set<Key> keys(OccupancyGrid other) {
+        Set<Key> keys = new HashSet<>(rows.keySet());
+        keys.addAll(other.rows.keySet());
+        return keys;
+    }
+
+    private long occupied(Row row, int index) {
+        return row == null ? 0 : row.occupied[index].sum();
+    }
+
+    private static long sum(LongAdder adder) {
+        return adder == null ? 0 : adder.sum();
+    }
+
+    private int clip(long bucket) {
+        return (int) Math.max(0, Math.min(buckets, bucket - firstBucket));
+    }
+
+    private Row row(Key key) {
+        return rows.computeIfAbsent(key, ignored -> new Row(buckets));
+    }
+
+    public record Key(Long branchId, CarCategory category) {
+    }
+
+    public record Drift(long units, int cells) {
+    }
+
+    private static final class Row {
+
+        private final LongAdder capacity = new LongAdder();
+        private final LongAdder[] occupied;
+        private final ConcurrentHashMap<Long, AtomicIntegerArray> windowsByCar = new ConcurrentHashMap<>();
+
+        private Row(int buckets) {
+            occupied = new LongAdder[buckets];
+            for (int i = 0; i < buckets; i++) {
+                occupied[i] = new LongAdder();
+            }
+        }
+    }
+}
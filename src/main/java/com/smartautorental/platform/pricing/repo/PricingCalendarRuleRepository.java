@@ -0,0 +1,40 @@
+package com.smartautorental.platform.pricing.repo;
+
+import com.smartautorental.platform.pricing.model.CalendarRuleType;
+import com.smartautorental.platform.pricing.model.PricingCalendarRule;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PricingCalendarRuleRepository extends JpaRepository<PricingCalendarRule, Long> {
+
+    @Query("""
+            select r from PricingCalendarRule r
+            left join fetch r.branch
+            where (:branchId is null or r.branch.id = :branchId)
+            order by r.startDate, r.id
+            """)
+    List<PricingCalendarRule> search(@Param("branchId") Long branchId);
+
+    @Query("""
+            select r.branch.id as branchId,
+                   r.ruleType as ruleType,
+                   r.startDate as startDate,
+                   r.endDate as endDate,
+                   r.surchargeRate as surchargeRate
+            from PricingCalendarRule r
+            where r.endDate >= :from and r.startDate <= :to
+            """)
+    List<RuleWindowProjection> findWindows(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    interface RuleWindowProjection {
+        Long getBranchId();
+        CalendarRuleType getRuleType();
+        LocalDate getStartDate();
+        LocalDate getEndDate();
+        BigDecimal getSurchargeRate();
+    }
+}
@@ -0,0 +1,202 @@
+package com.smartautorental.platform.pricing.service;
+
+import com.smartautorental.platform.common.exception.BusinessException;
+import com.smartautorental.platform.common.exception.ErrorCode;
+import com.smartautorental.platform.fleet.model.Car;
+import com.smartautorental.platform.fleet.model.CarCategory;
+import com.smartautorental.platform.fleet.model.CarStatus;
+import com.smartautorental.platform.fleet.repo.CarRepository;
+import com.smartautorental.platform.pricing.calendar.BranchCalendar;
+import com.smartautorental.platform.pricing.calendar.PricingCalendar;
+import com.smartautorental.platform.pricing.config.PricingProperties;
+import com.smartautorental.platform.pricing.dto.BatchQuoteItem;
+import com.smartautorental.platform.pricing.dto.BatchQuoteRequest;
+import com.smartautorental.platform.pricing.dto.BatchQuoteResponse;
+import com.smartautorental.platform.pricing.dto.PriceQuote;
+import com.smartautorental.platform.pricing.dto.QuoteWindow;
+import com.smartautorental.platform.pricing.occupancy.FleetAvailability;
+import com.smartautorental.platform.pricing.token.QuoteTerms;
+import com.smartautorental.platform.pricing.token.QuoteTokenService;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Prices a cars × windows matrix. Cars, branch calendars and category availability are resolved once up front;
+ * the matrix is then a loop over plain values, split across a fork-join pool when it is large enough to pay off.
+ */
+@Service
+public class BatchQuoteService {
+
+    private static final int LEAF_QUOTES = 512;
+    private static final Set<CarStatus> NOT_OPERATIONAL = EnumSet.of(CarStatus.DISABLED, CarStatus.IN_MAINTENANCE);
+
+    private final CarRepository carRepository;
+    private final PricingService pricingService;
+    private final PricingEngine pricingEngine;
+    private final PricingCalendar pricingCalendar;
+    private final QuoteTokenService quoteTokenService;
+    private final PricingProperties.Batch batch;
+    private final ForkJoinPool pool;
+
+    public BatchQuoteService(CarRepository carRepository,
+                             PricingService pricingService,
+                             PricingEngine pricingEngine,
+                             PricingCalendar pricingCalendar,
+                             QuoteTokenService quoteTokenService,
+                             PricingProperties pricingProperties) {
+        this.carRepository = carRepository;
+        this.pricingService = pricingService;
+        this.pricingEngine = pricingEngine;
+        this.pricingCalendar = pricingCalendar;
+        this.quoteTokenService = quoteTokenService;
+        this.batch = pricingProperties.getBatch();
+        this.pool = new ForkJoinPool(batch.getParallelism() > 0
+                ? batch.getParallelism()
+                : Runtime.getRuntime().availableProcessors());
+    }
+
+    @Transactional(readOnly = true)
+    public BatchQuoteResponse quote(BatchQuoteRequest request) {
+        List<QuoteWindow> windows = request.windows();
+        if (windows.size() > batch.getMaxWindows()) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR,
+                    "At most " + batch.getMaxWindows() + " windows per batch");
+        }
+        for (QuoteWindow window : windows) {
+            if (!window.endTime().isAfter(window.startTime())) {
+                throw new BusinessException(ErrorCode.VALIDATION_ERROR, "End time must be after start time");
+            }
+        }
+
+        List<Car> cars = loadCars(request);
+        if (cars.size() > batch.getMaxCars()) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, "At most " + batch.getMaxCars() + " cars per batch");
+        }
+        long total = (long) cars.size() * windows.size();
+        if (total > batch.getMaxQuotes()) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR,
+                    "At most " + batch.getMaxQuotes() + " quotes per batch");
+        }
+
+        Matrix matrix = new Matrix(priced(cars), windows.toArray(QuoteWindow[]::new),
+                request.insuranceSelected(), request.couponCode(), new BatchQuoteItem[(int) total]);
+        boolean parallel = total >= batch.getParallelThreshold() && pool.getParallelism() > 1;
+        if (parallel) {
+            pool.invoke(new Slice(matrix, 0, matrix.items().length));
+        } else {
+            fill(matrix, 0, matrix.items().length);
+        }
+        return new BatchQuoteResponse(cars.size(), windows.size(), parallel, Arrays.asList(matrix.items()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private List<Car> loadCars(BatchQuoteRequest request) {
+        if (request.carIds() != null && !request.carIds().isEmpty()) {
+            LinkedHashSet<Long> carIds = new LinkedHashSet<>(request.carIds());
+            if (carIds.size() > batch.getMaxCars()) {
+                throw new BusinessException(ErrorCode.VALIDATION_ERROR,
+                        "At most " + batch.getMaxCars() + " cars per batch");
+            }
+            List<Car> cars = carRepository.findAllById(carIds);
+            if (cars.size() != carIds.size()) {
+                throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "Car not found");
+            }
+            // Same rule as booking: cars that are disabled or in the workshop cannot be booked, so are not quoted.
+            return cars.stream()
+                    .filter(car -> !NOT_OPERATIONAL.contains(car.getStatus()))
+                    .sorted(Comparator.comparing(Car::getId))
+                    .toList();
+        }
+        if (request.branchId() == null) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, "Provide carIds or branchId");
+        }
+        List<CarCategory> categories = request.categories() == null || request.categories().isEmpty()
+                ? List.of(CarCategory.values())
+                : request.categories();
+        return carRepository.findByBranchIdAndCategoryInAndStatusOrderById(
+                request.branchId(), categories, CarStatus.AVAILABLE);
+    }
+
+    private PricedCar[] priced(List<Car> cars) {
+        Map<Long, FleetAvailability> availability = new HashMap<>();
+        PricedCar[] priced = new PricedCar[cars.size()];
+        for (int i = 0; i < priced.length; i++) {
+            Car car = cars.get(i);
+            Long branchId = car.getBranch().getId();
+            priced[i] = new PricedCar(car.getId(), branchId, car.getCategory(), car.getBaseDailyRate(),
+                    pricingCalendar.forBranch(branchId),
+                    availability.computeIfAbsent(branchId, pricingService::fleetAvailability));
+        }
+        return priced;
+    }
+
+    private void fill(Matrix matrix, int from, int to) {
+        int windows = matrix.windows().length;
+        for (int i = from; i < to; i++) {
+            PricedCar car = matrix.cars()[i / windows];
+            QuoteWindow window = matrix.windows()[i % windows];
+            PriceQuote quote = pricingEngine.quote(car.calendar(), car.baseDailyRate(), window.startTime(),
+                    window.endTime(), matrix.insuranceSelected(), matrix.couponCode(),
+                    car.availability().availableCars(car.category(), window.startTime(), window.endTime()));
+            String token = quoteTokenService.issue(new QuoteTerms(car.carId(), car.baseDailyRate(), window.startTime(),
+                    window.endTime(), matrix.insuranceSelected(), matrix.couponCode()), quote);
+            matrix.items()[i] = new BatchQuoteItem(car.carId(), car.branchId(), car.category(),
+                    window.startTime(), window.endTime(), quote, token);
+        }
+    }
+
+    private record PricedCar(Long carId,
+                             Long branchId,
+                             CarCategory category,
+                             BigDecimal baseDailyRate,
+                             BranchCalendar calendar,
+                             FleetAvailability availability) {
+    }
+
+    private record Matrix(PricedCar[] cars,
+                          QuoteWindow[] windows,
+                          boolean insuranceSelected,
+                          String couponCode,
+                          BatchQuoteItem[] items) {
+    }
+
+    private final class Slice extends RecursiveAction {
+
+        private final Matrix matrix;
+        private final int from;
+        private final int to;
+
+        private Slice(Matrix matrix, int from, int to) {
+            this.matrix = matrix;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_QUOTES) {
+                fill(matrix, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new Slice(matrix, from, mid), new Slice(matrix, mid, to));
+        }
+    }
+}
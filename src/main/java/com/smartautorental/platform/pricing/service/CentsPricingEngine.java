@@ -0,0 +1,112 @@
+package com.smartautorental.platform.pricing.service;
+
+import static com.smartautorental.platform.pricing.service.PricingRules.BASIS_POINTS;
+import static com.smartautorental.platform.pricing.service.PricingRules.DURATION_DISCOUNT_MIN_DAYS;
+import static com.smartautorental.platform.pricing.service.PricingRules.DURATION_DISCOUNT_RATE_BP;
+import static com.smartautorental.platform.pricing.service.PricingRules.DYNAMIC_RATE_BP;
+import static com.smartautorental.platform.pricing.service.PricingRules.INSURANCE_PER_DAY_CENTS;
+import static com.smartautorental.platform.pricing.service.PricingRules.WEEKEND_RATE_BP;
+
+import com.smartautorental.platform.pricing.calendar.BranchCalendar;
+import com.smartautorental.platform.pricing.dto.PriceQuote;
+import java.math.BigDecimal;
+import java.time.Instant;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Computes quotes in {@code long} arithmetic. Amounts are carried in cents times {@link PricingRules#BASIS_POINTS}
+ * so every rate product is exact, and each component is rounded HALF_UP to cents once, exactly where the decimal
+ * engine rounds. Inputs that do not fit (sub-cent rates, coupons finer than a basis point, overflow) are delegated
+ * to {@link DecimalPricingEngine}.
+ */
+@Component
+@ConditionalOnProperty(name = "app.pricing.engine", havingValue = "cents", matchIfMissing = true)
+public class CentsPricingEngine implements PricingEngine {
+
+    private static final long CENTS_SCALE = BASIS_POINTS;
+    private static final long COUPON_SCALE = BASIS_POINTS * BASIS_POINTS;
+
+    private final CouponService couponService;
+    private final DecimalPricingEngine fallback;
+
+    public CentsPricingEngine(CouponService couponService) {
+        this.couponService = couponService;
+        this.fallback = new DecimalPricingEngine(couponService);
+    }
+
+    @Override
+    public PriceQuote quote(BranchCalendar calendar,
+                            BigDecimal baseDailyRate,
+                            Instant start,
+                            Instant end,
+                            boolean insuranceSelected,
+                            String couponCode,
+                            long estimatedAvailableCarsForCategory) {
+        long couponBp = couponService.resolveDiscountBasisPoints(couponCode);
+        if (couponBp >= 0) {
+            try {
+                // longValueExact rejects sub-cent rates as well as rates beyond a long.
+                long rateCents = baseDailyRate.movePointRight(2).longValueExact();
+                return quote(calendar, rateCents, start, end, insuranceSelected, couponBp,
+                        estimatedAvailableCarsForCategory);
+            } catch (ArithmeticException notRepresentable) {
+                // Fall through to the decimal engine.
+            }
+        }
+        return fallback.quote(calendar, baseDailyRate, start, end, insuranceSelected, couponCode,
+                estimatedAvailableCarsForCategory);
+    }
+
+    private PriceQuote quote(BranchCalendar calendar,
+                             long rateCents,
+                             Instant start,
+                             Instant end,
+                             boolean insuranceSelected,
+                             long couponBp,
+                             long estimatedAvailableCarsForCategory) {
+        long rentalDays = PricingRules.rentalDays(start, end);
+        long weekendDays = calendar.weekendDays(start, end);
+        boolean surge = PricingRules.surge(estimatedAvailableCarsForCategory);
+
+        long baseCents = Math.multiplyExact(rateCents, rentalDays);
+        long base = Math.multiplyExact(baseCents, CENTS_SCALE);
+        long weekend = Math.multiplyExact(Math.multiplyExact(rateCents, weekendDays), WEEKEND_RATE_BP);
+        long seasonal = Math.multiplyExact(rateCents, calendar.surchargeBasisPoints(start, end));
+        long discount = rentalDays >= DURATION_DISCOUNT_MIN_DAYS
+                ? Math.multiplyExact(baseCents, DURATION_DISCOUNT_RATE_BP)
+                : 0;
+        long dynamic = surge ? Math.multiplyExact(baseCents, DYNAMIC_RATE_BP) : 0;
+        long insurance = insuranceSelected
+                ? Math.multiplyExact(Math.multiplyExact(INSURANCE_PER_DAY_CENTS, rentalDays), CENTS_SCALE)
+                : 0;
+
+        long surcharges = Math.addExact(Math.addExact(weekend, seasonal), Math.addExact(dynamic, insurance));
+        long subtotal = Math.subtractExact(Math.addExact(base, surcharges), discount);
+        // Coupon and total carry one more basis-point factor so the discount stays unrounded until the end.
+        long coupon = Math.multiplyExact(subtotal, couponBp);
+        long total = Math.subtractExact(Math.multiplyExact(subtotal, BASIS_POINTS), coupon);
+
+        return new PriceQuote(
+                money(roundHalfUp(base, CENTS_SCALE)),
+                money(roundHalfUp(weekend, CENTS_SCALE)),
+                money(roundHalfUp(seasonal, CENTS_SCALE)),
+                money(roundHalfUp(discount, CENTS_SCALE)),
+                money(roundHalfUp(dynamic, CENTS_SCALE)),
+                money(roundHalfUp(insurance, CENTS_SCALE)),
+                money(roundHalfUp(coupon, COUPON_SCALE)),
+                money(roundHalfUp(total, COUPON_SCALE)),
+                surge ? PricingRules.SURGE_FACTOR : PricingRules.FLAT_FACTOR);
+    }
+
+    private static long roundHalfUp(long value, long divisor) {
+        long half = divisor / 2;
+        return value >= 0
+                ? Math.addExact(value, half) / divisor
+                : -(Math.addExact(-value, half) / divisor);
+    }
+
+    private static BigDecimal money(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+}
@@ -2,6 +2,7 @@ package com.smartautorental.platform.pricing.service;
 
 import java.math.BigDecimal;
 import java.util.Map;
+import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -12,10 +13,24 @@ public class CouponService {
             "LONGTRIP5", new BigDecimal("0.05")
     );
 
+    private static final Map<String, Long> COUPON_BASIS_POINTS = COUPON_PERCENTS.entrySet().stream()
+            .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey,
+                    entry -> PricingRules.basisPoints(entry.getValue())));
+
     public BigDecimal resolveDiscountPercent(String couponCode) {
         if (couponCode == null || couponCode.isBlank()) {
             return BigDecimal.ZERO;
         }
         return COUPON_PERCENTS.getOrDefault(couponCode.toUpperCase(), BigDecimal.ZERO);
     }
+
+    /**
+     * Same lookup as {@link #resolveDiscountPercent(String)} in basis points; -1 when a percent is finer than that.
+     */
+    public long resolveDiscountBasisPoints(String couponCode) {
+        if (couponCode == null || couponCode.isBlank()) {
+            return 0;
+        }
+        return COUPON_BASIS_POINTS.getOrDefault(couponCode.toUpperCase(), 0L);
+    }
 }
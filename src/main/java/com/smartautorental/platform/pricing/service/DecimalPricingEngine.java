@@ -0,0 +1,89 @@
+package com.smartautorental.platform.pricing.service;
+
+import static com.smartautorental.platform.pricing.service.PricingRules.DURATION_DISCOUNT_MIN_DAYS;
+import static com.smartautorental.platform.pricing.service.PricingRules.DURATION_DISCOUNT_RATE;
+import static com.smartautorental.platform.pricing.service.PricingRules.DYNAMIC_RATE;
+import static com.smartautorental.platform.pricing.service.PricingRules.INSURANCE_PER_DAY;
+import static com.smartautorental.platform.pricing.service.PricingRules.WEEKEND_RATE;
+
+import com.smartautorental.platform.pricing.calendar.BranchCalendar;
+import com.smartautorental.platform.pricing.dto.PriceQuote;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reference engine: unrounded {@link BigDecimal} arithmetic, rounded HALF_UP to cents per component at the end.
+ */
+@Component
+@ConditionalOnProperty(name = "app.pricing.engine", havingValue = "decimal")
+public class DecimalPricingEngine implements PricingEngine {
+
+    private final CouponService couponService;
+
+    public DecimalPricingEngine(CouponService couponService) {
+        this.couponService = couponService;
+    }
+
+    @Override
+    public PriceQuote quote(BranchCalendar calendar,
+                            BigDecimal baseDailyRate,
+                            Instant start,
+                            Instant end,
+                            boolean insuranceSelected,
+                            String couponCode,
+                            long estimatedAvailableCarsForCategory) {
+        long rentalDays = PricingRules.rentalDays(start, end);
+        BigDecimal baseAmount = baseDailyRate.multiply(BigDecimal.valueOf(rentalDays));
+
+        long weekendDays = calendar.weekendDays(start, end);
+        BigDecimal weekendSurcharge = baseDailyRate
+                .multiply(BigDecimal.valueOf(weekendDays))
+                .multiply(WEEKEND_RATE);
+
+        BigDecimal seasonalSurcharge = baseDailyRate
+                .multiply(BigDecimal.valueOf(calendar.surchargeBasisPoints(start, end)))
+                .movePointLeft(4);
+
+        BigDecimal durationDiscount = rentalDays >= DURATION_DISCOUNT_MIN_DAYS
+                ? baseAmount.multiply(DURATION_DISCOUNT_RATE)
+                : BigDecimal.ZERO;
+
+        BigDecimal dynamicFactor = PricingRules.surge(estimatedAvailableCarsForCategory)
+                ? BigDecimal.ONE.add(DYNAMIC_RATE)
+                : BigDecimal.ONE;
+
+        BigDecimal dynamicSurcharge = baseAmount.multiply(dynamicFactor.subtract(BigDecimal.ONE));
+        BigDecimal insuranceFee = insuranceSelected
+                ? INSURANCE_PER_DAY.multiply(BigDecimal.valueOf(rentalDays))
+                : BigDecimal.ZERO;
+
+        BigDecimal subtotal = baseAmount
+                .add(weekendSurcharge)
+                .add(seasonalSurcharge)
+                .add(dynamicSurcharge)
+                .add(insuranceFee)
+                .subtract(durationDiscount);
+
+        BigDecimal couponDiscount = subtotal.multiply(couponService.resolveDiscountPercent(couponCode));
+
+        BigDecimal total = subtotal.subtract(couponDiscount).setScale(2, RoundingMode.HALF_UP);
+
+        return new PriceQuote(
+                scale(baseAmount),
+                scale(weekendSurcharge),
+                scale(seasonalSurcharge),
+                scale(durationDiscount),
+                scale(dynamicSurcharge),
+                scale(insuranceFee),
+                scale(couponDiscount),
+                total,
+                dynamicFactor.setScale(2, RoundingMode.HALF_UP));
+    }
+
+    private BigDecimal scale(BigDecimal value) {
+        return value.setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,83 @@
+package com.smartautorental.platform.pricing.service;
+
+import com.smartautorental.platform.common.exception.BusinessException;
+import com.smartautorental.platform.common.exception.ErrorCode;
+import com.smartautorental.platform.fleet.model.Branch;
+import com.smartautorental.platform.fleet.repo.BranchRepository;
+import com.smartautorental.platform.pricing.calendar.PricingCalendarChangedEvent;
+import com.smartautorental.platform.pricing.dto.CalendarRuleRequest;
+import com.smartautorental.platform.pricing.dto.CalendarRuleResponse;
+import com.smartautorental.platform.pricing.model.PricingCalendarRule;
+import com.smartautorental.platform.pricing.repo.PricingCalendarRuleRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class PricingCalendarService {
+
+    private final PricingCalendarRuleRepository ruleRepository;
+    private final BranchRepository branchRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public List<CalendarRuleResponse> list(Long branchId) {
+        return ruleRepository.search(branchId).stream().map(this::map).toList();
+    }
+
+    @Transactional
+    public CalendarRuleResponse create(CalendarRuleRequest request) {
+        PricingCalendarRule rule = new PricingCalendarRule();
+        updateEntity(rule, request);
+        PricingCalendarRule saved = ruleRepository.save(rule);
+        eventPublisher.publishEvent(new PricingCalendarChangedEvent(saved.getId()));
+        return map(saved);
+    }
+
+    @Transactional
+    public CalendarRuleResponse update(Long ruleId, CalendarRuleRequest request) {
+        PricingCalendarRule rule = ruleRepository.findById(ruleId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "Calendar rule not found"));
+        updateEntity(rule, request);
+        eventPublisher.publishEvent(new PricingCalendarChangedEvent(rule.getId()));
+        return map(rule);
+    }
+
+    @Transactional
+    public void delete(Long ruleId) {
+        PricingCalendarRule rule = ruleRepository.findById(ruleId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "Calendar rule not found"));
+        ruleRepository.delete(rule);
+        eventPublisher.publishEvent(new PricingCalendarChangedEvent(ruleId));
+    }
+
+    private void updateEntity(PricingCalendarRule rule, CalendarRuleRequest request) {
+        if (request.endDate().isBefore(request.startDate())) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, "Rule end date must not be before start date");
+        }
+        Branch branch = request.branchId() == null
+                ? null
+                : branchRepository.findById(request.branchId())
+                        .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "Branch not found"));
+        rule.setBranch(branch);
+        rule.setRuleType(request.ruleType());
+        rule.setName(request.name());
+        rule.setStartDate(request.startDate());
+        rule.setEndDate(request.endDate());
+        rule.setSurchargeRate(request.surchargeRate());
+    }
+
+    private CalendarRuleResponse map(PricingCalendarRule rule) {
+        return new CalendarRuleResponse(
+                rule.getId(),
+                rule.getBranch() == null ? null : rule.getBranch().getId(),
+                rule.getRuleType(),
+                rule.getName(),
+                rule.getStartDate(),
+                rule.getEndDate(),
+                rule.getSurchargeRate());
+    }
+}
@@ -0,0 +1,17 @@
+package com.smartautorental.platform.pricing.service;
+
+import com.smartautorental.platform.pricing.calendar.BranchCalendar;
+import com.smartautorental.platform.pricing.dto.PriceQuote;
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public interface PricingEngine {
+
+    PriceQuote quote(BranchCalendar calendar,
+                     BigDecimal baseDailyRate,
+                     Instant start,
+                     Instant end,
+                     boolean insuranceSelected,
+                     String couponCode,
+                     long estimatedAvailableCarsForCategory);
+}
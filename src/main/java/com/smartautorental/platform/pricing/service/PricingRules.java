@@ -0,0 +1,50 @@
+package com.smartautorental.platform.pricing.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Rates and duration rules shared by the pricing engines, so the decimal and the cents engine cannot drift apart.
+ */
+final class PricingRules {
+
+    static final BigDecimal WEEKEND_RATE = new BigDecimal("0.15");
+    static final BigDecimal DURATION_DISCOUNT_RATE = new BigDecimal("0.10");
+    static final BigDecimal DYNAMIC_RATE = new BigDecimal("0.15");
+    static final BigDecimal INSURANCE_PER_DAY = new BigDecimal("20.00");
+    static final long DURATION_DISCOUNT_MIN_DAYS = 7;
+    static final long DYNAMIC_MAX_AVAILABLE_CARS = 2;
+
+    static final BigDecimal SURGE_FACTOR = BigDecimal.ONE.add(DYNAMIC_RATE).setScale(2, RoundingMode.HALF_UP);
+    static final BigDecimal FLAT_FACTOR = BigDecimal.ONE.setScale(2, RoundingMode.HALF_UP);
+
+    static final long BASIS_POINTS = 10_000;
+    static final long WEEKEND_RATE_BP = basisPoints(WEEKEND_RATE);
+    static final long DURATION_DISCOUNT_RATE_BP = basisPoints(DURATION_DISCOUNT_RATE);
+    static final long DYNAMIC_RATE_BP = basisPoints(DYNAMIC_RATE);
+    static final long INSURANCE_PER_DAY_CENTS = INSURANCE_PER_DAY.movePointRight(2).longValueExact();
+
+    private PricingRules() {
+    }
+
+    static long rentalDays(Instant start, Instant end) {
+        return Math.max(1, (long) Math.ceil(Duration.between(start, end).toHours() / 24.0));
+    }
+
+    static boolean surge(long estimatedAvailableCarsForCategory) {
+        return estimatedAvailableCarsForCategory <= DYNAMIC_MAX_AVAILABLE_CARS;
+    }
+
+    /**
+     * Fraction as basis points, or -1 when it has more than four decimals.
+     */
+    static long basisPoints(BigDecimal fraction) {
+        try {
+            return fraction.movePointRight(4).longValueExact();
+        } catch (ArithmeticException ex) {
+            return -1;
+        }
+    }
+}
@@ -1,30 +1,48 @@
 package com.smartautorental.platform.pricing.service;
 
+import com.smartautorental.platform.common.concurrent.SingleFlight;
+import com.smartautorental.platform.fleet.config.AvailabilityProperties;
 import com.smartautorental.platform.fleet.model.Car;
-import com.smartautorental.platform.fleet.model.CarStatus;
+import com.smartautorental.platform.fleet.model.CarCategory;
 import com.smartautorental.platform.fleet.repo.CarRepository;
+import com.smartautorental.platform.observability.AvailabilityMetrics;
+import com.smartautorental.platform.pricing.calendar.PricingCalendar;
+import com.smartautorental.platform.pricing.dto.CategoryAvailability;
 import com.smartautorental.platform.pricing.dto.PriceQuote;
+import com.smartautorental.platform.pricing.occupancy.FleetAvailability;
+import com.smartautorental.platform.pricing.occupancy.OccupancyCounters;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.Instant;
-import java.time.ZoneOffset;
-import java.time.ZonedDateTime;
-import lombok.RequiredArgsConstructor;
+import java.util.EnumMap;
+import java.util.Map;
 import org.springframework.stereotype.Service;
 
 @Service
-@RequiredArgsConstructor
 public class PricingService {
 
-    private static final BigDecimal WEEKEND_RATE = new BigDecimal("0.15");
-    private static final BigDecimal DURATION_DISCOUNT_RATE = new BigDecimal("0.10");
-    private static final BigDecimal DYNAMIC_RATE = new BigDecimal("0.15");
-    private static final BigDecimal INSURANCE_PER_DAY = new BigDecimal("20.00");
-
     private final CarRepository carRepository;
-    private final CouponService couponService;
+    private final PricingEngine pricingEngine;
+    private final PricingCalendar pricingCalendar;
+    private final OccupancyCounters occupancyCounters;
+    private final AvailabilityProperties availabilityProperties;
+    private final SingleFlight<Long, CategoryAvailability> categoryCountFlight;
+
+    public PricingService(CarRepository carRepository,
+                          PricingEngine pricingEngine,
+                          PricingCalendar pricingCalendar,
+                          OccupancyCounters occupancyCounters,
+                          AvailabilityProperties availabilityProperties,
+                          AvailabilityMetrics availabilityMetrics) {
+        this.carRepository = carRepository;
+        this.pricingEngine = pricingEngine;
+        this.pricingCalendar = pricingCalendar;
+        this.occupancyCounters = occupancyCounters;
+        this.availabilityProperties = availabilityProperties;
+        this.categoryCountFlight = new SingleFlight<>(
+                () -> availabilityMetrics.incrementCollapsed("category_count"),
+                () -> availabilityMetrics.incrementCollapseTimeout("category_count"));
+    }
 
     public PriceQuote quote(Car car,
                             Instant start,
@@ -32,70 +50,43 @@ public class PricingService {
                             boolean insuranceSelected,
                             String couponCode,
                             long estimatedAvailableCarsForCategory) {
-        long rentalDays = Math.max(1, (long) Math.ceil(Duration.between(start, end).toHours() / 24.0));
-        BigDecimal baseAmount = car.getBaseDailyRate().multiply(BigDecimal.valueOf(rentalDays));
-
-        long weekendDays = countWeekendDays(start, end);
-        BigDecimal weekendSurcharge = car.getBaseDailyRate()
-                .multiply(BigDecimal.valueOf(weekendDays))
-                .multiply(WEEKEND_RATE);
-
-        BigDecimal durationDiscount = rentalDays >= 7
-                ? baseAmount.multiply(DURATION_DISCOUNT_RATE)
-                : BigDecimal.ZERO;
-
-        BigDecimal dynamicFactor = estimatedAvailableCarsForCategory <= 2
-                ? BigDecimal.ONE.add(DYNAMIC_RATE)
-                : BigDecimal.ONE;
-
-        BigDecimal dynamicSurcharge = baseAmount.multiply(dynamicFactor.subtract(BigDecimal.ONE));
-        BigDecimal insuranceFee = insuranceSelected
-                ? INSURANCE_PER_DAY.multiply(BigDecimal.valueOf(rentalDays))
-                : BigDecimal.ZERO;
-
-        BigDecimal subtotal = baseAmount
-                .add(weekendSurcharge)
-                .add(dynamicSurcharge)
-                .add(insuranceFee)
-                .subtract(durationDiscount);
-
-        BigDecimal couponDiscount = subtotal.multiply(couponService.resolveDiscountPercent(couponCode));
-
-        BigDecimal total = subtotal.subtract(couponDiscount).setScale(2, RoundingMode.HALF_UP);
-
-        return new PriceQuote(
-                scale(baseAmount),
-                scale(weekendSurcharge),
-                scale(durationDiscount),
-                scale(dynamicSurcharge),
-                scale(insuranceFee),
-                scale(couponDiscount),
-                total,
-                dynamicFactor.setScale(2, RoundingMode.HALF_UP));
+        return quote(car.getBranch().getId(), car.getBaseDailyRate(), start, end, insuranceSelected, couponCode,
+                estimatedAvailableCarsForCategory);
     }
 
-    public long estimateAvailableCarsForCategory(Long branchId,
-                                                  com.smartautorental.platform.fleet.model.CarCategory category) {
-        return carRepository.countByBranchIdAndCategoryAndStatus(branchId, category, CarStatus.AVAILABLE);
+    public PriceQuote quote(Long branchId,
+                            BigDecimal baseDailyRate,
+                            Instant start,
+                            Instant end,
+                            boolean insuranceSelected,
+                            String couponCode,
+                            long estimatedAvailableCarsForCategory) {
+        return pricingEngine.quote(pricingCalendar.forBranch(branchId), baseDailyRate, start, end, insuranceSelected, couponCode,
+                estimatedAvailableCarsForCategory);
     }
 
-    private long countWeekendDays(Instant start, Instant end) {
-        ZonedDateTime cursor = start.atZone(ZoneOffset.UTC).toLocalDate().atStartOfDay(ZoneOffset.UTC);
-        ZonedDateTime limit = end.atZone(ZoneOffset.UTC).toLocalDate().plusDays(1).atStartOfDay(ZoneOffset.UTC);
+    /**
+     * Live occupancy once the counters are loaded; until then the per-status category snapshot.
+     */
+    public FleetAvailability fleetAvailability(Long branchId) {
+        return occupancyCounters.isReady() ? occupancyCounters.forBranch(branchId) : categoryAvailability(branchId);
+    }
 
-        long weekendDays = 0;
-        while (cursor.isBefore(limit)) {
-            DayOfWeek day = cursor.getDayOfWeek();
-            if (day == DayOfWeek.SATURDAY || day == DayOfWeek.SUNDAY) {
-                weekendDays++;
-            }
-            cursor = cursor.plusDays(1);
-        }
+    public CategoryAvailability categoryAvailability(Long branchId) {
+        return categoryCountFlight.execute(
+                branchId,
+                Duration.ofMillis(availabilityProperties.getCoalesceTimeoutMs()),
+                () -> loadCategoryAvailability(branchId));
+    }
 
-        return weekendDays;
+    public long estimateAvailableCarsForCategory(Long branchId, CarCategory category) {
+        return categoryAvailability(branchId).availableCars(category);
     }
 
-    private BigDecimal scale(BigDecimal value) {
-        return value.setScale(2, RoundingMode.HALF_UP);
+    private CategoryAvailability loadCategoryAvailability(Long branchId) {
+        Map<CarCategory, Long> counts = new EnumMap<>(CarCategory.class);
+        carRepository.countByCategory(branchId, FleetAvailability.CAPACITY_STATUS)
+                .forEach(row -> counts.put(row.getCategory(), row.getTotal()));
+        return new CategoryAvailability(branchId, counts);
     }
 }
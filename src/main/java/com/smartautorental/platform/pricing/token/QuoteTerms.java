@@ -0,0 +1,27 @@
+package com.smartautorental.platform.pricing.token;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+
+/**
+ * What a quote token is bound to. Windows are compared at second precision, matching the availability search key,
+ * and coupon codes the way {@code CouponService} resolves them.
+ */
+public record QuoteTerms(
+        Long carId,
+        BigDecimal baseDailyRate,
+        Instant startTime,
+        Instant endTime,
+        boolean insuranceSelected,
+        String couponCode
+) {
+
+    public QuoteTerms {
+        baseDailyRate = baseDailyRate.stripTrailingZeros();
+        startTime = startTime.truncatedTo(ChronoUnit.SECONDS);
+        endTime = endTime.truncatedTo(ChronoUnit.SECONDS);
+        couponCode = couponCode == null || couponCode.isBlank() ? "" : couponCode.toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,169 @@
+package com.smartautorental.platform.pricing.token;
+
+import com.smartautorental.platform.pricing.config.PricingProperties;
+import com.smartautorental.platform.pricing.dto.PriceQuote;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Issues and redeems time-limited quote tokens: the terms and price breakdown a customer was shown, signed with
+ * HMAC-SHA256 so booking creation can reuse that price instead of recomputing it.
+ */
+@Slf4j
+@Service
+public class QuoteTokenService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final byte VERSION = 1;
+
+    private final SecretKeySpec key;
+    private final Duration ttl;
+    private final Clock clock;
+    private final ThreadLocal<Mac> macs;
+
+    @Autowired
+    public QuoteTokenService(PricingProperties pricingProperties) {
+        this(pricingProperties.getQuoteToken(), Clock.systemUTC());
+    }
+
+    public QuoteTokenService(PricingProperties.QuoteToken config, Clock clock) {
+        byte[] secret;
+        if (config.getSecret() == null || config.getSecret().isBlank()) {
+            secret = new byte[32];
+            new SecureRandom().nextBytes(secret);
+            log.warn("app.pricing.quote-token.secret is not set; quote tokens are only valid on this instance");
+        } else {
+            secret = config.getSecret().getBytes(StandardCharsets.UTF_8);
+        }
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+        this.ttl = config.getTtl();
+        this.clock = clock;
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    public String issue(QuoteTerms terms, PriceQuote quote) {
+        byte[] payload = encode(terms, clock.instant().plus(ttl), quote);
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString(payload) + "." + encoder.encodeToString(sign(payload));
+    }
+
+    public Redemption redeem(String token, QuoteTerms terms) {
+        if (token == null || token.isBlank()) {
+            return Redemption.of(Outcome.ABSENT);
+        }
+        int separator = token.indexOf('.');
+        byte[] payload;
+        byte[] signature;
+        try {
+            payload = Base64.getUrlDecoder().decode(token.substring(0, Math.max(separator, 0)));
+            signature = Base64.getUrlDecoder().decode(token.substring(separator + 1));
+        } catch (IllegalArgumentException ex) {
+            return Redemption.of(Outcome.INVALID);
+        }
+        if (separator < 0 || !MessageDigest.isEqual(sign(payload), signature)) {
+            return Redemption.of(Outcome.INVALID);
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            if (in.readByte() != VERSION) {
+                return Redemption.of(Outcome.INVALID);
+            }
+            QuoteTerms signed = new QuoteTerms(
+                    in.readLong(),
+                    new BigDecimal(in.readUTF()),
+                    Instant.ofEpochSecond(in.readLong()),
+                    Instant.ofEpochSecond(in.readLong()),
+                    in.readBoolean(),
+                    in.readUTF());
+            Instant expiresAt = Instant.ofEpochMilli(in.readLong());
+            PriceQuote quote = new PriceQuote(readAmount(in), readAmount(in), readAmount(in), readAmount(in),
+                    readAmount(in), readAmount(in), readAmount(in), readAmount(in), readAmount(in));
+            if (!clock.instant().isBefore(expiresAt)) {
+                return Redemption.of(Outcome.EXPIRED);
+            }
+            if (!signed.equals(terms)) {
+                return Redemption.of(Outcome.MISMATCH);
+            }
+            return new Redemption(Outcome.ACCEPTED, quote);
+        } catch (IOException | RuntimeException ex) {
+            return Redemption.of(Outcome.INVALID);
+        }
+    }
+
+    private byte[] encode(QuoteTerms terms, Instant expiresAt, PriceQuote quote) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(160);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeLong(terms.carId());
+            out.writeUTF(terms.baseDailyRate().toPlainString());
+            out.writeLong(terms.startTime().getEpochSecond());
+            out.writeLong(terms.endTime().getEpochSecond());
+            out.writeBoolean(terms.insuranceSelected());
+            out.writeUTF(terms.couponCode());
+            out.writeLong(expiresAt.toEpochMilli());
+            for (BigDecimal amount : new BigDecimal[] {quote.baseAmount(), quote.weekendSurcharge(),
+                    quote.seasonalSurcharge(), quote.durationDiscount(), quote.dynamicSurcharge(), quote.insuranceFee(),
+                    quote.couponDiscount(), quote.total(), quote.dynamicFactor()}) {
+                out.writeUTF(amount.toPlainString());
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static BigDecimal readAmount(DataInputStream in) throws IOException {
+        return new BigDecimal(in.readUTF());
+    }
+
+    private byte[] sign(byte[] payload) {
+        return macs.get().doFinal(payload);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Cannot initialise " + ALGORITHM, ex);
+        }
+    }
+
+    public enum Outcome {
+        ACCEPTED,
+        ABSENT,
+        INVALID,
+        EXPIRED,
+        MISMATCH
+    }
+
+    public record Redemption(Outcome outcome, PriceQuote quote) {
+
+        static Redemption of(Outcome outcome) {
+            return new Redemption(outcome, null);
+        }
+
+        public boolean accepted() {
+            return outcome == Outcome.ACCEPTED;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+-- Re-applied whenever ${id_allocation_size} changes; must match app.persistence.id-allocation-size.
+ALTER SEQUENCE users_id_seq INCREMENT BY ${id_allocation_size};
+ALTER SEQUENCE branches_id_seq INCREMENT BY ${id_allocation_size};
+ALTER SEQUENCE cars_id_seq INCREMENT BY ${id_allocation_size};
+ALTER SEQUENCE maintenance_records_id_seq INCREMENT BY ${id_allocation_size};
+ALTER SEQUENCE bookings_id_seq INCREMENT BY ${id_allocation_size};
+ALTER SEQUENCE waitlist_entries_id_seq INCREMENT BY ${id_allocation_size};
+ALTER SEQUENCE payment_transactions_id_seq INCREMENT BY ${id_allocation_size};
+ALTER SEQUENCE booking_audits_id_seq INCREMENT BY ${id_allocation_size};
+ALTER SEQUENCE pricing_calendar_rules_id_seq INCREMENT BY ${id_allocation_size};
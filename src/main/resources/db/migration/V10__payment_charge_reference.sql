@@ -0,0 +1,5 @@
+ALTER TABLE payment_transactions ALTER COLUMN provider_reference DROP NOT NULL;
+ALTER TABLE payment_transactions ADD COLUMN idempotency_reference VARCHAR(80);
+
+CREATE UNIQUE INDEX ux_payment_transactions_idempotency_reference ON payment_transactions(idempotency_reference);
+CREATE INDEX idx_payment_transactions_initiated ON payment_transactions(created_at) WHERE status = 'INITIATED';
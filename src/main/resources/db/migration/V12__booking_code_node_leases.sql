@@ -0,0 +1,5 @@
+CREATE TABLE booking_code_node_leases (
+    node_id INTEGER PRIMARY KEY,
+    owner VARCHAR(64) NOT NULL,
+    expires_at TIMESTAMPTZ NOT NULL
+);
@@ -0,0 +1,7 @@
+CREATE INDEX idx_cars_created_id ON cars(created_at DESC, id DESC);
+CREATE INDEX idx_cars_branch_created_id ON cars(branch_id, created_at DESC, id DESC);
+
+CREATE INDEX idx_bookings_customer_created_id ON bookings(customer_id, created_at DESC, id DESC);
+DROP INDEX IF EXISTS idx_bookings_customer;
+
+CREATE INDEX idx_maintenance_car_start_id ON maintenance_records(car_id, start_time DESC, id DESC);
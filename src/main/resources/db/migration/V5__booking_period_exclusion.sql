@@ -0,0 +1,16 @@
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE bookings
+    ADD COLUMN period TSTZRANGE GENERATED ALWAYS AS (tstzrange(start_time, end_time, '[)')) STORED;
+
+ALTER TABLE bookings
+    ADD CONSTRAINT ex_bookings_car_period
+    EXCLUDE USING gist (car_id WITH =, period WITH &&)
+    WHERE (status IN ('CONFIRMED', 'PENDING_PAYMENT'));
+
+ALTER TABLE maintenance_records
+    ADD COLUMN period TSTZRANGE GENERATED ALWAYS AS (tstzrange(start_time, end_time, '[)')) STORED;
+
+CREATE INDEX idx_maintenance_car_period_active ON maintenance_records
+    USING gist (car_id, period)
+    WHERE status IN ('SCHEDULED', 'IN_PROGRESS');
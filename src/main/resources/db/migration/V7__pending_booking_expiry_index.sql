@@ -0,0 +1 @@
+CREATE INDEX idx_bookings_status_created ON bookings(status, created_at);
@@ -0,0 +1,3 @@
+CREATE INDEX idx_waitlist_pending_claim
+    ON waitlist_entries(branch_id, category, created_at, id)
+    WHERE status = 'PENDING';
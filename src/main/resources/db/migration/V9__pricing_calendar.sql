@@ -0,0 +1,17 @@
+ALTER TABLE branches ADD COLUMN time_zone VARCHAR(64) NOT NULL DEFAULT 'UTC';
+
+ALTER TABLE bookings ADD COLUMN seasonal_surcharge NUMERIC(10,2) NOT NULL DEFAULT 0;
+
+CREATE TABLE pricing_calendar_rules (
+    id BIGSERIAL PRIMARY KEY,
+    created_at TIMESTAMPTZ NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
+    branch_id BIGINT REFERENCES branches(id) ON DELETE CASCADE,
+    rule_type VARCHAR(20) NOT NULL,
+    name VARCHAR(120) NOT NULL,
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    surcharge_rate NUMERIC(5,4) NOT NULL,
+    CONSTRAINT chk_pricing_calendar_rule_dates CHECK (end_date >= start_date)
+);
@@ -54,8 +54,19 @@ export const apiClient = {
     });
   },
 
-  myBookings() {
-    return request("/api/v1/bookings/me", { method: "GET" });
+  async myBookings(limit = 100) {
+    const bookings = [];
+    let cursor = null;
+    do {
+      const params = new URLSearchParams({ limit });
+      if (cursor) {
+        params.set("cursor", cursor);
+      }
+      const page = await request(`/api/v1/bookings/me/page?${params.toString()}`, { method: "GET" });
+      bookings.push(...page.items);
+      cursor = page.nextCursor;
+    } while (cursor);
+    return bookings;
   },
 
   topRented(limit = 5) {
@@ -0,0 +1,62 @@
+package com.smartautorental.platform.booking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.smartautorental.platform.booking.code.BookingCodeNodeLeaseService;
+import com.smartautorental.platform.booking.config.BookingProperties;
+import com.smartautorental.platform.booking.repo.BookingCodeNodeLeaseRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class BookingCodeNodeLeaseServiceTest {
+
+    private final BookingCodeNodeLeaseRepository leaseRepository = mock(BookingCodeNodeLeaseRepository.class);
+    private final BookingProperties bookingProperties = new BookingProperties();
+    private final BookingCodeNodeLeaseService leases = new BookingCodeNodeLeaseService(
+            leaseRepository, new TransactionTemplate(mock(PlatformTransactionManager.class)), bookingProperties);
+
+    @Test
+    void shouldRefuseConfiguredNodeIdHeldByAnotherInstance() {
+        bookingProperties.getCode().setNodeId(12);
+        when(leaseRepository.claim(eq(12), anyString(), any(), any())).thenReturn(0);
+
+        assertThatThrownBy(leases::acquire).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(leases::nodeId).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldLeaseNextFreeNodeIdWhenAnotherInstanceWinsTheRace() {
+        when(leaseRepository.findFreeNodeId(eq(1023), any())).thenReturn(Optional.of(0)).thenReturn(Optional.of(1));
+        when(leaseRepository.claim(eq(0), anyString(), any(), any())).thenReturn(0);
+        when(leaseRepository.claim(eq(1), anyString(), any(), any())).thenReturn(1);
+
+        leases.acquire();
+
+        assertThat(leases.nodeId()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldMoveToAnotherNodeIdWhenTheLeaseWasTakenOver() {
+        when(leaseRepository.findFreeNodeId(eq(1023), any())).thenReturn(Optional.of(4)).thenReturn(Optional.of(5));
+        when(leaseRepository.claim(anyInt(), anyString(), any(), any())).thenReturn(1);
+        leases.acquire();
+        when(leaseRepository.renew(eq(4), anyString(), any())).thenReturn(0);
+
+        leases.renew();
+
+        assertThat(leases.nodeId()).isEqualTo(5);
+        leases.release();
+        verify(leaseRepository).release(eq(5), anyString());
+        assertThatThrownBy(leases::nodeId).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -29,7 +29,8 @@ class BookingConflictIntegrationTest extends AbstractIntegrationTest {
                 false,
                 null,
                 false,
-                false
+                false,
+                null
         );
 
         var first = bookingService.create(request);
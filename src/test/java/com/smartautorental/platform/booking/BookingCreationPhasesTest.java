@@ -0,0 +1,176 @@
+package com.smartautorental.platform.booking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.smartautorental.platform.booking.dto.BookingCreateRequest;
+import com.smartautorental.platform.booking.model.Booking;
+import com.smartautorental.platform.booking.model.BookingStatus;
+import com.smartautorental.platform.booking.model.PaymentStatus;
+import com.smartautorental.platform.booking.repo.BookingRepository;
+import com.smartautorental.platform.booking.service.BookingAuditService;
+import com.smartautorental.platform.booking.service.BookingService;
+import com.smartautorental.platform.common.exception.BusinessException;
+import com.smartautorental.platform.common.exception.ErrorCode;
+import com.smartautorental.platform.fleet.model.Branch;
+import com.smartautorental.platform.fleet.model.Car;
+import com.smartautorental.platform.fleet.model.CarCategory;
+import com.smartautorental.platform.fleet.model.CarStatus;
+import com.smartautorental.platform.fleet.repo.CarRepository;
+import com.smartautorental.platform.identity.model.User;
+import com.smartautorental.platform.payment.core.PaymentCoreResult;
+import com.smartautorental.platform.payment.service.PaymentService;
+import com.smartautorental.platform.pricing.dto.CategoryAvailability;
+import com.smartautorental.platform.pricing.dto.PriceQuote;
+import com.smartautorental.platform.pricing.service.PricingService;
+import com.smartautorental.platform.pricing.token.QuoteTerms;
+import com.smartautorental.platform.pricing.token.QuoteTokenService;
+import com.smartautorental.platform.security.CurrentUserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BookingCreationPhasesTest {
+
+    private final BookingServiceFixture fixture = new BookingServiceFixture();
+    private final BookingRepository bookingRepository = fixture.bookingRepository;
+    private final CarRepository carRepository = fixture.carRepository;
+    private final PricingService pricingService = fixture.pricingService;
+    private final CurrentUserService currentUserService = fixture.currentUserService;
+    private final PaymentService paymentService = fixture.paymentService;
+    private final BookingAuditService bookingAuditService = fixture.bookingAuditService;
+    private final SimpleMeterRegistry meterRegistry = fixture.meterRegistry;
+    private final QuoteTokenService quoteTokenService = fixture.quoteTokenService;
+
+    private BookingService bookingService;
+    private final AtomicReference<Booking> stored = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() {
+        bookingService = fixture.bookingService();
+
+        User customer = new User();
+        customer.setId(7L);
+        customer.setEmail("customer@smartauto.local");
+        Branch branch = new Branch();
+        branch.setId(1L);
+        Car car = new Car();
+        car.setId(3L);
+        car.setBranch(branch);
+        car.setCategory(CarCategory.SUV);
+        car.setStatus(CarStatus.AVAILABLE);
+        car.setLicensePlate("CC333CC");
+        car.setBaseDailyRate(new BigDecimal("110.00"));
+
+        BigDecimal amount = new BigDecimal("220.00");
+        when(currentUserService.requireCurrentUser()).thenReturn(customer);
+        when(carRepository.findByIdForUpdate(3L)).thenReturn(Optional.of(car));
+        when(pricingService.fleetAvailability(1L)).thenReturn(new CategoryAvailability(1L, Map.of()));
+        when(pricingService.quote(eq(car), any(), any(), anyBoolean(), any(), anyLong())).thenReturn(new PriceQuote(
+                amount, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO,
+                amount, BigDecimal.ONE));
+        when(bookingRepository.saveAndFlush(any(Booking.class))).thenAnswer(invocation -> {
+            Booking booking = invocation.getArgument(0);
+            booking.setId(99L);
+            stored.set(booking);
+            return booking;
+        });
+        when(bookingRepository.findByIdForUpdate(99L)).thenAnswer(invocation -> Optional.ofNullable(stored.get()));
+    }
+
+    @Test
+    void shouldCompensateReservationWhenChargeFailsAndSurfaceTheError() {
+        BusinessException unavailable = new BusinessException(ErrorCode.INTERNAL_ERROR, "Payment core is unavailable");
+        when(paymentService.chargeInitial(any(Booking.class))).thenThrow(unavailable);
+
+        Instant start = Instant.now().plus(10, ChronoUnit.DAYS);
+        assertThatThrownBy(() -> bookingService.create(new BookingCreateRequest(
+                3L, start, start.plus(2, ChronoUnit.DAYS), false, null, false, false, null)))
+                .isSameAs(unavailable);
+
+        assertThat(stored.get().getStatus()).isEqualTo(BookingStatus.PAYMENT_FAILED);
+        assertThat(stored.get().getPaymentStatus()).isEqualTo(PaymentStatus.FAILED);
+        // The INITIATED charge row written with the reservation is left for reconciliation.
+        verify(paymentService).initiateCharges(List.of(stored.get()));
+        verify(paymentService, never()).recordInitialPayment(any(), any());
+        verify(bookingAuditService).log(eq(99L), eq("PAYMENT_COMPENSATED"), eq("system"), any());
+        assertThat(meterRegistry.get("booking.create.phase.duration").tag("phase", "charge").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldLeaveAChargeThatSucceedsAfterTheHoldExpiredForReconciliation() {
+        assertLateChargeIsLeftForReconciliation(BookingStatus.EXPIRED);
+    }
+
+    @Test
+    void shouldLeaveAChargeThatSucceedsAfterCancelForReconciliation() {
+        assertLateChargeIsLeftForReconciliation(BookingStatus.CANCELLED);
+    }
+
+    private void assertLateChargeIsLeftForReconciliation(BookingStatus closedAs) {
+        when(paymentService.chargeInitial(any(Booking.class))).thenAnswer(invocation -> {
+            // The hold wheel or a cancel closes the booking while the core call is in flight.
+            stored.get().setStatus(closedAs);
+            return new PaymentCoreResult(PaymentStatus.SUCCESS, "core-1");
+        });
+
+        Instant start = Instant.now().plus(10, ChronoUnit.DAYS);
+        bookingService.create(new BookingCreateRequest(
+                3L, start, start.plus(2, ChronoUnit.DAYS), false, null, false, false, null));
+
+        assertThat(stored.get().getStatus()).isEqualTo(closedAs);
+        assertThat(stored.get().getPaymentStatus()).isEqualTo(PaymentStatus.PENDING);
+        verify(bookingRepository).findByIdForUpdate(99L);
+        verify(paymentService, never()).recordInitialPayment(any(), any());
+        verify(bookingAuditService).log(eq(99L), eq("PAYMENT_ATTEMPT"), any(), contains("left for reconciliation"));
+    }
+
+    @Test
+    void shouldReuseTheSignedQuoteInsteadOfRepricing() {
+        Instant start = Instant.now().plus(10, ChronoUnit.DAYS);
+        Instant end = start.plus(2, ChronoUnit.DAYS);
+        BigDecimal shown = new BigDecimal("199.00");
+        String token = quoteTokenService.issue(new QuoteTerms(3L, new BigDecimal("110.00"), start, end, false, null),
+                new PriceQuote(shown, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO,
+                        BigDecimal.ZERO, BigDecimal.ZERO, shown, BigDecimal.ONE));
+
+        bookingService.create(new BookingCreateRequest(3L, start, end, false, null, true, false, token));
+
+        assertThat(stored.get().getTotalPrice()).isEqualByComparingTo(shown);
+        verify(pricingService, never()).fleetAvailability(anyLong());
+        verify(pricingService, never()).quote(any(Car.class), any(), any(), anyBoolean(), any(), anyLong());
+        assertThat(meterRegistry.get("booking.quote_token.total").tag("outcome", "accepted").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldRepriceWhenTheTokenDoesNotMatchTheRequest() {
+        Instant start = Instant.now().plus(10, ChronoUnit.DAYS);
+        Instant end = start.plus(2, ChronoUnit.DAYS);
+        String token = quoteTokenService.issue(new QuoteTerms(3L, new BigDecimal("110.00"), start, end, false, null),
+                new PriceQuote(BigDecimal.ONE, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO,
+                        BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ONE, BigDecimal.ONE));
+
+        bookingService.create(new BookingCreateRequest(3L, start, end, true, null, true, false, token));
+
+        assertThat(stored.get().getTotalPrice()).isEqualByComparingTo("220.00");
+        assertThat(meterRegistry.get("booking.quote_token.total").tag("outcome", "mismatch").counter().count())
+                .isEqualTo(1);
+    }
+}
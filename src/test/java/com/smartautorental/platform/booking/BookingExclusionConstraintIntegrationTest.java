@@ -0,0 +1,96 @@
+package com.smartautorental.platform.booking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.smartautorental.platform.booking.dto.BookingCreateRequest;
+import com.smartautorental.platform.booking.dto.BookingResponse;
+import com.smartautorental.platform.booking.model.BookingStatus;
+import com.smartautorental.platform.booking.service.BookingService;
+import com.smartautorental.platform.common.exception.BusinessException;
+import com.smartautorental.platform.common.exception.ErrorCode;
+import com.smartautorental.platform.config.AbstractIntegrationTest;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "app.booking.concurrency-mode=constraint")
+class BookingExclusionConstraintIntegrationTest extends AbstractIntegrationTest {
+
+    private static final String CUSTOMER = "customer@smartauto.local";
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldRejectOverlappingActiveBookingsInTheDatabase() {
+        authenticateAs(CUSTOMER);
+        bookingService.create(request(4L, "2032-03-01T10:00:00Z", "2032-03-03T10:00:00Z"));
+        Long customerId = userRepository.findByEmailIgnoreCase(CUSTOMER).orElseThrow().getId();
+
+        assertThatThrownBy(() -> insertRaw(customerId, 4L, "2032-03-02T10:00:00Z", "2032-03-04T10:00:00Z", "CONFIRMED"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+
+        insertRaw(customerId, 4L, "2032-03-02T10:00:00Z", "2032-03-04T10:00:00Z", "CANCELLED");
+        insertRaw(customerId, 4L, "2032-03-03T10:00:00Z", "2032-03-05T10:00:00Z", "CONFIRMED");
+    }
+
+    @Test
+    void shouldAcceptOneOfTwoConcurrentOverlappingBookingsWithoutCarLock() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Object>> outcomes = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            for (int i = 0; i < 2; i++) {
+                outcomes.add(executor.submit((Callable<Object>) () -> {
+                    authenticateAs(CUSTOMER);
+                    start.await();
+                    try {
+                        return bookingService.create(request(5L, "2032-04-01T10:00:00Z", "2032-04-03T10:00:00Z"));
+                    } catch (BusinessException ex) {
+                        return ex.getErrorCode();
+                    }
+                }));
+            }
+            start.countDown();
+        }
+
+        List<Object> results = new ArrayList<>();
+        for (Future<Object> outcome : outcomes) {
+            results.add(outcome.get());
+        }
+        assertThat(results).filteredOn(BookingResponse.class::isInstance)
+                .singleElement()
+                .extracting(r -> ((BookingResponse) r).status())
+                .isEqualTo(BookingStatus.CONFIRMED);
+        assertThat(results).contains(ErrorCode.CONFLICT);
+    }
+
+    private BookingCreateRequest request(Long carId, String start, String end) {
+        return new BookingCreateRequest(carId, Instant.parse(start), Instant.parse(end), false, null, false, false, null);
+    }
+
+    private void insertRaw(Long customerId, Long carId, String start, String end, String status) {
+        jdbcTemplate.update("""
+                        insert into bookings (created_at, updated_at, version, code, customer_id, car_id, branch_id,
+                                              start_time, end_time, status, payment_mode, payment_status)
+                        select now(), now(), 0, ?, ?, c.id, c.branch_id, ?, ?, ?, 'PAY_AT_DESK', 'PENDING'
+                        from cars c where c.id = ?
+                        """,
+                "RAW-" + System.nanoTime(), customerId,
+                Timestamp.from(Instant.parse(start)), Timestamp.from(Instant.parse(end)), status, carId);
+    }
+}
@@ -0,0 +1,47 @@
+package com.smartautorental.platform.booking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.smartautorental.platform.booking.dto.BookingCreateRequest;
+import com.smartautorental.platform.booking.dto.BookingResponse;
+import com.smartautorental.platform.booking.service.BookingService;
+import com.smartautorental.platform.common.pagination.CursorPage;
+import com.smartautorental.platform.config.AbstractIntegrationTest;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class BookingPaginationIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Test
+    void shouldWalkMyBookingsWithKeysetCursorsWithoutGapsOrDuplicates() {
+        authenticateAs("customer@smartauto.local");
+
+        Instant start = Instant.parse("2031-02-01T10:00:00Z");
+        for (int i = 0; i < 5; i++) {
+            Instant slotStart = start.plus(i * 3L, ChronoUnit.DAYS);
+            bookingService.create(new BookingCreateRequest(
+                    3L, slotStart, slotStart.plus(1, ChronoUnit.DAYS), false, null, false, false, null));
+        }
+
+        List<Long> paged = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<BookingResponse> page = bookingService.myBookingsPage(cursor, 2);
+            assertThat(page.items()).hasSizeLessThanOrEqualTo(2);
+            page.items().forEach(booking -> paged.add(booking.id()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        CursorPage<BookingResponse> single = bookingService.myBookingsPage(null, CursorPage.MAX_LIMIT);
+        assertThat(single.hasMore()).isFalse();
+        List<Long> all = single.items().stream().map(BookingResponse::id).toList();
+        assertThat(paged).doesNotHaveDuplicates().containsExactlyElementsOf(all);
+    }
+}
@@ -0,0 +1,95 @@
+package com.smartautorental.platform.booking;
+
+import static org.mockito.Mockito.mock;
+
+import com.smartautorental.platform.booking.code.RandomBookingCodeGenerator;
+import com.smartautorental.platform.booking.config.BookingProperties;
+import com.smartautorental.platform.booking.repo.BookingAuditRepository;
+import com.smartautorental.platform.booking.repo.BookingRepository;
+import com.smartautorental.platform.booking.repo.WaitlistRepository;
+import com.smartautorental.platform.booking.service.BookingAuditService;
+import com.smartautorental.platform.booking.service.BookingService;
+import com.smartautorental.platform.booking.service.BulkBookingService;
+import com.smartautorental.platform.fleet.repo.CarRepository;
+import com.smartautorental.platform.maintenance.service.MaintenanceService;
+import com.smartautorental.platform.notification.NotificationService;
+import com.smartautorental.platform.observability.BookingMetrics;
+import com.smartautorental.platform.payment.service.PaymentService;
+import com.smartautorental.platform.pricing.config.PricingProperties;
+import com.smartautorental.platform.pricing.service.PricingService;
+import com.smartautorental.platform.pricing.token.QuoteTokenService;
+import com.smartautorental.platform.security.CurrentUserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Mocked collaborators of {@link BookingService} and {@link BulkBookingService}. Tests stub the fields they care
+ * about, adjust {@link #bookingProperties} if needed, and then call {@link #bookingService()}.
+ */
+final class BookingServiceFixture {
+
+    final BookingRepository bookingRepository = mock(BookingRepository.class);
+    final WaitlistRepository waitlistRepository = mock(WaitlistRepository.class);
+    final BookingAuditRepository bookingAuditRepository = mock(BookingAuditRepository.class);
+    final CarRepository carRepository = mock(CarRepository.class);
+    final MaintenanceService maintenanceService = mock(MaintenanceService.class);
+    final PricingService pricingService = mock(PricingService.class);
+    final CurrentUserService currentUserService = mock(CurrentUserService.class);
+    final PaymentService paymentService = mock(PaymentService.class);
+    final BookingAuditService bookingAuditService = mock(BookingAuditService.class);
+    final NotificationService notificationService = mock(NotificationService.class);
+    final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    final BookingMetrics bookingMetrics = new BookingMetrics(meterRegistry);
+    final BookingProperties bookingProperties = new BookingProperties();
+    final QuoteTokenService quoteTokenService = new QuoteTokenService(new PricingProperties());
+
+    private BookingService bookingService;
+
+    BookingService bookingService() {
+        if (bookingService == null) {
+            bookingService = new BookingService(
+                    bookingRepository,
+                    waitlistRepository,
+                    bookingAuditRepository,
+                    carRepository,
+                    maintenanceService,
+                    pricingService,
+                    currentUserService,
+                    paymentService,
+                    bookingAuditService,
+                    notificationService,
+                    bookingMetrics,
+                    eventPublisher,
+                    bookingProperties,
+                    transactionTemplate(),
+                    new RandomBookingCodeGenerator(),
+                    quoteTokenService);
+        }
+        return bookingService;
+    }
+
+    BulkBookingService bulkBookingService() {
+        return new BulkBookingService(
+                bookingService(),
+                bookingRepository,
+                carRepository,
+                maintenanceService,
+                pricingService,
+                paymentService,
+                bookingAuditService,
+                currentUserService,
+                notificationService,
+                bookingMetrics,
+                eventPublisher,
+                bookingProperties,
+                transactionTemplate());
+    }
+
+    private TransactionTemplate transactionTemplate() {
+        return new TransactionTemplate(transactionManager);
+    }
+}
@@ -0,0 +1,89 @@
+package com.smartautorental.platform.booking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.smartautorental.platform.booking.dto.BookingCreateRequest;
+import com.smartautorental.platform.booking.dto.BulkBookingItem;
+import com.smartautorental.platform.booking.dto.BulkBookingRequest;
+import com.smartautorental.platform.booking.model.BulkBookingMode;
+import com.smartautorental.platform.booking.service.BookingService;
+import com.smartautorental.platform.booking.service.BulkBookingService;
+import com.smartautorental.platform.config.AbstractIntegrationTest;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Insert round-trip regression test for the write path. Hibernate hands each prepared statement to the inspector
+ * once, and a JDBC batch reuses one prepared statement, so the insert count equals insert round trips.
+ */
+@TestPropertySource(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.smartautorental.platform.booking.BookingStatementCountIntegrationTest$CountingInspector")
+class BookingStatementCountIntegrationTest extends AbstractIntegrationTest {
+
+    private static final int BULK_ITEMS = 120;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BulkBookingService bulkBookingService;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchSize;
+
+    @Test
+    void shouldBatchInsertsForSingleAndBulkBookings() {
+        authenticateAs("customer@smartauto.local");
+        Instant start = Instant.parse("2033-03-01T10:00:00Z");
+
+        CountingInspector.reset();
+        bookingService.create(new BookingCreateRequest(
+                4L, start, start.plus(1, ChronoUnit.DAYS), false, null, true, false, null));
+        int singleInserts = CountingInspector.INSERTS.get();
+
+        List<BulkBookingItem> items = new ArrayList<>();
+        for (int i = 0; i < BULK_ITEMS; i++) {
+            Instant slotStart = start.plus(10L + i * 2L, ChronoUnit.DAYS);
+            items.add(new BulkBookingItem(4L, null, null, slotStart, slotStart.plus(1, ChronoUnit.DAYS)));
+        }
+        CountingInspector.reset();
+        var response = bulkBookingService.book(new BulkBookingRequest(
+                items, BulkBookingMode.ALL_OR_NOTHING, false, null, true));
+        int bulkInserts = CountingInspector.INSERTS.get();
+
+        assertThat(response.booked()).isEqualTo(BULK_ITEMS);
+        assertThat(singleInserts).isEqualTo(2);
+        // One booking and one audit row per item; with IDENTITY or without JDBC batching this was one round trip
+        // per row, so any regression pushes the count to 2 * BULK_ITEMS.
+        assertThat(bulkInserts)
+                .isLessThan(BULK_ITEMS)
+                .isLessThanOrEqualTo(2 * Math.ceilDiv(BULK_ITEMS, batchSize));
+    }
+
+    public static class CountingInspector implements StatementInspector {
+
+        static final AtomicInteger INSERTS = new AtomicInteger();
+
+        static void reset() {
+            INSERTS.set(0);
+        }
+
+        @Override
+        public String inspect(String sql) {
+            if (sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("insert")) {
+                INSERTS.incrementAndGet();
+            }
+            return sql;
+        }
+    }
+}
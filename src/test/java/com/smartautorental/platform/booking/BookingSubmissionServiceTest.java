@@ -0,0 +1,102 @@
+package com.smartautorental.platform.booking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.smartautorental.platform.booking.config.BookingProperties;
+import com.smartautorental.platform.booking.dto.BookingCreateRequest;
+import com.smartautorental.platform.booking.dto.BookingSubmissionResponse;
+import com.smartautorental.platform.booking.model.BookingSubmissionStatus;
+import com.smartautorental.platform.booking.service.BookingService;
+import com.smartautorental.platform.booking.service.BookingSubmissionService;
+import com.smartautorental.platform.common.exception.BusinessException;
+import com.smartautorental.platform.common.exception.ErrorCode;
+import com.smartautorental.platform.fleet.repo.CarRepository;
+import com.smartautorental.platform.identity.model.User;
+import com.smartautorental.platform.identity.model.UserRole;
+import com.smartautorental.platform.observability.BookingMetrics;
+import com.smartautorental.platform.security.CurrentUserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class BookingSubmissionServiceTest {
+
+    private final BookingService bookingService = mock(BookingService.class);
+    private final CarRepository carRepository = mock(CarRepository.class);
+    private final CurrentUserService currentUserService = mock(CurrentUserService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BookingSubmissionService submissionService;
+
+    @BeforeEach
+    void setUp() {
+        BookingProperties properties = new BookingProperties();
+        properties.getAsync().setLanes(1);
+        properties.getAsync().setLaneQueueCapacity(1);
+        submissionService = new BookingSubmissionService(bookingService, carRepository, currentUserService,
+                new BookingMetrics(meterRegistry), properties);
+
+        User customer = new User();
+        customer.setId(7L);
+        customer.setRole(UserRole.CUSTOMER);
+        when(currentUserService.requireCurrentUser()).thenReturn(customer);
+        when(carRepository.existsById(any())).thenReturn(true);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("customer", null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        submissionService.shutdown();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldAcceptQueueAndRejectWhenLaneIsFull() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(bookingService.create(any())).thenAnswer(invocation -> {
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+            running.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            throw new BusinessException(ErrorCode.CONFLICT, "Car already booked in selected window");
+        });
+
+        BookingSubmissionResponse first = submissionService.submit(request());
+        assertThat(first.status()).isEqualTo(BookingSubmissionStatus.QUEUED);
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        submissionService.submit(request());
+        assertThatThrownBy(() -> submissionService.submit(request()))
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.TOO_MANY_REQUESTS);
+        assertThat(meterRegistry.get("booking.submission.queue.depth").gauge().value()).isEqualTo(1.0);
+
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        BookingSubmissionResponse result = submissionService.get(first.trackingId());
+        while (result.status() != BookingSubmissionStatus.FAILED && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            result = submissionService.get(first.trackingId());
+        }
+        assertThat(result.status()).isEqualTo(BookingSubmissionStatus.FAILED);
+        assertThat(result.errorCode()).isEqualTo(ErrorCode.CONFLICT.name());
+        assertThat(meterRegistry.get("booking.submission.rejected.total").counter().count()).isEqualTo(1.0);
+    }
+
+    private BookingCreateRequest request() {
+        Instant start = Instant.now().plus(5, ChronoUnit.DAYS);
+        return new BookingCreateRequest(1L, start, start.plus(1, ChronoUnit.DAYS), false, null, false, false, null);
+    }
+}
@@ -0,0 +1,139 @@
+package com.smartautorental.platform.booking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.smartautorental.platform.booking.dto.BulkBookingItem;
+import com.smartautorental.platform.booking.dto.BulkBookingRequest;
+import com.smartautorental.platform.booking.dto.BulkBookingResponse;
+import com.smartautorental.platform.booking.model.Booking;
+import com.smartautorental.platform.booking.model.BookingStatus;
+import com.smartautorental.platform.booking.model.BulkBookingItemStatus;
+import com.smartautorental.platform.booking.model.BulkBookingMode;
+import com.smartautorental.platform.booking.repo.BookingRepository;
+import com.smartautorental.platform.booking.service.BookingAuditService;
+import com.smartautorental.platform.booking.service.BulkBookingService;
+import com.smartautorental.platform.fleet.model.Branch;
+import com.smartautorental.platform.fleet.model.Car;
+import com.smartautorental.platform.fleet.model.CarCategory;
+import com.smartautorental.platform.fleet.model.CarStatus;
+import com.smartautorental.platform.fleet.repo.CarRepository;
+import com.smartautorental.platform.identity.model.User;
+import com.smartautorental.platform.maintenance.service.MaintenanceService;
+import com.smartautorental.platform.payment.service.PaymentService;
+import com.smartautorental.platform.pricing.dto.CategoryAvailability;
+import com.smartautorental.platform.pricing.dto.PriceQuote;
+import com.smartautorental.platform.pricing.service.PricingService;
+import com.smartautorental.platform.security.CurrentUserService;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+class BulkBookingServiceTest {
+
+    private final BookingServiceFixture fixture = new BookingServiceFixture();
+    private final BookingRepository bookingRepository = fixture.bookingRepository;
+    private final CarRepository carRepository = fixture.carRepository;
+    private final MaintenanceService maintenanceService = fixture.maintenanceService;
+    private final PricingService pricingService = fixture.pricingService;
+    private final CurrentUserService currentUserService = fixture.currentUserService;
+    private final PaymentService paymentService = fixture.paymentService;
+    private final BookingAuditService bookingAuditService = fixture.bookingAuditService;
+    private final PlatformTransactionManager transactionManager = fixture.transactionManager;
+    private final SimpleTransactionStatus transactionStatus = new SimpleTransactionStatus();
+    private final Instant start = Instant.now().plus(10, ChronoUnit.DAYS);
+
+    private BulkBookingService bulkBookingService;
+
+    @BeforeEach
+    void setUp() {
+        bulkBookingService = fixture.bulkBookingService();
+
+        User customer = new User();
+        customer.setId(7L);
+        customer.setEmail("corporate@smartauto.local");
+        Branch branch = new Branch();
+        branch.setId(1L);
+        Car first = car(3L, branch);
+        Car second = car(5L, branch);
+
+        BigDecimal amount = new BigDecimal("220.00");
+        when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+        when(currentUserService.requireCurrentUser()).thenReturn(customer);
+        when(carRepository.findAllByIdForUpdate(List.of(3L, 5L))).thenReturn(List.of(first, second));
+        when(bookingRepository.existsConflictingBooking(eq(5L), any(), any())).thenReturn(true);
+        when(pricingService.fleetAvailability(1L)).thenReturn(new CategoryAvailability(1L, Map.of()));
+        when(pricingService.quote(any(Car.class), any(), any(), anyBoolean(), any(), anyLong())).thenReturn(new PriceQuote(
+                amount, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO,
+                amount, BigDecimal.ONE));
+        AtomicLong ids = new AtomicLong(100);
+        when(bookingRepository.saveAll(any())).thenAnswer(invocation -> {
+            List<Booking> saved = new ArrayList<>();
+            for (Booking booking : invocation.<Iterable<Booking>>getArgument(0)) {
+                booking.setId(ids.incrementAndGet());
+                saved.add(booking);
+            }
+            return saved;
+        });
+    }
+
+    @Test
+    void shouldRollBackEveryItemWhenOneIsRejectedInAllOrNothingMode() {
+        BulkBookingResponse response = bulkBookingService.book(request(BulkBookingMode.ALL_OR_NOTHING));
+
+        assertThat(response.booked()).isZero();
+        assertThat(response.items()).extracting(r -> r.status())
+                .containsExactly(BulkBookingItemStatus.REJECTED, BulkBookingItemStatus.ROLLED_BACK);
+        assertThat(response.items().getFirst().errorCode()).isEqualTo("CONFLICT");
+        assertThat(transactionStatus.isRollbackOnly()).isTrue();
+        verify(bookingRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void shouldBookRemainingItemsInBestEffortModeAfterLockingCarsInIdOrder() {
+        BulkBookingResponse response = bulkBookingService.book(request(BulkBookingMode.BEST_EFFORT));
+
+        assertThat(response.booked()).isEqualTo(1);
+        assertThat(response.failed()).isEqualTo(1);
+        assertThat(response.items().get(0).status()).isEqualTo(BulkBookingItemStatus.REJECTED);
+        assertThat(response.items().get(1).status()).isEqualTo(BulkBookingItemStatus.BOOKED);
+        assertThat(response.items().get(1).booking().status()).isEqualTo(BookingStatus.CONFIRMED);
+        assertThat(transactionStatus.isRollbackOnly()).isFalse();
+        verify(carRepository).findAllByIdForUpdate(List.of(3L, 5L));
+        verify(bookingAuditService).logAll(eq("BOOKING_CREATED"), eq("corporate@smartauto.local"), any());
+        verify(paymentService, never()).chargeInitial(any());
+    }
+
+    private BulkBookingRequest request(BulkBookingMode mode) {
+        Instant end = start.plus(2, ChronoUnit.DAYS);
+        return new BulkBookingRequest(List.of(
+                new BulkBookingItem(5L, null, null, start, end),
+                new BulkBookingItem(3L, null, null, start, end)),
+                mode, false, null, true);
+    }
+
+    private Car car(Long id, Branch branch) {
+        Car car = new Car();
+        car.setId(id);
+        car.setBranch(branch);
+        car.setCategory(CarCategory.SUV);
+        car.setStatus(CarStatus.AVAILABLE);
+        car.setLicensePlate("PLATE-" + id);
+        car.setBaseDailyRate(new BigDecimal("110.00"));
+        return car;
+    }
+}
@@ -0,0 +1,48 @@
+package com.smartautorental.platform.booking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.smartautorental.platform.common.concurrent.HierarchicalTimingWheel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class HierarchicalTimingWheelTest {
+
+    @Test
+    void shouldFireTimersAcrossLevelsNeverBeforeAndWithinOneTickAfterDeadline() {
+        long start = 1_000_000L;
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(100, 8, start);
+        Random random = new Random(42);
+        List<Long> deadlines = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            long deadline = start + 1 + random.nextInt(2_000_000);
+            deadlines.add(deadline);
+            assertThat(wheel.schedule((long) i, deadline)).isTrue();
+        }
+
+        List<Long> fired = new ArrayList<>();
+        for (long now = start; now <= start + 2_100_000; now += 37) {
+            long observedAt = now;
+            wheel.advance(now, (id, deadline) -> {
+                assertThat(deadline).isEqualTo(deadlines.get(id.intValue()));
+                assertThat(observedAt).isGreaterThanOrEqualTo(deadline).isLessThan(deadline + 100 + 37);
+                fired.add(id);
+            });
+        }
+
+        assertThat(fired).hasSize(500).doesNotHaveDuplicates();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void shouldRejectDeadlinesThatHaveAlreadyPassed() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(200, 64, 10_000);
+
+        assertThat(wheel.schedule("past", 9_000)).isFalse();
+        assertThat(wheel.schedule("now", 10_000)).isFalse();
+        assertThat(wheel.schedule("next-tick", 10_001)).isTrue();
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+}
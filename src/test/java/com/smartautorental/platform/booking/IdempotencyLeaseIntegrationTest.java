@@ -0,0 +1,52 @@
+package com.smartautorental.platform.booking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.smartautorental.platform.common.idempotency.IdempotencyRecordRepository;
+import com.smartautorental.platform.common.idempotency.IdempotencyStatus;
+import com.smartautorental.platform.config.AbstractIntegrationTest;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class IdempotencyLeaseIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private IdempotencyRecordRepository repository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void shouldTakeOverInProgressClaimOnlyAfterItsLeaseAndFenceTheStaleOwner() {
+        Instant crashed = Instant.now().minus(Duration.ofMinutes(5)).truncatedTo(ChronoUnit.MICROS);
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        Duration ttl = Duration.ofDays(1);
+
+        assertThat(claim("lease-key", crashed, ttl, Duration.ofMinutes(1))).isEqualTo(1);
+        assertThat(claim("live-key", now, ttl, Duration.ofMinutes(1))).isEqualTo(1);
+
+        // The crashed owner's lease ran out long before its 24h expiry; the live one still blocks.
+        assertThat(claim("lease-key", now, ttl, Duration.ofMinutes(1))).isEqualTo(1);
+        assertThat(claim("live-key", now.plusSeconds(1), ttl, Duration.ofMinutes(1))).isZero();
+
+        assertThat(complete("lease-key", crashed)).isZero();
+        assertThat(complete("lease-key", now)).isEqualTo(1);
+        assertThat(repository.findById("lease-key").orElseThrow().getLockedUntil()).isNull();
+
+        // A completed key is never taken over by the lease, only by its expiry.
+        assertThat(claim("lease-key", now.plus(Duration.ofHours(1)), ttl, Duration.ofMinutes(1))).isZero();
+    }
+
+    private int claim(String key, Instant at, Duration ttl, Duration lease) {
+        return transactionTemplate.execute(status -> repository.claim(key, "hash", at, at.plus(ttl), at.plus(lease)));
+    }
+
+    private int complete(String key, Instant claimedAt) {
+        return transactionTemplate.execute(status ->
+                repository.complete(key, claimedAt, IdempotencyStatus.COMPLETED, "{}"));
+    }
+}
@@ -0,0 +1,119 @@
+package com.smartautorental.platform.booking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.smartautorental.platform.common.exception.BusinessException;
+import com.smartautorental.platform.common.exception.ErrorCode;
+import com.smartautorental.platform.common.idempotency.IdempotencyProperties;
+import com.smartautorental.platform.common.idempotency.IdempotencyRecord;
+import com.smartautorental.platform.common.idempotency.IdempotencyRecordRepository;
+import com.smartautorental.platform.common.idempotency.IdempotencyService;
+import com.smartautorental.platform.common.idempotency.IdempotencyStatus;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class IdempotencyServiceTest {
+
+    private final IdempotencyRecordRepository repository = mock(IdempotencyRecordRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final IdempotencyService idempotencyService = new IdempotencyService(
+            repository,
+            new IdempotencyProperties(),
+            new ObjectMapper().registerModule(new JavaTimeModule()),
+            transactionManager);
+
+    @Test
+    void shouldReplayStoredResponseWithoutRunningTheActionAgain() {
+        when(repository.claim(anyString(), anyString(), any(), any(), any())).thenReturn(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        Map<?, ?> first = idempotencyService.execute("booking_create", "key-1", Map.of("carId", 3), Map.class,
+                () -> Map.of("bookingId", calls.incrementAndGet()));
+        Map<?, ?> replayed = idempotencyService.execute("booking_create", "key-1", Map.of("carId", 3), Map.class,
+                () -> Map.of("bookingId", calls.incrementAndGet()));
+
+        assertThat(calls).hasValue(1);
+        assertThat(replayed).isEqualTo(first);
+        verify(repository).complete(anyString(), any(), eq(IdempotencyStatus.COMPLETED), eq("{\"bookingId\":1}"));
+    }
+
+    @Test
+    void shouldRejectKeyReusedWithDifferentRequest() {
+        when(repository.claim(anyString(), anyString(), any(), any(), any())).thenReturn(1);
+        idempotencyService.execute("booking_create", "key-2", Map.of("carId", 3), Map.class, () -> Map.of("bookingId", 1));
+
+        assertThatThrownBy(() -> idempotencyService.execute("booking_create", "key-2", Map.of("carId", 4), Map.class,
+                () -> Map.of("bookingId", 2)))
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.VALIDATION_ERROR);
+    }
+
+    @Test
+    void shouldReportInFlightKeyAsConflictAndReleaseFailedClaims() {
+        IdempotencyRecord inFlight = new IdempotencyRecord();
+        inFlight.setStatus(IdempotencyStatus.IN_PROGRESS);
+        inFlight.setExpiresAt(Instant.now().plusSeconds(60));
+        when(repository.claim(anyString(), anyString(), any(), any(), any())).thenReturn(0);
+        when(repository.findById(anyString())).thenReturn(Optional.of(inFlight));
+
+        assertThatThrownBy(() -> idempotencyService.execute("payment_retry", "key-3", Map.of("bookingId", 9),
+                Map.class, Map::of))
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.CONFLICT);
+
+        when(repository.claim(anyString(), anyString(), any(), any(), any())).thenReturn(1);
+        assertThatThrownBy(() -> idempotencyService.execute("payment_retry", "key-4", Map.of("bookingId", 9),
+                Map.class, () -> {
+                    throw new IllegalStateException("payment core down");
+                }))
+                .isInstanceOf(IllegalStateException.class);
+        verify(repository).release(anyString(), any(), eq(IdempotencyStatus.IN_PROGRESS));
+    }
+
+    @Test
+    void shouldClaimWithShortLeaseAndFenceCompletionOnTheClaimTime() {
+        when(repository.claim(anyString(), anyString(), any(), any(), any())).thenReturn(1);
+        when(repository.complete(anyString(), any(), any(), anyString())).thenReturn(1);
+
+        idempotencyService.execute("booking_create", "key-5", Map.of("carId", 3), Map.class, () -> Map.of("bookingId", 1));
+
+        ArgumentCaptor<Instant> claimedAt = ArgumentCaptor.forClass(Instant.class);
+        ArgumentCaptor<Instant> expiresAt = ArgumentCaptor.forClass(Instant.class);
+        ArgumentCaptor<Instant> lockedUntil = ArgumentCaptor.forClass(Instant.class);
+        verify(repository).claim(anyString(), anyString(), claimedAt.capture(), expiresAt.capture(), lockedUntil.capture());
+        IdempotencyProperties defaults = new IdempotencyProperties();
+        assertThat(lockedUntil.getValue()).isEqualTo(claimedAt.getValue().plusMillis(defaults.getLeaseMs()));
+        assertThat(expiresAt.getValue()).isEqualTo(claimedAt.getValue().plusMillis(defaults.getTtlMs()));
+        verify(repository).complete(anyString(), eq(claimedAt.getValue()), eq(IdempotencyStatus.COMPLETED), anyString());
+    }
+
+    @Test
+    void shouldRollBackTransactionalActionWhoseLeaseWasTakenOver() {
+        when(repository.claim(anyString(), anyString(), any(), any(), any())).thenReturn(1);
+        when(repository.complete(anyString(), any(), any(), anyString())).thenReturn(0);
+
+        assertThatThrownBy(() -> idempotencyService.executeTransactional("payment_retry", "key-6",
+                Map.of("bookingId", 9), Map.class, () -> Map.of("status", "CONFIRMED")))
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.CONFLICT);
+        verify(transactionManager).rollback(any());
+        verify(repository).release(anyString(), any(), eq(IdempotencyStatus.IN_PROGRESS));
+    }
+}
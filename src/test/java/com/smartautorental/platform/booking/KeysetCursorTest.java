@@ -0,0 +1,36 @@
+package com.smartautorental.platform.booking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.smartautorental.platform.common.exception.BusinessException;
+import com.smartautorental.platform.common.pagination.CursorPage;
+import com.smartautorental.platform.common.pagination.KeysetCursor;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class KeysetCursorTest {
+
+    @Test
+    void shouldRoundTripCursorWithMicrosecondPrecision() {
+        KeysetCursor cursor = new KeysetCursor(Instant.parse("2030-04-01T08:15:30.123456Z"), 42L);
+
+        assertThat(KeysetCursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThatThrownBy(() -> KeysetCursor.decode("not-a-cursor")).isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void shouldUseTheExtraRowOnlyToSignalANextPage() {
+        Instant createdAt = Instant.parse("2030-04-01T08:00:00Z");
+        List<Long> rows = List.of(5L, 4L, 3L);
+
+        CursorPage<Long> page = CursorPage.of(rows, 2, id -> new KeysetCursor(createdAt, id), id -> id);
+
+        assertThat(page.items()).containsExactly(5L, 4L);
+        assertThat(page.hasMore()).isTrue();
+        assertThat(KeysetCursor.decode(page.nextCursor()).id()).isEqualTo(4L);
+        assertThat(CursorPage.of(List.of(1L), 2, id -> new KeysetCursor(createdAt, id), id -> id).nextCursor()).isNull();
+    }
+}
@@ -27,7 +27,8 @@ class PaymentConfirmationIntegrationTest extends AbstractIntegrationTest {
                 true,
                 "WELCOME10",
                 false,
-                false
+                false,
+                null
         ));
 
         assertThat(response.status()).isEqualTo(BookingStatus.CONFIRMED);
@@ -0,0 +1,103 @@
+package com.smartautorental.platform.booking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.smartautorental.platform.booking.config.BookingProperties;
+import com.smartautorental.platform.booking.event.PaymentHoldPlacedEvent;
+import com.smartautorental.platform.booking.model.PaymentMode;
+import com.smartautorental.platform.booking.repo.BookingRepository;
+import com.smartautorental.platform.booking.service.BookingService;
+import com.smartautorental.platform.booking.service.PaymentHoldService;
+import com.smartautorental.platform.observability.BookingMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PaymentHoldServiceTest {
+
+    private final BookingService bookingService = mock(BookingService.class);
+    private final BookingRepository bookingRepository = mock(BookingRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PaymentHoldService holdService = new PaymentHoldService(
+            bookingService, bookingRepository, new BookingMetrics(meterRegistry), new BookingProperties());
+
+    @AfterEach
+    void stopTicker() {
+        holdService.shutdown();
+    }
+
+    @Test
+    void shouldRestorePendingHoldsOnStartupAndExpireOverdueOnesInOneBatch() {
+        Instant now = Instant.now();
+        when(bookingRepository.findPendingHolds()).thenReturn(List.of(
+                hold(1L, now.minus(Duration.ofHours(2))),
+                hold(2L, now),
+                hold(3L, now.minus(Duration.ofMinutes(20)))));
+        when(bookingService.expireHeldBookings(List.of(1L, 3L))).thenReturn(2);
+
+        holdService.start();
+
+        verify(bookingService).expireHeldBookings(List.of(1L, 3L));
+        assertThat(activeHolds()).isEqualTo(1);
+        assertThat(meterRegistry.get("booking.hold.expiry.lag").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldKeepLiveHoldInTheWheelUntilItsDeadline() {
+        when(bookingRepository.findPendingHolds()).thenReturn(List.of());
+        holdService.start();
+
+        holdService.place(new PaymentHoldPlacedEvent(7L, PaymentMode.ONLINE, Instant.now()));
+
+        assertThat(activeHolds()).isEqualTo(1);
+        verify(bookingService, never()).expireHeldBookings(anyCollection());
+    }
+
+    @Test
+    void shouldExpireHoldPlacedAfterItsDeadlineImmediately() {
+        holdService.place(new PaymentHoldPlacedEvent(7L, PaymentMode.ONLINE, Instant.now().minus(Duration.ofHours(1))));
+
+        verify(bookingService).expireHeldBookings(List.of(7L));
+        assertThat(activeHolds()).isZero();
+    }
+
+    @Test
+    void shouldSurviveExpiryFailureSoTheSweepCanRetry() {
+        when(bookingRepository.findPendingHolds()).thenReturn(List.of(hold(1L, Instant.now().minus(Duration.ofHours(1)))));
+        when(bookingService.expireHeldBookings(anyCollection())).thenThrow(new IllegalStateException("db down"));
+
+        holdService.start();
+
+        verify(bookingService).expireHeldBookings(List.of(1L));
+        holdService.place(new PaymentHoldPlacedEvent(8L, PaymentMode.ONLINE, Instant.now()));
+        assertThat(activeHolds()).isEqualTo(1);
+    }
+
+    private double activeHolds() {
+        return meterRegistry.get("booking.holds.active").gauge().value();
+    }
+
+    private BookingRepository.PendingHoldProjection hold(Long id, Instant createdAt) {
+        return new BookingRepository.PendingHoldProjection() {
+            public Long getId() {
+                return id;
+            }
+
+            public PaymentMode getPaymentMode() {
+                return PaymentMode.ONLINE;
+            }
+
+            public Instant getCreatedAt() {
+                return createdAt;
+            }
+        };
+    }
+}
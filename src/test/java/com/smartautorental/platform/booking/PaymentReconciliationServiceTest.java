@@ -0,0 +1,133 @@
+package com.smartautorental.platform.booking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.smartautorental.platform.booking.model.Booking;
+import com.smartautorental.platform.booking.model.BookingStatus;
+import com.smartautorental.platform.booking.model.PaymentStatus;
+import com.smartautorental.platform.booking.repo.BookingRepository;
+import com.smartautorental.platform.booking.service.BookingAuditService;
+import com.smartautorental.platform.fleet.model.Branch;
+import com.smartautorental.platform.fleet.model.Car;
+import com.smartautorental.platform.fleet.model.CarCategory;
+import com.smartautorental.platform.notification.NotificationService;
+import com.smartautorental.platform.payment.core.PaymentCoreClient;
+import com.smartautorental.platform.payment.core.PaymentCoreProperties;
+import com.smartautorental.platform.payment.core.PaymentCoreRefundRequest;
+import com.smartautorental.platform.payment.core.PaymentCoreResult;
+import com.smartautorental.platform.payment.model.PaymentTransaction;
+import com.smartautorental.platform.payment.repo.PaymentTransactionRepository;
+import com.smartautorental.platform.payment.service.PaymentReconciliationService;
+import com.smartautorental.platform.payment.service.PaymentService;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class PaymentReconciliationServiceTest {
+
+    private static final String REFERENCE = "booking-42-initial";
+
+    private final PaymentTransactionRepository paymentTransactionRepository = mock(PaymentTransactionRepository.class);
+    private final PaymentCoreClient paymentCoreClient = mock(PaymentCoreClient.class);
+    private final BookingAuditService bookingAuditService = mock(BookingAuditService.class);
+
+    private PaymentReconciliationService reconciliation;
+    private Booking booking;
+    private PaymentTransaction initiated;
+
+    @BeforeEach
+    void setUp() {
+        PaymentService paymentService = new PaymentService(paymentTransactionRepository, mock(BookingRepository.class),
+                bookingAuditService, mock(NotificationService.class), paymentCoreClient,
+                mock(ApplicationEventPublisher.class));
+        reconciliation = new PaymentReconciliationService(paymentTransactionRepository, paymentCoreClient,
+                paymentService, bookingAuditService, new PaymentCoreProperties(),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+
+        Branch branch = new Branch();
+        branch.setId(1L);
+        Car car = new Car();
+        car.setId(3L);
+        car.setBranch(branch);
+        car.setCategory(CarCategory.SUV);
+        booking = new Booking();
+        booking.setId(42L);
+        booking.setCar(car);
+        booking.setBranch(branch);
+        booking.setStatus(BookingStatus.PENDING_PAYMENT);
+        booking.setPaymentStatus(PaymentStatus.PENDING);
+        initiated = new PaymentTransaction();
+        initiated.setId(5L);
+        initiated.setBooking(booking);
+        initiated.setAmount(new BigDecimal("220.00"));
+        initiated.setStatus(PaymentStatus.INITIATED);
+        initiated.setIdempotencyReference(REFERENCE);
+
+        when(paymentTransactionRepository.findByStatusAndCreatedAtBeforeOrderByCreatedAt(
+                eq(PaymentStatus.INITIATED), any(), any())).thenReturn(List.of(initiated));
+        when(paymentTransactionRepository.findById(5L)).thenReturn(Optional.of(initiated));
+    }
+
+    @Test
+    void shouldConfirmHeldBookingWhenTheCoreChargedBeforeTheCrash() {
+        when(paymentCoreClient.find(REFERENCE)).thenReturn(Optional.of(new PaymentCoreResult(PaymentStatus.SUCCESS, "core-1")));
+
+        assertThat(reconciliation.reconcileStaleCharges()).isEqualTo(1);
+
+        assertThat(initiated.getStatus()).isEqualTo(PaymentStatus.SUCCESS);
+        assertThat(initiated.getProviderReference()).isEqualTo("core-1");
+        assertThat(booking.getStatus()).isEqualTo(BookingStatus.CONFIRMED);
+        verify(paymentCoreClient, never()).refund(any());
+    }
+
+    @Test
+    void shouldRefundChargeOfBookingThatExpiredMeanwhile() {
+        booking.setStatus(BookingStatus.EXPIRED);
+        when(paymentCoreClient.find(REFERENCE)).thenReturn(Optional.of(new PaymentCoreResult(PaymentStatus.SUCCESS, "core-1")));
+        when(paymentCoreClient.refund(any())).thenReturn(new PaymentCoreResult(PaymentStatus.REFUNDED, "refund-1"));
+
+        reconciliation.reconcileStaleCharges();
+
+        ArgumentCaptor<PaymentCoreRefundRequest> refund = ArgumentCaptor.forClass(PaymentCoreRefundRequest.class);
+        verify(paymentCoreClient).refund(refund.capture());
+        assertThat(refund.getValue().chargeReference()).isEqualTo(REFERENCE);
+        assertThat(refund.getValue().amount()).isEqualByComparingTo("220.00");
+        assertThat(initiated.getStatus()).isEqualTo(PaymentStatus.REFUNDED);
+        assertThat(booking.getStatus()).isEqualTo(BookingStatus.EXPIRED);
+        verify(bookingAuditService).log(eq(42L), eq("PAYMENT_REFUNDED"), eq("system"), any());
+    }
+
+    @Test
+    void shouldFailChargeTheCoreNeverReceived() {
+        when(paymentCoreClient.find(REFERENCE)).thenReturn(Optional.empty());
+
+        reconciliation.reconcileStaleCharges();
+
+        assertThat(initiated.getStatus()).isEqualTo(PaymentStatus.FAILED);
+        assertThat(booking.getStatus()).isEqualTo(BookingStatus.PAYMENT_FAILED);
+        verify(paymentCoreClient, never()).refund(any());
+    }
+
+    @Test
+    void shouldLeaveRowInitiatedWhenTheRefundFails() {
+        booking.setStatus(BookingStatus.PAYMENT_FAILED);
+        when(paymentCoreClient.find(REFERENCE)).thenReturn(Optional.of(new PaymentCoreResult(PaymentStatus.SUCCESS, "core-1")));
+        when(paymentCoreClient.refund(any())).thenThrow(new IllegalStateException("core down"));
+
+        assertThat(reconciliation.reconcileStaleCharges()).isZero();
+
+        assertThat(initiated.getStatus()).isEqualTo(PaymentStatus.INITIATED);
+    }
+}
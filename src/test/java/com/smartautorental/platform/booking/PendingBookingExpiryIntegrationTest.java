@@ -0,0 +1,140 @@
+package com.smartautorental.platform.booking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.smartautorental.platform.booking.dto.BookingCreateRequest;
+import com.smartautorental.platform.booking.event.PaymentHoldPlacedEvent;
+import com.smartautorental.platform.booking.model.BookingStatus;
+import com.smartautorental.platform.booking.model.PaymentMode;
+import com.smartautorental.platform.booking.repo.BookingRepository;
+import com.smartautorental.platform.booking.service.BookingService;
+import com.smartautorental.platform.config.AbstractIntegrationTest;
+import com.smartautorental.platform.fleet.model.CarCategory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class PendingBookingExpiryIntegrationTest extends AbstractIntegrationTest {
+
+    private static final Instant LONG_AGO = Instant.parse("2020-01-01T00:00:00Z");
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void authenticate() {
+        authenticateAs("customer@smartauto.local");
+    }
+
+    @Test
+    void shouldExpireOldestPendingBookingsChunkByChunk() {
+        Long oldest = pendingBooking(Instant.parse("2034-01-10T10:00:00Z"), LONG_AGO);
+        Long older = pendingBooking(Instant.parse("2034-01-14T10:00:00Z"), LONG_AGO.plus(1, ChronoUnit.HOURS));
+        Long fresh = pendingBooking(Instant.parse("2034-01-18T10:00:00Z"), Instant.now());
+        Long confirmed = booking(Instant.parse("2034-01-22T10:00:00Z"));
+        jdbcTemplate.update("update bookings set created_at = ? where id = ?", Timestamp.from(LONG_AGO), confirmed);
+        Instant threshold = LONG_AGO.plus(1, ChronoUnit.DAYS);
+
+        List<BookingRepository.ExpiredBookingProjection> first = expireChunk(threshold);
+        List<BookingRepository.ExpiredBookingProjection> second = expireChunk(threshold);
+
+        assertThat(first).singleElement().satisfies(row -> {
+            assertThat(row.getId()).isEqualTo(oldest);
+            assertThat(row.getCarId()).isEqualTo(5L);
+            assertThat(row.getBranchId()).isEqualTo(2L);
+            assertThat(CarCategory.valueOf(row.getCategory())).isEqualTo(CarCategory.LUXURY);
+            assertThat(row.getStartTime()).isEqualTo(Instant.parse("2034-01-10T10:00:00Z"));
+            assertThat(row.getEndTime()).isEqualTo(Instant.parse("2034-01-11T10:00:00Z"));
+        });
+        assertThat(second).extracting(BookingRepository.ExpiredBookingProjection::getId).containsExactly(older);
+        assertThat(expireChunk(threshold)).isEmpty();
+
+        assertThat(status(oldest)).isEqualTo(BookingStatus.EXPIRED);
+        assertThat(status(older)).isEqualTo(BookingStatus.EXPIRED);
+        assertThat(status(fresh)).isEqualTo(BookingStatus.PENDING_PAYMENT);
+        assertThat(status(confirmed)).isEqualTo(BookingStatus.CONFIRMED);
+    }
+
+    @Test
+    void shouldExpireOnlyHeldBookingsThatAreStillPending() {
+        Long held = pendingBooking(Instant.parse("2034-02-10T10:00:00Z"), Instant.now());
+        Long confirmed = booking(Instant.parse("2034-02-14T10:00:00Z"));
+        long version = bookingRepository.findById(held).orElseThrow().getVersion();
+
+        List<BookingRepository.ExpiredBookingProjection> expired = transactionTemplate.execute(status ->
+                bookingRepository.expireHeld(List.of(held, confirmed, Long.MAX_VALUE)));
+
+        assertThat(expired).extracting(BookingRepository.ExpiredBookingProjection::getId).containsExactly(held);
+        assertThat(bookingRepository.findById(held).orElseThrow().getVersion()).isEqualTo(version + 1);
+        assertThat(status(held)).isEqualTo(BookingStatus.EXPIRED);
+        assertThat(status(confirmed)).isEqualTo(BookingStatus.CONFIRMED);
+
+        // A second deadline firing for the same hold matches nothing.
+        List<BookingRepository.ExpiredBookingProjection> again = transactionTemplate.execute(status ->
+                bookingRepository.expireHeld(List.of(held)));
+        assertThat(again).isEmpty();
+    }
+
+    @Test
+    void shouldRegisterPaymentHoldOnlyWhenTheReservationCommits() {
+        double before = activeHolds();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new PaymentHoldPlacedEvent(Long.MAX_VALUE, PaymentMode.ONLINE, Instant.now()));
+            status.setRollbackOnly();
+        });
+        assertThat(activeHolds()).isEqualTo(before);
+
+        transactionTemplate.executeWithoutResult(status ->
+                eventPublisher.publishEvent(new PaymentHoldPlacedEvent(Long.MAX_VALUE - 1, PaymentMode.ONLINE,
+                        Instant.now())));
+        assertThat(activeHolds()).isEqualTo(before + 1);
+    }
+
+    private double activeHolds() {
+        return meterRegistry.get("booking.holds.active").gauge().value();
+    }
+
+    private List<BookingRepository.ExpiredBookingProjection> expireChunk(Instant threshold) {
+        return transactionTemplate.execute(status -> bookingRepository.expirePendingChunk(threshold, 1));
+    }
+
+    private Long pendingBooking(Instant start, Instant createdAt) {
+        Long id = booking(start);
+        jdbcTemplate.update("update bookings set status = 'PENDING_PAYMENT', created_at = ? where id = ?",
+                Timestamp.from(createdAt), id);
+        return id;
+    }
+
+    private Long booking(Instant start) {
+        return bookingService.create(new BookingCreateRequest(
+                5L, start, start.plus(1, ChronoUnit.DAYS), false, null, false, false, null)).id();
+    }
+
+    private BookingStatus status(Long bookingId) {
+        return bookingRepository.findById(bookingId).orElseThrow().getStatus();
+    }
+}
@@ -0,0 +1,90 @@
+package com.smartautorental.platform.booking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.smartautorental.platform.booking.repo.BookingRepository;
+import com.smartautorental.platform.booking.repo.WaitlistRepository;
+import com.smartautorental.platform.booking.service.BookingAuditService;
+import com.smartautorental.platform.booking.service.BookingService;
+import com.smartautorental.platform.fleet.event.CarOccupancyChangedEvent;
+import com.smartautorental.platform.fleet.model.CarCategory;
+import com.smartautorental.platform.notification.NotificationService;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+class PendingBookingExpiryTest {
+
+    private final BookingServiceFixture fixture = new BookingServiceFixture();
+    private final BookingRepository bookingRepository = fixture.bookingRepository;
+    private final WaitlistRepository waitlistRepository = fixture.waitlistRepository;
+    private final BookingAuditService bookingAuditService = fixture.bookingAuditService;
+    private final NotificationService notificationService = fixture.notificationService;
+    private final ApplicationEventPublisher eventPublisher = fixture.eventPublisher;
+    private final Instant start = Instant.now().plus(5, ChronoUnit.DAYS).truncatedTo(ChronoUnit.HOURS);
+
+    @Test
+    void shouldExpireInChunksWithBatchedAuditsAndReleaseFreedWindows() {
+        fixture.bookingProperties.setExpiryChunkSize(2);
+        BookingService bookingService = fixture.bookingService();
+
+        Instant threshold = Instant.now();
+        when(bookingRepository.expirePendingChunk(threshold, 2))
+                .thenReturn(List.of(row(1L, 0), row(2L, 3)))
+                .thenReturn(List.of(row(3L, 10)));
+
+        assertThat(bookingService.expirePendingBookings(threshold)).isEqualTo(3);
+
+        verify(bookingRepository, times(2)).expirePendingChunk(threshold, 2);
+        verify(bookingAuditService, times(2)).logAll(eq("BOOKING_EXPIRED"), eq("scheduler"), anyMap());
+        // Waitlist promotion reacts to these released windows after commit.
+        ArgumentCaptor<CarOccupancyChangedEvent> released = ArgumentCaptor.forClass(CarOccupancyChangedEvent.class);
+        verify(eventPublisher, times(3)).publishEvent(released.capture());
+        assertThat(released.getAllValues())
+                .allSatisfy(event -> {
+                    assertThat(event.active()).isFalse();
+                    assertThat(event.category()).isEqualTo(CarCategory.SUV);
+                })
+                .extracting(CarOccupancyChangedEvent::sourceId)
+                .containsExactly(1L, 2L, 3L);
+        verifyNoInteractions(waitlistRepository, notificationService);
+    }
+
+    private BookingRepository.ExpiredBookingProjection row(Long id, int dayOffset) {
+        Instant startTime = start.plus(dayOffset, ChronoUnit.DAYS);
+        return new BookingRepository.ExpiredBookingProjection() {
+            public Long getId() {
+                return id;
+            }
+
+            public Long getCarId() {
+                return 10L + id;
+            }
+
+            public Long getBranchId() {
+                return 1L;
+            }
+
+            public String getCategory() {
+                return CarCategory.SUV.name();
+            }
+
+            public Instant getStartTime() {
+                return startTime;
+            }
+
+            public Instant getEndTime() {
+                return startTime.plus(2, ChronoUnit.DAYS);
+            }
+        };
+    }
+}
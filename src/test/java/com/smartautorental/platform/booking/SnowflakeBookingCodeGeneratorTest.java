@@ -0,0 +1,134 @@
+package com.smartautorental.platform.booking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.smartautorental.platform.booking.code.SnowflakeBookingCodeGenerator;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class SnowflakeBookingCodeGeneratorTest {
+
+    private static final String CROCKFORD = "0123456789ABCDEFGHJKMNPQRSTVWXYZ";
+    private static final Instant EPOCH = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Test
+    void shouldEncodeTimestampNodeAndSequenceInSortableFixedWidthCodes() {
+        long now = EPOCH.toEpochMilli() + 123_456_789L;
+        SnowflakeBookingCodeGenerator generator = new SnowflakeBookingCodeGenerator(517, EPOCH, () -> now);
+
+        String first = generator.next();
+        String second = generator.next();
+
+        assertThat(first).matches("BKG-[0-9A-HJKMNP-TV-Z]{13}");
+        long id = decode(first);
+        assertThat(id >>> 22).isEqualTo(123_456_789L);
+        assertThat((id >>> 12) & 1023).isEqualTo(517);
+        assertThat(id & 4095).isZero();
+        assertThat(decode(second) & 4095).isEqualTo(1);
+        assertThat(second).isGreaterThan(first);
+    }
+
+    @Test
+    void shouldStayMonotonicWhenSequenceOverflowsOrClockStepsBack() {
+        AtomicLong clock = new AtomicLong(EPOCH.toEpochMilli() + 1_000);
+        SnowflakeBookingCodeGenerator generator = new SnowflakeBookingCodeGenerator(3, EPOCH, clock::get);
+
+        List<String> codes = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            codes.add(generator.next());
+        }
+        clock.addAndGet(-5_000);
+        for (int i = 0; i < 100; i++) {
+            codes.add(generator.next());
+        }
+        clock.addAndGet(60_000);
+        codes.add(generator.next());
+
+        List<String> sorted = new ArrayList<>(codes);
+        Collections.sort(sorted);
+        assertThat(codes).isEqualTo(sorted).doesNotHaveDuplicates();
+        assertThat(decode(codes.getLast()) >>> 22).isEqualTo(61_000L - 5_000L);
+    }
+
+    @Test
+    void shouldNotReissueBorrowedMillisecondsAfterRestart() {
+        long now = EPOCH.toEpochMilli() + 5_000;
+        SnowflakeBookingCodeGenerator beforeRestart = new SnowflakeBookingCodeGenerator(3, EPOCH, () -> now);
+        String last = null;
+        for (int i = 0; i < 3 * 4096; i++) {
+            last = beforeRestart.next();
+        }
+        assertThat(decode(last) >>> 22).isEqualTo(5_002L);
+
+        // Restarted on the same node with the clock still inside the borrowed range, or stepped back.
+        SnowflakeBookingCodeGenerator afterRestart = new SnowflakeBookingCodeGenerator(3, EPOCH, () -> now - 1_000);
+        afterRestart.resumeAfter(last);
+        String resumed = afterRestart.next();
+
+        assertThat(resumed).isGreaterThan(last);
+        assertThat(decode(resumed) >>> 22).isEqualTo(5_003L);
+        assertThat(decode(resumed) & 4095).isZero();
+
+        // An older code never moves the generator backwards.
+        afterRestart.resumeAfter(new SnowflakeBookingCodeGenerator(7, EPOCH, () -> now - 4_000).next());
+        assertThat(afterRestart.next()).isGreaterThan(resumed);
+    }
+
+    @Test
+    void shouldIssueUniqueCodesAcrossThreadsAndNodes() throws Exception {
+        SnowflakeBookingCodeGenerator nodeA = new SnowflakeBookingCodeGenerator(1, EPOCH, System::currentTimeMillis);
+        SnowflakeBookingCodeGenerator nodeB = new SnowflakeBookingCodeGenerator(2, EPOCH, System::currentTimeMillis);
+        int threads = 8;
+        int perThread = 20_000;
+
+        List<Callable<List<String>>> tasks = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            SnowflakeBookingCodeGenerator generator = t % 2 == 0 ? nodeA : nodeB;
+            tasks.add(() -> {
+                List<String> local = new ArrayList<>(perThread);
+                for (int i = 0; i < perThread; i++) {
+                    local.add(generator.next());
+                }
+                return local;
+            });
+        }
+        List<String> codes = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (Future<List<String>> result : executor.invokeAll(tasks)) {
+                assertThat(result.get()).isSorted();
+                codes.addAll(result.get());
+            }
+        }
+
+        Set<String> unique = new HashSet<>(codes);
+        assertThat(codes).hasSize(threads * perThread);
+        assertThat(unique).hasSize(threads * perThread);
+    }
+
+    @Test
+    void shouldRejectNodeIdsOutsideTenBits() {
+        assertThatThrownBy(() -> new SnowflakeBookingCodeGenerator(1024, EPOCH, System::currentTimeMillis))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SnowflakeBookingCodeGenerator(-1, EPOCH, System::currentTimeMillis))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static long decode(String code) {
+        long id = 0;
+        for (char c : code.substring("BKG-".length()).toCharArray()) {
+            id = (id << 5) | CROCKFORD.indexOf(c);
+        }
+        return id;
+    }
+}
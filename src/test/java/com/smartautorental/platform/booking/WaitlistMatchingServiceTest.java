@@ -0,0 +1,167 @@
+package com.smartautorental.platform.booking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.smartautorental.platform.booking.config.BookingProperties;
+import com.smartautorental.platform.booking.index.WaitlistIndex;
+import com.smartautorental.platform.booking.model.Booking;
+import com.smartautorental.platform.booking.model.WaitlistEntry;
+import com.smartautorental.platform.booking.model.WaitlistStatus;
+import com.smartautorental.platform.booking.repo.WaitlistRepository;
+import com.smartautorental.platform.booking.service.BookingService;
+import com.smartautorental.platform.booking.service.WaitlistMatchingService;
+import com.smartautorental.platform.fleet.event.CarOccupancyChangedEvent;
+import com.smartautorental.platform.fleet.event.OccupancySource;
+import com.smartautorental.platform.fleet.model.Branch;
+import com.smartautorental.platform.fleet.model.CarCategory;
+import com.smartautorental.platform.fleet.repo.CarRepository;
+import com.smartautorental.platform.identity.model.User;
+import com.smartautorental.platform.notification.NotificationService;
+import com.smartautorental.platform.observability.BookingMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class WaitlistMatchingServiceTest {
+
+    private final WaitlistRepository waitlistRepository = mock(WaitlistRepository.class);
+    private final CarRepository carRepository = mock(CarRepository.class);
+    private final BookingService bookingService = mock(BookingService.class);
+    private final NotificationService notificationService = mock(NotificationService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BookingProperties bookingProperties = new BookingProperties();
+    private final WaitlistIndex waitlistIndex = new WaitlistIndex(waitlistRepository);
+    private final Instant start = Instant.now().plus(5, ChronoUnit.DAYS).truncatedTo(ChronoUnit.HOURS);
+
+    @Test
+    void shouldPromoteOldestClaimedEntriesOnlyWhileFreedCarsLast() {
+        WaitlistEntry first = entry(100L, "first@smartauto.local", 0);
+        WaitlistEntry second = entry(101L, "second@smartauto.local", 0);
+        index(first, second);
+        when(waitlistRepository.claimOverlapping(eq(1L), eq("SUV"), any(), any(), any(), eq(20)))
+                .thenReturn(List.of(first, second));
+        CarRepository.AvailableCarProjection freedCar = car(7L);
+        when(carRepository.findAvailableCars(eq(1L), eq("SUV"), any(), any())).thenReturn(List.of(freedCar));
+
+        service().onOccupancyChanged(released(0));
+
+        assertThat(first.getStatus()).isEqualTo(WaitlistStatus.FULFILLED);
+        assertThat(second.getStatus()).isEqualTo(WaitlistStatus.PENDING);
+        verify(notificationService).send(eq("first@smartauto.local"), eq("Car available from waitlist"), any());
+        verify(notificationService, never()).send(eq("second@smartauto.local"), any(), any());
+        verify(bookingService, never()).holdForWaitlist(any(), any());
+        assertThat(meterRegistry.get("booking.waitlist.promotions.total").tag("outcome", "notified").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldSkipTheClaimWhenNoPendingWindowOverlaps() {
+        index(entry(100L, "later@smartauto.local", 20));
+
+        service().onOccupancyChanged(released(0));
+
+        verify(waitlistRepository, never()).claimOverlapping(anyLong(), anyString(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void shouldHoldTheFreedCarWhenAutoBookingIsEnabled() {
+        bookingProperties.getWaitlist().setAutoBook(true);
+        WaitlistEntry waiting = entry(100L, "waiting@smartauto.local", 0);
+        index(waiting);
+        when(waitlistRepository.claimOverlapping(eq(1L), eq("SUV"), any(), any(), any(), eq(20)))
+                .thenReturn(List.of(waiting));
+        CarRepository.AvailableCarProjection freedCar = car(7L);
+        when(carRepository.findAvailableCars(eq(1L), eq("SUV"), any(), any())).thenReturn(List.of(freedCar));
+        Booking held = new Booking();
+        held.setCode("BKG-HELD");
+        when(bookingService.holdForWaitlist(waiting, 7L)).thenReturn(held);
+
+        service().onOccupancyChanged(released(0));
+
+        assertThat(waiting.getStatus()).isEqualTo(WaitlistStatus.FULFILLED);
+        verify(notificationService).send(eq("waiting@smartauto.local"), eq("Car reserved from waitlist"), any());
+        assertThat(meterRegistry.get("booking.waitlist.promotions.total").tag("outcome", "booked").counter().count())
+                .isEqualTo(1);
+    }
+
+    private WaitlistMatchingService service() {
+        return new WaitlistMatchingService(
+                waitlistRepository,
+                carRepository,
+                bookingService,
+                waitlistIndex,
+                notificationService,
+                new BookingMetrics(meterRegistry),
+                mock(ApplicationEventPublisher.class),
+                bookingProperties,
+                mock(PlatformTransactionManager.class));
+    }
+
+    private void index(WaitlistEntry... entries) {
+        when(waitlistRepository.findPendingWindows(any())).thenReturn(List.of(entries).stream()
+                .map(entry -> (WaitlistRepository.PendingWindowProjection) new WaitlistRepository.PendingWindowProjection() {
+                    public Long getId() {
+                        return entry.getId();
+                    }
+
+                    public Long getBranchId() {
+                        return 1L;
+                    }
+
+                    public String getCategory() {
+                        return entry.getCategory().name();
+                    }
+
+                    public Instant getStartTime() {
+                        return entry.getStartTime();
+                    }
+
+                    public Instant getEndTime() {
+                        return entry.getEndTime();
+                    }
+                })
+                .toList());
+        waitlistIndex.reload();
+    }
+
+    private CarOccupancyChangedEvent released(int dayOffset) {
+        Instant startTime = start.plus(dayOffset, ChronoUnit.DAYS);
+        return new CarOccupancyChangedEvent(OccupancySource.BOOKING, 50L, 7L, 1L, CarCategory.SUV,
+                startTime, startTime.plus(2, ChronoUnit.DAYS), false);
+    }
+
+    private CarRepository.AvailableCarProjection car(Long id) {
+        CarRepository.AvailableCarProjection car = mock(CarRepository.AvailableCarProjection.class);
+        when(car.getCarId()).thenReturn(id);
+        return car;
+    }
+
+    private WaitlistEntry entry(Long id, String email, int dayOffset) {
+        User customer = new User();
+        customer.setEmail(email);
+        Branch branch = new Branch();
+        branch.setId(1L);
+        WaitlistEntry entry = new WaitlistEntry();
+        entry.setId(id);
+        entry.setCustomer(customer);
+        entry.setBranch(branch);
+        entry.setCategory(CarCategory.SUV);
+        entry.setStatus(WaitlistStatus.PENDING);
+        entry.setStartTime(start.plus(dayOffset, ChronoUnit.DAYS));
+        entry.setEndTime(start.plus(dayOffset + 1, ChronoUnit.DAYS));
+        return entry;
+    }
+}
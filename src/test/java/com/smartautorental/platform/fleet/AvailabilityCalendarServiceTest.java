@@ -0,0 +1,104 @@
+package com.smartautorental.platform.fleet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.smartautorental.platform.booking.repo.BookingRepository;
+import com.smartautorental.platform.fleet.config.AvailabilityProperties;
+import com.smartautorental.platform.fleet.dto.SlotRun;
+import com.smartautorental.platform.fleet.model.CalendarGranularity;
+import com.smartautorental.platform.fleet.model.CalendarGrouping;
+import com.smartautorental.platform.fleet.model.Car;
+import com.smartautorental.platform.fleet.model.CarCategory;
+import com.smartautorental.platform.fleet.model.CarStatus;
+import com.smartautorental.platform.fleet.repo.CarRepository;
+import com.smartautorental.platform.fleet.service.AvailabilityCalendarService;
+import com.smartautorental.platform.maintenance.repo.MaintenanceRepository;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class AvailabilityCalendarServiceTest {
+
+    private static final Instant FROM = Instant.parse("2026-11-02T00:00:00Z");
+
+    private final CarRepository carRepository = Mockito.mock(CarRepository.class);
+    private final BookingRepository bookingRepository = Mockito.mock(BookingRepository.class);
+    private final MaintenanceRepository maintenanceRepository = Mockito.mock(MaintenanceRepository.class);
+
+    private AvailabilityCalendarService calendarService;
+
+    @BeforeEach
+    void setUp() {
+        calendarService = new AvailabilityCalendarService(
+                carRepository, bookingRepository, maintenanceRepository, new AvailabilityProperties());
+
+        when(carRepository.findByBranchIdAndStatus(1L, CarStatus.AVAILABLE))
+                .thenReturn(List.of(car(10L), car(11L)));
+        when(bookingRepository.findBlockingWindowsForBranch(eq(1L), anyCollection(), any(), any()))
+                .thenReturn(List.of(new BookingWindow(1L, 10L, day(2), day(4))));
+        when(maintenanceRepository.findBlockingWindowsForBranch(eq(1L), anyCollection(), any(), any()))
+                .thenReturn(List.of(new MaintenanceWindow(2L, 11L, day(3).plusSeconds(3600), day(5))));
+    }
+
+    @Test
+    void shouldEncodeFreeSlotsPerCarAsRuns() {
+        var calendar = calendarService.calendar(1L, FROM, day(7), CalendarGranularity.DAY, CalendarGrouping.CAR, null);
+
+        assertThat(calendar.slotCount()).isEqualTo(7);
+        assertThat(calendar.rows()).hasSize(2);
+        assertThat(calendar.rows().get(0).freeRuns())
+                .containsExactly(new SlotRun(0, 2, 1), new SlotRun(4, 3, 1));
+        assertThat(calendar.rows().get(1).freeRuns())
+                .containsExactly(new SlotRun(0, 3, 1), new SlotRun(5, 2, 1));
+    }
+
+    @Test
+    void shouldAggregateFreeCarCountsPerCategory() {
+        var calendar = calendarService.calendar(1L, FROM, day(7), CalendarGranularity.DAY, CalendarGrouping.CATEGORY, null);
+
+        assertThat(calendar.rows()).singleElement().satisfies(row -> {
+            assertThat(row.category()).isEqualTo(CarCategory.ECONOMY);
+            assertThat(row.totalCars()).isEqualTo(2);
+            assertThat(row.freeRuns()).containsExactly(
+                    new SlotRun(0, 2, 2),
+                    new SlotRun(2, 1, 1),
+                    new SlotRun(4, 1, 1),
+                    new SlotRun(5, 2, 2));
+        });
+    }
+
+    private Car car(Long id) {
+        Car car = new Car();
+        car.setId(id);
+        car.setLicensePlate("PLATE" + id);
+        car.setCategory(CarCategory.ECONOMY);
+        car.setStatus(CarStatus.AVAILABLE);
+        return car;
+    }
+
+    private Instant day(int offset) {
+        return FROM.plusSeconds(offset * 86400L);
+    }
+
+    private record BookingWindow(Long id, Long carId, Instant startTime, Instant endTime)
+            implements BookingRepository.BlockingWindowProjection {
+        public Long getId() { return id; }
+        public Long getCarId() { return carId; }
+        public Instant getStartTime() { return startTime; }
+        public Instant getEndTime() { return endTime; }
+    }
+
+    private record MaintenanceWindow(Long id, Long carId, Instant startTime, Instant endTime)
+            implements MaintenanceRepository.BlockingWindowProjection {
+        public Long getId() { return id; }
+        public Long getCarId() { return carId; }
+        public Instant getStartTime() { return startTime; }
+        public Instant getEndTime() { return endTime; }
+    }
+}
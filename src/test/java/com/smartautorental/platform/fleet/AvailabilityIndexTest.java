@@ -0,0 +1,87 @@
+package com.smartautorental.platform.fleet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.smartautorental.platform.booking.repo.BookingRepository;
+import com.smartautorental.platform.fleet.config.AvailabilityProperties;
+import com.smartautorental.platform.fleet.event.CarOccupancyChangedEvent;
+import com.smartautorental.platform.fleet.event.OccupancySource;
+import com.smartautorental.platform.fleet.index.AvailabilityIndex;
+import com.smartautorental.platform.fleet.model.CarCategory;
+import com.smartautorental.platform.maintenance.repo.MaintenanceRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class AvailabilityIndexTest {
+
+    private final Instant base = Instant.now().plus(Duration.ofDays(10)).truncatedTo(ChronoUnit.HOURS);
+
+    private AvailabilityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new AvailabilityIndex(
+                Mockito.mock(BookingRepository.class),
+                Mockito.mock(MaintenanceRepository.class),
+                new AvailabilityProperties());
+        index.reload();
+    }
+
+    @Test
+    void shouldDetectOverlapsAcrossBookingAndMaintenanceWindows() {
+        index.onOccupancyChanged(window(OccupancySource.BOOKING, 1L, 0, 48, true));
+        index.onOccupancyChanged(window(OccupancySource.MAINTENANCE, 1L, 100, 110, true));
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.hasConflict(7L, at(10), at(20))).isTrue();
+        assertThat(index.hasConflict(7L, at(48), at(100))).isFalse();
+        assertThat(index.hasConflict(7L, at(90), at(101))).isTrue();
+        assertThat(index.hasConflict(8L, at(0), at(200))).isFalse();
+    }
+
+    @Test
+    void shouldReleaseWindowWhenSourceBecomesInactive() {
+        index.onOccupancyChanged(window(OccupancySource.BOOKING, 1L, 0, 48, true));
+        index.onOccupancyChanged(window(OccupancySource.MAINTENANCE, 1L, 10, 20, true));
+
+        index.onOccupancyChanged(window(OccupancySource.BOOKING, 1L, 0, 48, false));
+
+        assertThat(index.hasConflict(7L, at(30), at(40))).isFalse();
+        assertThat(index.hasConflict(7L, at(15), at(16))).isTrue();
+    }
+
+    @Test
+    void shouldMoveWindowOnRepeatedUpsert() {
+        index.onOccupancyChanged(window(OccupancySource.BOOKING, 1L, 0, 10, true));
+        index.onOccupancyChanged(window(OccupancySource.BOOKING, 1L, 50, 60, true));
+
+        assertThat(index.hasConflict(7L, at(0), at(10))).isFalse();
+        assertThat(index.hasConflict(7L, at(55), at(56))).isTrue();
+    }
+
+    @Test
+    void shouldNotKeepWindowsThatEndedBeforeTheRetentionHorizon() {
+        // base is ten days ahead, so these end well over a day in the past.
+        index.onOccupancyChanged(window(OccupancySource.BOOKING, 1L, -300, -280, true));
+
+        assertThat(index.hasConflict(7L, at(-290), at(-285))).isFalse();
+
+        index.onOccupancyChanged(window(OccupancySource.BOOKING, 2L, -300, 5, true));
+        index.onOccupancyChanged(window(OccupancySource.BOOKING, 3L, -290, -285, true));
+
+        assertThat(index.hasConflict(7L, at(-288), at(-287))).isTrue();
+        assertThat(index.hasConflict(7L, at(6), at(7))).isFalse();
+    }
+
+    private CarOccupancyChangedEvent window(OccupancySource source, Long id, int fromHour, int toHour, boolean active) {
+        return new CarOccupancyChangedEvent(source, id, 7L, 1L, CarCategory.ECONOMY, at(fromHour), at(toHour), active);
+    }
+
+    private Instant at(int hour) {
+        return base.plus(Duration.ofHours(hour));
+    }
+}
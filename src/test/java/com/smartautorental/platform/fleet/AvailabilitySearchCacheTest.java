@@ -0,0 +1,135 @@
+package com.smartautorental.platform.fleet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.smartautorental.platform.common.concurrent.SingleFlight;
+import com.smartautorental.platform.fleet.cache.AvailabilitySearchCache;
+import com.smartautorental.platform.fleet.cache.AvailabilitySearchKey;
+import com.smartautorental.platform.fleet.config.AvailabilityProperties;
+import com.smartautorental.platform.fleet.dto.AvailabilityCarResponse;
+import com.smartautorental.platform.fleet.event.CarOccupancyChangedEvent;
+import com.smartautorental.platform.fleet.event.CarStatusChangedEvent;
+import com.smartautorental.platform.fleet.event.OccupancySource;
+import com.smartautorental.platform.fleet.model.CarCategory;
+import com.smartautorental.platform.fleet.model.CarStatus;
+import com.smartautorental.platform.observability.AvailabilityMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AvailabilitySearchCacheTest {
+
+    private static final Instant START = Instant.parse("2030-01-10T10:00:00Z");
+    private static final Instant END = START.plus(2, ChronoUnit.DAYS);
+
+    private SimpleMeterRegistry meterRegistry;
+    private AvailabilitySearchCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new AvailabilitySearchCache(new AvailabilityProperties(), new AvailabilityMetrics(meterRegistry));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void shouldServeRepeatedSearchesFromCacheUntilAnOverlappingBookingChanges() {
+        AvailabilitySearchKey key = AvailabilitySearchKey.normalized(1L, START, END, CarCategory.ECONOMY);
+
+        cache.get(key, this::load);
+        cache.get(AvailabilitySearchKey.normalized(1L, START.plusMillis(250), END, CarCategory.ECONOMY), this::load);
+        assertThat(loads).hasValue(1);
+
+        cache.onOccupancyChanged(occupancy(2L, CarCategory.ECONOMY, END, END.plus(1, ChronoUnit.DAYS)));
+        cache.onOccupancyChanged(occupancy(1L, CarCategory.SUV, START, END));
+        cache.get(key, this::load);
+        assertThat(loads).hasValue(1);
+
+        cache.onOccupancyChanged(occupancy(1L, CarCategory.ECONOMY, END.minus(1, ChronoUnit.HOURS), END.plus(1, ChronoUnit.DAYS)));
+        cache.get(key, this::load);
+        assertThat(loads).hasValue(2);
+
+        assertThat(meterRegistry.get("availability.cache.hits.total").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("availability.cache.misses.total").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("availability.cache.invalidations.total").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldDropUncategorizedEntriesOnCarStatusChangeAndSkipResultsLoadedAcrossAWrite() {
+        AvailabilitySearchKey anyCategory = AvailabilitySearchKey.normalized(1L, START, END, null);
+        cache.get(anyCategory, this::load);
+
+        cache.onCarStatusChanged(new CarStatusChangedEvent(9L, 1L, CarCategory.LUXURY, CarStatus.IN_MAINTENANCE, false));
+        assertThat(cache.size()).isZero();
+
+        cache.get(anyCategory, () -> {
+            cache.onCarStatusChanged(new CarStatusChangedEvent(9L, 1L, CarCategory.LUXURY, CarStatus.AVAILABLE, false));
+            return load();
+        });
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldNotCacheCollapsedResultWhenInvalidationLandsDuringLeaderLoad() throws Exception {
+        AvailabilitySearchKey key = AvailabilitySearchKey.normalized(1L, START, END, CarCategory.ECONOMY);
+        CountDownLatch leaderLoading = new CountDownLatch(1);
+        CountDownLatch joined = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SingleFlight<AvailabilitySearchKey, AvailabilitySearchCache.Stamped> flight =
+                new SingleFlight<>(joined::countDown, () -> { });
+        Supplier<AvailabilitySearchCache.Stamped> collapsedLoad = () -> flight.execute(key, Duration.ofSeconds(5),
+                () -> cache.stamp(() -> {
+                    leaderLoading.countDown();
+                    await(release);
+                    return load();
+                }));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<AvailabilityCarResponse>> leader = executor.submit(() -> cache.getStamped(key, collapsedLoad));
+            assertThat(leaderLoading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            cache.onOccupancyChanged(occupancy(1L, CarCategory.ECONOMY, START, END));
+            Future<List<AvailabilityCarResponse>> joiner = executor.submit(() -> cache.getStamped(key, collapsedLoad));
+            assertThat(joined.await(5, TimeUnit.SECONDS)).isTrue();
+
+            release.countDown();
+            leader.get(5, TimeUnit.SECONDS);
+            joiner.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(cache.size()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<AvailabilityCarResponse> load() {
+        loads.incrementAndGet();
+        return List.of();
+    }
+
+    private CarOccupancyChangedEvent occupancy(Long branchId, CarCategory category, Instant start, Instant end) {
+        return new CarOccupancyChangedEvent(OccupancySource.BOOKING, 1L, 5L, branchId, category, start, end, true);
+    }
+}
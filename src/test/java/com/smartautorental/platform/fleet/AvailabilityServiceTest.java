@@ -0,0 +1,126 @@
+package com.smartautorental.platform.fleet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.smartautorental.platform.booking.repo.BookingRepository;
+import com.smartautorental.platform.fleet.cache.AvailabilitySearchCache;
+import com.smartautorental.platform.fleet.config.AvailabilityMode;
+import com.smartautorental.platform.fleet.config.AvailabilityProperties;
+import com.smartautorental.platform.fleet.dto.AvailabilityCarResponse;
+import com.smartautorental.platform.fleet.index.AvailabilityIndex;
+import com.smartautorental.platform.fleet.model.Branch;
+import com.smartautorental.platform.fleet.model.Car;
+import com.smartautorental.platform.fleet.model.CarCategory;
+import com.smartautorental.platform.fleet.model.CarStatus;
+import com.smartautorental.platform.fleet.repo.CarRepository;
+import com.smartautorental.platform.fleet.service.AvailabilityService;
+import com.smartautorental.platform.maintenance.service.MaintenanceService;
+import com.smartautorental.platform.observability.AvailabilityMetrics;
+import com.smartautorental.platform.pricing.config.PricingProperties;
+import com.smartautorental.platform.pricing.dto.PriceQuote;
+import com.smartautorental.platform.pricing.service.PricingService;
+import com.smartautorental.platform.pricing.token.QuoteTokenService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class AvailabilityServiceTest {
+
+    private final CarRepository carRepository = mock(CarRepository.class);
+    private final BookingRepository bookingRepository = mock(BookingRepository.class);
+    private final MaintenanceService maintenanceService = mock(MaintenanceService.class);
+    private final PricingService pricingService = mock(PricingService.class);
+    private final AvailabilityProperties availabilityProperties = new AvailabilityProperties();
+
+    private Instant start;
+    private Instant end;
+
+    @BeforeEach
+    void setUp() {
+        start = Instant.now().plus(10, ChronoUnit.DAYS).truncatedTo(ChronoUnit.HOURS);
+        end = start.plus(2, ChronoUnit.DAYS);
+        when(pricingService.fleetAvailability(1L)).thenReturn((category, from, to) ->
+                category == CarCategory.SUV && from.equals(start) && to.equals(end) ? 3 : 99);
+        when(pricingService.quote(any(Car.class), any(), any(), anyBoolean(), isNull(), anyLong()))
+                .thenAnswer(invocation -> quote(invocation.getArgument(5)));
+        when(pricingService.quote(eq(1L), any(BigDecimal.class), any(), any(), anyBoolean(), isNull(), anyLong()))
+                .thenAnswer(invocation -> quote(invocation.getArgument(6)));
+
+        Car car = new Car();
+        car.setId(7L);
+        car.setLicensePlate("AB123CD");
+        car.setBrand("BMW");
+        car.setModel("X3");
+        car.setCategory(CarCategory.SUV);
+        car.setStatus(CarStatus.AVAILABLE);
+        car.setBaseDailyRate(new BigDecimal("110.00"));
+        Branch branch = new Branch();
+        branch.setId(1L);
+        car.setBranch(branch);
+        when(carRepository.findByBranchIdAndStatus(1L, CarStatus.AVAILABLE)).thenReturn(List.of(car));
+        CarRepository.AvailableCarProjection free = projection();
+        when(carRepository.findAvailableCars(1L, null, start, end)).thenReturn(List.of(free));
+        when(carRepository.streamAvailableCars(1L, null, start, end)).thenAnswer(invocation -> Stream.of(free));
+    }
+
+    @Test
+    void shouldPriceEverySearchPathFromTheSameFleetAvailability() {
+        availabilityProperties.setMode(AvailabilityMode.SQL);
+        AvailabilityCarResponse conflictChecked = service().search(1L, start, end, null).getFirst();
+
+        availabilityProperties.setMode(AvailabilityMode.SET_QUERY);
+        AvailabilityCarResponse setQuery = service().search(1L, start, end, null).getFirst();
+
+        List<AvailabilityCarResponse> streamed = new ArrayList<>();
+        service().stream(1L, start, end, null, streamed::add);
+
+        assertThat(conflictChecked.estimatedTotalPrice()).isEqualByComparingTo("203.00");
+        assertThat(List.of(setQuery, streamed.getFirst())).allSatisfy(response -> {
+            assertThat(response.carId()).isEqualTo(7L);
+            assertThat(response.category()).isEqualTo(CarCategory.SUV);
+            assertThat(response.estimatedTotalPrice()).isEqualTo(conflictChecked.estimatedTotalPrice());
+            assertThat(response.dynamicFactor()).isEqualTo(conflictChecked.dynamicFactor());
+        });
+    }
+
+    // A fresh search cache per call, so each mode really loads.
+    private AvailabilityService service() {
+        AvailabilityMetrics metrics = new AvailabilityMetrics(new SimpleMeterRegistry());
+        return new AvailabilityService(carRepository, bookingRepository, maintenanceService, pricingService,
+                new QuoteTokenService(new PricingProperties()), mock(AvailabilityIndex.class), availabilityProperties,
+                new AvailabilitySearchCache(availabilityProperties, metrics), mock(PlatformTransactionManager.class),
+                metrics);
+    }
+
+    private PriceQuote quote(long availableCars) {
+        BigDecimal total = new BigDecimal("200.00").add(BigDecimal.valueOf(availableCars));
+        BigDecimal zero = BigDecimal.ZERO;
+        return new PriceQuote(total, zero, zero, zero, zero, zero, zero, total, BigDecimal.ONE);
+    }
+
+    private static CarRepository.AvailableCarProjection projection() {
+        CarRepository.AvailableCarProjection car = mock(CarRepository.AvailableCarProjection.class);
+        when(car.getCarId()).thenReturn(7L);
+        when(car.getLicensePlate()).thenReturn("AB123CD");
+        when(car.getBrand()).thenReturn("BMW");
+        when(car.getModel()).thenReturn("X3");
+        when(car.getCategory()).thenReturn("SUV");
+        when(car.getBranchId()).thenReturn(1L);
+        when(car.getBaseDailyRate()).thenReturn(new BigDecimal("110.00"));
+        return car;
+    }
+}
@@ -0,0 +1,58 @@
+package com.smartautorental.platform.fleet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.smartautorental.platform.config.AbstractIntegrationTest;
+import com.smartautorental.platform.fleet.repo.CarRepository;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+class AvailableCarsQueryPlanIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Test
+    @Transactional
+    void shouldProbeBookingAndMaintenancePeriodIndexes() {
+        jdbcTemplate.execute("set local enable_seqscan = off");
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("branchId", 1L);
+        params.put("category", "ECONOMY");
+        params.put("startTime", OffsetDateTime.parse("2026-11-10T10:00:00Z"));
+        params.put("endTime", OffsetDateTime.parse("2026-11-12T10:00:00Z"));
+
+        List<String> plan = new NamedParameterJdbcTemplate(jdbcTemplate).queryForList(
+                "explain " + CarRepository.AVAILABLE_CARS_QUERY, params, String.class);
+
+        assertThat(String.join("\n", plan))
+                .contains("idx_bookings_car_period")
+                .contains("idx_maintenance_period");
+    }
+
+    @Test
+    void shouldReturnOnlyFreeCarsOfTheRequestedCategory() {
+        var cars = carRepository.findAvailableCars(
+                1L,
+                "ECONOMY",
+                OffsetDateTime.parse("2026-11-10T10:00:00Z").toInstant(),
+                OffsetDateTime.parse("2026-11-12T10:00:00Z").toInstant());
+
+        assertThat(cars).isNotEmpty();
+        assertThat(cars).allSatisfy(car -> {
+            assertThat(car.getCategory()).isEqualTo("ECONOMY");
+            assertThat(car.getBranchId()).isEqualTo(1L);
+        });
+    }
+}
@@ -0,0 +1,209 @@
+package com.smartautorental.platform.fleet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.smartautorental.platform.booking.repo.BookingRepository;
+import com.smartautorental.platform.common.exception.BusinessException;
+import com.smartautorental.platform.common.exception.ErrorCode;
+import com.smartautorental.platform.fleet.config.AvailabilityProperties;
+import com.smartautorental.platform.fleet.dto.FlexibleAvailabilityResponse;
+import com.smartautorental.platform.fleet.model.Car;
+import com.smartautorental.platform.fleet.model.CarCategory;
+import com.smartautorental.platform.fleet.model.CarStatus;
+import com.smartautorental.platform.fleet.model.FlexibleSort;
+import com.smartautorental.platform.fleet.repo.CarRepository;
+import com.smartautorental.platform.fleet.service.FlexibleAvailabilityService;
+import com.smartautorental.platform.maintenance.repo.MaintenanceRepository;
+import com.smartautorental.platform.pricing.dto.PriceQuote;
+import com.smartautorental.platform.pricing.service.PricingService;
+import com.smartautorental.platform.pricing.token.QuoteTokenService;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FlexibleAvailabilityServiceTest {
+
+    private static final Duration DAY = Duration.ofDays(1);
+
+    private final CarRepository carRepository = mock(CarRepository.class);
+    private final BookingRepository bookingRepository = mock(BookingRepository.class);
+    private final MaintenanceRepository maintenanceRepository = mock(MaintenanceRepository.class);
+    private final PricingService pricingService = mock(PricingService.class);
+    private final QuoteTokenService quoteTokenService = mock(QuoteTokenService.class);
+
+    private final List<Car> cars = new ArrayList<>();
+    private final List<BookingRepository.BlockingWindowProjection> bookings = new ArrayList<>();
+    private final List<MaintenanceRepository.BlockingWindowProjection> maintenance = new ArrayList<>();
+    private final Map<Instant, String> pricesByStart = new HashMap<>();
+
+    private FlexibleAvailabilityService service;
+    private Instant preferredStart;
+
+    @BeforeEach
+    void setUp() {
+        preferredStart = Instant.now().plus(Duration.ofDays(10)).truncatedTo(ChronoUnit.HOURS);
+        service = new FlexibleAvailabilityService(carRepository, bookingRepository, maintenanceRepository,
+                pricingService, quoteTokenService, new AvailabilityProperties());
+
+        when(carRepository.findByBranchIdAndStatus(1L, CarStatus.AVAILABLE)).thenReturn(cars);
+        when(bookingRepository.findBlockingWindowsForBranch(eq(1L), any(), any(), any())).thenReturn(bookings);
+        when(maintenanceRepository.findBlockingWindowsForBranch(eq(1L), any(), any(), any())).thenReturn(maintenance);
+        when(pricingService.fleetAvailability(1L)).thenReturn((category, start, end) -> 5);
+        when(pricingService.quote(any(Car.class), any(), any(), anyBoolean(), isNull(), anyLong()))
+                .thenAnswer(invocation -> quote(pricesByStart.getOrDefault(invocation.<Instant>getArgument(1), "100.00")));
+        when(quoteTokenService.issue(any(), any())).thenReturn("token");
+    }
+
+    @Test
+    void shouldOfferWindowThatTouchesBusyWindowsOnBothSides() {
+        car(7L);
+        booking(7L, -1, 0);
+        booking(7L, 1, 2);
+
+        List<FlexibleAvailabilityResponse> results = search(0, FlexibleSort.EARLIEST);
+
+        assertThat(results).singleElement().satisfies(option -> {
+            assertThat(option.startTime()).isEqualTo(preferredStart);
+            assertThat(option.endTime()).isEqualTo(preferredStart.plus(DAY));
+            assertThat(option.quoteToken()).isEqualTo("token");
+        });
+    }
+
+    @Test
+    void shouldTreatOverlappingBookingAndMaintenanceAsOneBusyStretch() {
+        car(7L);
+        booking(7L, -2, 0.5);
+        maintenance(7L, 0, 1);
+
+        List<FlexibleAvailabilityResponse> results = search(2, FlexibleSort.EARLIEST);
+
+        assertThat(results).extracting(FlexibleAvailabilityResponse::startTime)
+                .containsExactly(preferredStart.plus(DAY));
+    }
+
+    @Test
+    void shouldSkipCarWhenEveryCandidateOverlapsAWindow() {
+        car(7L);
+        booking(7L, -3, -0.5);
+        maintenance(7L, -1, 0.5);
+        booking(7L, 0.25, 4);
+
+        assertThat(search(2, FlexibleSort.PRICE)).isEmpty();
+    }
+
+    @Test
+    void shouldOnlyShiftWithinTolerance() {
+        car(7L);
+        booking(7L, -1, 2);
+
+        assertThat(search(1, FlexibleSort.EARLIEST)).isEmpty();
+        assertThat(search(2, FlexibleSort.EARLIEST)).extracting(FlexibleAvailabilityResponse::startTime)
+                .containsExactly(preferredStart.minus(DAY.multipliedBy(2)));
+    }
+
+    @Test
+    void shouldRejectToleranceOutsideConfiguredRange() {
+        car(7L);
+        int max = new AvailabilityProperties().getFlexibleMaxToleranceDays();
+
+        assertThat(search(max, FlexibleSort.EARLIEST)).hasSize(1);
+        assertThatThrownBy(() -> search(max + 1, FlexibleSort.EARLIEST))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        ex -> assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.VALIDATION_ERROR));
+        assertThatThrownBy(() -> search(-1, FlexibleSort.EARLIEST))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void shouldDropCandidatesThatStartInThePast() {
+        car(7L);
+        preferredStart = Instant.now().plus(Duration.ofHours(12)).truncatedTo(ChronoUnit.SECONDS);
+        pricesByStart.put(preferredStart.minus(DAY), "10.00");
+
+        List<FlexibleAvailabilityResponse> results = search(1, FlexibleSort.PRICE);
+
+        assertThat(results).singleElement()
+                .satisfies(option -> assertThat(option.startTime()).isAfterOrEqualTo(preferredStart));
+
+        preferredStart = Instant.now().minus(Duration.ofDays(3));
+        assertThatThrownBy(() -> search(1, FlexibleSort.PRICE)).isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void shouldPreferEarlierWindowWhenPricesTie() {
+        car(7L);
+        pricesByStart.put(preferredStart.minus(DAY), "80.00");
+        pricesByStart.put(preferredStart.plus(DAY), "80.00");
+
+        assertThat(search(1, FlexibleSort.PRICE)).singleElement()
+                .satisfies(option -> assertThat(option.startTime()).isEqualTo(preferredStart.minus(DAY)));
+    }
+
+    @Test
+    void shouldBreakFullTiesByCarId() {
+        car(9L);
+        car(3L);
+        car(5L);
+
+        assertThat(search(0, FlexibleSort.PRICE)).extracting(FlexibleAvailabilityResponse::carId)
+                .containsExactly(3L, 5L, 9L);
+        assertThat(search(0, FlexibleSort.EARLIEST)).extracting(FlexibleAvailabilityResponse::carId)
+                .containsExactly(3L, 5L, 9L);
+    }
+
+    private List<FlexibleAvailabilityResponse> search(int toleranceDays, FlexibleSort sort) {
+        return service.search(1L, preferredStart, preferredStart.plus(DAY), toleranceDays, null, sort);
+    }
+
+    private void car(Long id) {
+        Car car = new Car();
+        car.setId(id);
+        car.setLicensePlate("PLATE" + id);
+        car.setBrand("Fiat");
+        car.setModel("Panda");
+        car.setCategory(CarCategory.ECONOMY);
+        car.setBaseDailyRate(new BigDecimal("100.00"));
+        car.setStatus(CarStatus.AVAILABLE);
+        cars.add(car);
+    }
+
+    private void booking(Long carId, double fromDays, double toDays) {
+        BookingRepository.BlockingWindowProjection window = mock(BookingRepository.BlockingWindowProjection.class);
+        when(window.getCarId()).thenReturn(carId);
+        when(window.getStartTime()).thenReturn(offset(fromDays));
+        when(window.getEndTime()).thenReturn(offset(toDays));
+        bookings.add(window);
+    }
+
+    private void maintenance(Long carId, double fromDays, double toDays) {
+        MaintenanceRepository.BlockingWindowProjection window = mock(MaintenanceRepository.BlockingWindowProjection.class);
+        when(window.getCarId()).thenReturn(carId);
+        when(window.getStartTime()).thenReturn(offset(fromDays));
+        when(window.getEndTime()).thenReturn(offset(toDays));
+        maintenance.add(window);
+    }
+
+    private Instant offset(double days) {
+        return preferredStart.plus(Duration.ofMinutes(Math.round(days * DAY.toMinutes())));
+    }
+
+    private PriceQuote quote(String total) {
+        BigDecimal zero = BigDecimal.ZERO;
+        return new PriceQuote(new BigDecimal(total), zero, zero, zero, zero, zero, zero, new BigDecimal(total), BigDecimal.ONE);
+    }
+}
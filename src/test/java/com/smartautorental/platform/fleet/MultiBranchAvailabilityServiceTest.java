@@ -0,0 +1,72 @@
+package com.smartautorental.platform.fleet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.smartautorental.platform.fleet.config.AvailabilityProperties;
+import com.smartautorental.platform.fleet.dto.AvailabilityCarResponse;
+import com.smartautorental.platform.fleet.dto.BranchAvailabilityCarResponse;
+import com.smartautorental.platform.fleet.model.Branch;
+import com.smartautorental.platform.fleet.model.CarCategory;
+import com.smartautorental.platform.fleet.repo.BranchRepository;
+import com.smartautorental.platform.fleet.service.AvailabilityService;
+import com.smartautorental.platform.fleet.service.MultiBranchAvailabilityService;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class MultiBranchAvailabilityServiceTest {
+
+    private final AvailabilityService availabilityService = Mockito.mock(AvailabilityService.class);
+    private final BranchRepository branchRepository = Mockito.mock(BranchRepository.class);
+    private MultiBranchAvailabilityService service;
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void shouldMergeBranchesAndFlagSlowOnesAsDegraded() {
+        AvailabilityProperties properties = new AvailabilityProperties();
+        properties.setFanOutTimeoutMs(300);
+        service = new MultiBranchAvailabilityService(availabilityService, branchRepository, properties);
+
+        when(branchRepository.findByCityIgnoreCaseOrderById("Milano"))
+                .thenReturn(List.of(branch(1L), branch(2L), branch(3L)));
+        when(availabilityService.search(eq(1L), any(), any(), any()))
+                .thenReturn(List.of(car(11L, "120.00")));
+        when(availabilityService.search(eq(2L), any(), any(), any()))
+                .thenReturn(List.of(car(21L, "80.00")));
+        when(availabilityService.search(eq(3L), any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(5000);
+                    return List.of(car(31L, "10.00"));
+                });
+
+        var response = service.search(null, "Milano",
+                Instant.parse("2026-12-01T10:00:00Z"), Instant.parse("2026-12-03T10:00:00Z"), null);
+
+        assertThat(response.degraded()).isTrue();
+        assertThat(response.incompleteBranchIds()).containsExactly(3L);
+        assertThat(response.cars()).extracting(BranchAvailabilityCarResponse::carId).containsExactly(21L, 11L);
+    }
+
+    private Branch branch(Long id) {
+        Branch branch = new Branch();
+        branch.setId(id);
+        branch.setName("Branch " + id);
+        branch.setCity("Milano");
+        return branch;
+    }
+
+    private AvailabilityCarResponse car(Long id, String price) {
+        return new AvailabilityCarResponse(id, "PLATE" + id, "Fiat", "500", CarCategory.ECONOMY,
+                new BigDecimal(price), BigDecimal.ONE, null);
+    }
+}
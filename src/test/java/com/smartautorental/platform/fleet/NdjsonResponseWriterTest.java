@@ -0,0 +1,51 @@
+package com.smartautorental.platform.fleet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartautorental.platform.common.web.NdjsonResponseWriter;
+import com.smartautorental.platform.fleet.dto.AvailabilityCarResponse;
+import com.smartautorental.platform.fleet.model.CarCategory;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class NdjsonResponseWriterTest {
+
+    private final NdjsonResponseWriter writer = new NdjsonResponseWriter(new ObjectMapper());
+
+    @Test
+    void shouldWriteOneJsonDocumentPerLine() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        writer.<AvailabilityCarResponse>write(response, sink -> {
+            sink.accept(car(1L));
+            sink.accept(car(2L));
+        });
+
+        assertThat(response.getContentType()).startsWith("application/x-ndjson");
+        String[] lines = response.getContentAsString().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{\"carId\":1,");
+        assertThat(lines[1]).startsWith("{\"carId\":2,");
+        assertThat(response.getContentAsString()).endsWith("}\n");
+    }
+
+    @Test
+    void shouldNotCommitResponseWhenProducerFailsBeforeFirstItem() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThatThrownBy(() -> writer.<AvailabilityCarResponse>write(response, sink -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(response.isCommitted()).isFalse();
+        assertThat(response.getContentType()).isNull();
+    }
+
+    private AvailabilityCarResponse car(Long id) {
+        return new AvailabilityCarResponse(id, "AB" + id, "Fiat", "Panda", CarCategory.ECONOMY,
+                new BigDecimal("100.00"), BigDecimal.ONE, null);
+    }
+}
@@ -0,0 +1,86 @@
+package com.smartautorental.platform.fleet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.smartautorental.platform.common.concurrent.SingleFlight;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    @Test
+    void shouldShareOneComputationAcrossConcurrentCallersWithTheSameKey() throws Exception {
+        AtomicInteger collapsed = new AtomicInteger();
+        AtomicInteger loads = new AtomicInteger();
+        SingleFlight<String, Integer> flight = new SingleFlight<>(collapsed::incrementAndGet, () -> { });
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Integer>> results = new ArrayList<>();
+            results.add(executor.submit(() -> flight.execute("branch-1", Duration.ofSeconds(5), () -> {
+                loads.incrementAndGet();
+                await(release);
+                return 42;
+            })));
+            while (flight.inFlightCount() == 0) {
+                Thread.onSpinWait();
+            }
+            for (int i = 0; i < 10; i++) {
+                results.add(executor.submit(() -> flight.execute("branch-1", Duration.ofSeconds(5), () -> {
+                    loads.incrementAndGet();
+                    return -1;
+                })));
+            }
+            while (collapsed.get() < 10) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            for (Future<Integer> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+            }
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(flight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void shouldComputeIndependentlyWhenTheInFlightCallExceedsTheTimeout() throws Exception {
+        AtomicInteger timeouts = new AtomicInteger();
+        SingleFlight<String, Integer> flight = new SingleFlight<>(() -> { }, timeouts::incrementAndGet);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Integer> slow = executor.submit(() -> flight.execute("k", Duration.ofSeconds(5), () -> {
+                await(release);
+                return 1;
+            }));
+            while (flight.inFlightCount() == 0) {
+                Thread.onSpinWait();
+            }
+
+            assertThat(flight.execute("k", Duration.ofMillis(20), () -> 2)).isEqualTo(2);
+            release.countDown();
+            assertThat(slow.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        }
+
+        assertThat(timeouts).hasValue(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
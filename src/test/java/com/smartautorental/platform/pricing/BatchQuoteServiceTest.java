@@ -0,0 +1,161 @@
+package com.smartautorental.platform.pricing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.smartautorental.platform.common.exception.BusinessException;
+import com.smartautorental.platform.booking.repo.BookingRepository;
+import com.smartautorental.platform.fleet.config.AvailabilityProperties;
+import com.smartautorental.platform.fleet.model.Branch;
+import com.smartautorental.platform.fleet.model.Car;
+import com.smartautorental.platform.fleet.model.CarCategory;
+import com.smartautorental.platform.fleet.model.CarStatus;
+import com.smartautorental.platform.fleet.repo.BranchRepository;
+import com.smartautorental.platform.fleet.repo.CarRepository;
+import com.smartautorental.platform.maintenance.repo.MaintenanceRepository;
+import com.smartautorental.platform.observability.AvailabilityMetrics;
+import com.smartautorental.platform.pricing.calendar.PricingCalendar;
+import com.smartautorental.platform.pricing.config.PricingProperties;
+import com.smartautorental.platform.pricing.dto.BatchQuoteItem;
+import com.smartautorental.platform.pricing.dto.BatchQuoteRequest;
+import com.smartautorental.platform.pricing.dto.BatchQuoteResponse;
+import com.smartautorental.platform.pricing.dto.QuoteWindow;
+import com.smartautorental.platform.pricing.occupancy.OccupancyCounters;
+import com.smartautorental.platform.pricing.repo.PricingCalendarRuleRepository;
+import com.smartautorental.platform.pricing.service.BatchQuoteService;
+import com.smartautorental.platform.pricing.service.CentsPricingEngine;
+import com.smartautorental.platform.pricing.service.CouponService;
+import com.smartautorental.platform.pricing.service.PricingService;
+import com.smartautorental.platform.pricing.token.QuoteTokenService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class BatchQuoteServiceTest {
+
+    private final CarRepository carRepository = Mockito.mock(CarRepository.class);
+    private final PricingProperties pricingProperties = new PricingProperties();
+    private final PricingCalendar pricingCalendar = new PricingCalendar(
+            Mockito.mock(PricingCalendarRuleRepository.class), Mockito.mock(BranchRepository.class), pricingProperties);
+    private final PricingService pricingService = new PricingService(
+            carRepository,
+            new CentsPricingEngine(new CouponService()),
+            pricingCalendar,
+            new OccupancyCounters(carRepository, Mockito.mock(BookingRepository.class),
+                    Mockito.mock(MaintenanceRepository.class), pricingProperties,
+                    new AvailabilityMetrics(new SimpleMeterRegistry())),
+            new AvailabilityProperties(),
+            new AvailabilityMetrics(new SimpleMeterRegistry()));
+    private final List<BatchQuoteService> services = new ArrayList<>();
+
+    @AfterEach
+    void shutdown() {
+        services.forEach(BatchQuoteService::shutdown);
+    }
+
+    @Test
+    void shouldPriceEveryCellLikeASingleQuoteSequentiallyAndInParallel() {
+        List<Car> cars = List.of(car(1L, 10L, CarCategory.SUV, "95.00"), car(2L, 10L, CarCategory.ECONOMY, "39.90"),
+                car(3L, 20L, CarCategory.SUV, "120.50"));
+        Mockito.when(carRepository.findAllById(Mockito.any())).thenReturn(cars);
+        List<QuoteWindow> windows = windows(40);
+        BatchQuoteRequest request = new BatchQuoteRequest(null, List.of(3L, 1L, 2L), null, windows, true, "WELCOME10");
+
+        BatchQuoteResponse sequential = service(1_000_000).quote(request);
+        BatchQuoteResponse parallel = service(1).quote(request);
+
+        assertThat(sequential.parallel()).isFalse();
+        assertThat(parallel.parallel()).isTrue();
+        // One category snapshot per branch and request, however many cells were priced.
+        Mockito.verify(carRepository, Mockito.times(2 + 2)).countByCategory(Mockito.anyLong(),
+                Mockito.eq(CarStatus.AVAILABLE));
+        Mockito.verify(carRepository, Mockito.times(2)).findAllById(Mockito.any());
+        assertThat(sequential.quotes()).hasSize(cars.size() * windows.size())
+                .allSatisfy(item -> assertThat(item.quoteToken()).isNotBlank());
+        assertThat(sequential.quotes().stream().map(BatchQuoteItem::quote).toList())
+                .isEqualTo(parallel.quotes().stream().map(BatchQuoteItem::quote).toList());
+        for (int i = 0; i < sequential.quotes().size(); i++) {
+            BatchQuoteItem item = sequential.quotes().get(i);
+            Car car = cars.get(i / windows.size());
+            QuoteWindow window = windows.get(i % windows.size());
+            assertThat(item.carId()).isEqualTo(car.getId());
+            assertThat(item.startTime()).isEqualTo(window.startTime());
+            assertThat(item.quote()).isEqualTo(pricingService.quote(car, window.startTime(), window.endTime(), true,
+                    "WELCOME10", 0));
+        }
+    }
+
+    @Test
+    void shouldRejectOversizedMatricesAndInvertedWindows() {
+        pricingProperties.getBatch().setMaxQuotes(10);
+        Mockito.when(carRepository.findByBranchIdAndCategoryInAndStatusOrderById(
+                        Mockito.eq(10L), Mockito.any(), Mockito.eq(CarStatus.AVAILABLE)))
+                .thenReturn(List.of(car(1L, 10L, CarCategory.SUV, "95.00"), car(2L, 10L, CarCategory.SUV, "95.00")));
+        BatchQuoteService service = service(1_000_000);
+
+        assertThatThrownBy(() -> service.quote(new BatchQuoteRequest(10L, null, List.of(CarCategory.SUV), windows(6),
+                false, null)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("quotes per batch");
+
+        Instant start = Instant.parse("2026-05-01T10:00:00Z");
+        assertThatThrownBy(() -> service.quote(new BatchQuoteRequest(10L, null, null,
+                List.of(new QuoteWindow(start, start)), false, null)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("End time must be after start time");
+    }
+
+    @Test
+    void shouldNotQuoteDisabledOrMaintenanceCarsRequestedById() {
+        Car disabled = car(2L, 10L, CarCategory.SUV, "95.00");
+        disabled.setStatus(CarStatus.DISABLED);
+        Car inWorkshop = car(3L, 10L, CarCategory.SUV, "95.00");
+        inWorkshop.setStatus(CarStatus.IN_MAINTENANCE);
+        Car available = car(1L, 10L, CarCategory.SUV, "95.00");
+        available.setStatus(CarStatus.AVAILABLE);
+        Mockito.when(carRepository.findAllById(Mockito.any())).thenReturn(List.of(disabled, inWorkshop, available));
+
+        BatchQuoteResponse response = service(1_000_000).quote(new BatchQuoteRequest(null, List.of(1L, 2L, 3L), null,
+                windows(2), false, null));
+
+        assertThat(response.cars()).isEqualTo(1);
+        assertThat(response.quotes()).extracting(BatchQuoteItem::carId).containsExactly(1L, 1L);
+    }
+
+    private BatchQuoteService service(int parallelThreshold) {
+        pricingProperties.getBatch().setParallelThreshold(parallelThreshold);
+        pricingProperties.getBatch().setParallelism(4);
+        BatchQuoteService service = new BatchQuoteService(carRepository, pricingService,
+                new CentsPricingEngine(new CouponService()), pricingCalendar, new QuoteTokenService(pricingProperties),
+                pricingProperties);
+        services.add(service);
+        return service;
+    }
+
+    private static List<QuoteWindow> windows(int count) {
+        Instant origin = Instant.parse("2026-05-01T10:00:00Z");
+        List<QuoteWindow> windows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Instant start = origin.plus(i, ChronoUnit.DAYS);
+            windows.add(new QuoteWindow(start, start.plus(1 + i % 9, ChronoUnit.DAYS)));
+        }
+        return windows;
+    }
+
+    private static Car car(Long id, Long branchId, CarCategory category, String rate) {
+        Branch branch = new Branch();
+        branch.setId(branchId);
+        Car car = new Car();
+        car.setId(id);
+        car.setBranch(branch);
+        car.setCategory(category);
+        car.setBaseDailyRate(new BigDecimal(rate));
+        return car;
+    }
+}
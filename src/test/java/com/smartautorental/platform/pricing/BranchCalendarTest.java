@@ -0,0 +1,68 @@
+package com.smartautorental.platform.pricing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.smartautorental.platform.pricing.calendar.BranchCalendar;
+import com.smartautorental.platform.pricing.model.CalendarRuleType;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class BranchCalendarTest {
+
+    private static final LocalDate FROM = LocalDate.of(2026, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2027, 12, 31);
+
+    @Test
+    void shouldCountWeekendsLikeADayByDayWalkInsideAndOutsideTheTable() {
+        ZoneId rome = ZoneId.of("Europe/Rome");
+        BranchCalendar utc = BranchCalendar.build(ZoneOffset.UTC, FROM, TO, List.of(), List.of());
+        BranchCalendar local = BranchCalendar.build(rome, FROM, TO, List.of(), List.of());
+        Random random = new Random(11);
+
+        for (int i = 0; i < 5_000; i++) {
+            Instant start = Instant.parse("2025-06-01T00:00:00Z").plus(random.nextInt(24 * 365 * 3), ChronoUnit.HOURS);
+            Instant end = start.plus(1 + random.nextInt(24 * 90), ChronoUnit.HOURS);
+
+            assertThat(utc.weekendDays(start, end)).isEqualTo(walkWeekends(start, end, ZoneOffset.UTC));
+            assertThat(local.weekendDays(start, end)).isEqualTo(walkWeekends(start, end, rome));
+            assertThat(utc.surchargeBasisPoints(start, end)).isZero();
+        }
+    }
+
+    @Test
+    void shouldLetHolidaysReplaceWeekendsAndBranchRulesOverrideGlobalOnes() {
+        // 2026-04-04 is a Saturday.
+        List<BranchCalendar.Rule> global = List.of(
+                new BranchCalendar.Rule(CalendarRuleType.HOLIDAY, LocalDate.of(2026, 4, 4), LocalDate.of(2026, 4, 6), 2_000),
+                new BranchCalendar.Rule(CalendarRuleType.PEAK_SEASON, LocalDate.of(2026, 4, 1), LocalDate.of(2026, 4, 30), 500));
+        List<BranchCalendar.Rule> branch = List.of(
+                new BranchCalendar.Rule(CalendarRuleType.HOLIDAY, LocalDate.of(2026, 4, 6), LocalDate.of(2026, 4, 6), 3_000));
+        BranchCalendar calendar = BranchCalendar.build(ZoneOffset.UTC, FROM, TO, global, branch);
+
+        Instant start = Instant.parse("2026-04-03T10:00:00Z");
+        Instant end = Instant.parse("2026-04-07T10:00:00Z");
+
+        // Friday..Tuesday: Saturday and Sunday are holidays, so no weekend days remain.
+        assertThat(calendar.weekendDays(start, end)).isZero();
+        // Five season days at 500, holidays 2000 + 2000 + branch override 3000.
+        assertThat(calendar.surchargeBasisPoints(start, end)).isEqualTo(5 * 500 + 2_000 + 2_000 + 3_000);
+    }
+
+    private static long walkWeekends(Instant start, Instant end, ZoneId zone) {
+        long weekends = 0;
+        for (LocalDate day = LocalDate.ofInstant(start, zone); !day.isAfter(LocalDate.ofInstant(end, zone));
+             day = day.plusDays(1)) {
+            if (day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                weekends++;
+            }
+        }
+        return weekends;
+    }
+}
@@ -0,0 +1,110 @@
+package com.smartautorental.platform.pricing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.smartautorental.platform.fleet.model.CarCategory;
+import com.smartautorental.platform.pricing.calendar.BranchCalendar;
+import com.smartautorental.platform.pricing.dto.PriceQuote;
+import com.smartautorental.platform.pricing.model.CalendarRuleType;
+import com.smartautorental.platform.pricing.service.CentsPricingEngine;
+import com.smartautorental.platform.pricing.service.CouponService;
+import com.smartautorental.platform.pricing.service.DecimalPricingEngine;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class CentsPricingEngineTest {
+
+    private static final Map<CarCategory, List<String>> RATES = Map.of(
+            CarCategory.ECONOMY, List.of("0.01", "19.99", "49.00", "55.00"),
+            CarCategory.SUV, List.of("89.90", "99.99", "100.00"),
+            CarCategory.LUXURY, List.of("249.50", "499.99", "1999.95"),
+            CarCategory.VAN, List.of("74.33", "120.00", "133.37"));
+    private static final List<String> COUPONS = Arrays.asList(null, "", " ", "WELCOME10", "welcome10", "LONGTRIP5", "NOPE");
+
+    private final CouponService couponService = new CouponService();
+    private final DecimalPricingEngine decimal = new DecimalPricingEngine(couponService);
+    private final CentsPricingEngine cents = new CentsPricingEngine(couponService);
+
+    @Test
+    void shouldMatchDecimalEngineToTheCentForEveryCombination() {
+        Random random = new Random(20240101L);
+        Instant origin = Instant.parse("2026-01-01T00:00:00Z");
+        List<BranchCalendar> calendars = List.of(plainCalendar(), seasonalCalendar(random));
+        int compared = 0;
+
+        for (CarCategory category : CarCategory.values()) {
+            List<BigDecimal> rates = new ArrayList<>(RATES.get(category).stream().map(BigDecimal::new).toList());
+            for (int sample = 0; sample < 6; sample++) {
+                rates.add(BigDecimal.valueOf(1 + random.nextInt(300_000), 2));
+            }
+            for (BigDecimal rate : rates) {
+                for (int hours = 1; hours <= 24 * 45; hours += 1 + random.nextInt(17)) {
+                    Instant start = origin.plus(random.nextInt(24 * 400), ChronoUnit.HOURS)
+                            .plus(random.nextInt(60), ChronoUnit.MINUTES);
+                    Instant end = start.plus(hours, ChronoUnit.HOURS);
+                    BranchCalendar calendar = calendars.get(random.nextInt(calendars.size()));
+                    for (String coupon : COUPONS) {
+                        for (boolean insurance : new boolean[] {false, true}) {
+                            for (long availableCars = 0; availableCars <= 4; availableCars++) {
+                                PriceQuote expected = decimal.quote(calendar, rate, start, end, insurance, coupon,
+                                        availableCars);
+                                PriceQuote actual = cents.quote(calendar, rate, start, end, insurance, coupon,
+                                        availableCars);
+                                assertThat(actual)
+                                        .as("%s rate=%s %s..%s coupon=%s insurance=%s cars=%d",
+                                                category, rate, start, end, coupon, insurance, availableCars)
+                                        .isEqualTo(expected);
+                                compared++;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        assertThat(compared).isGreaterThan(100_000);
+    }
+
+    @Test
+    void shouldFallBackToDecimalArithmeticForSubCentRatesAndOverflow() {
+        Instant start = Instant.parse("2026-03-06T09:00:00Z");
+        Instant end = start.plus(9, ChronoUnit.DAYS);
+        BranchCalendar calendar = seasonalCalendar(new Random(7));
+
+        for (BigDecimal rate : List.of(new BigDecimal("33.335"), new BigDecimal("12.5"),
+                new BigDecimal("90000000000000.00"))) {
+            assertThat(cents.quote(calendar, rate, start, end, true, "WELCOME10", 1))
+                    .isEqualTo(decimal.quote(calendar, rate, start, end, true, "WELCOME10", 1));
+        }
+    }
+
+    private static BranchCalendar plainCalendar() {
+        return BranchCalendar.build(ZoneOffset.UTC, LocalDate.of(2025, 1, 1), LocalDate.of(2030, 12, 31),
+                List.of(), List.of());
+    }
+
+    private static BranchCalendar seasonalCalendar(Random random) {
+        List<BranchCalendar.Rule> global = new ArrayList<>();
+        List<BranchCalendar.Rule> branch = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            LocalDate from = LocalDate.of(2026, 1, 1).plusDays(random.nextInt(420));
+            CalendarRuleType type = random.nextBoolean() ? CalendarRuleType.HOLIDAY : CalendarRuleType.PEAK_SEASON;
+            int length = type == CalendarRuleType.HOLIDAY ? 1 + random.nextInt(2) : 7 + random.nextInt(40);
+            BranchCalendar.Rule rule = new BranchCalendar.Rule(type, from, from.plusDays(length - 1),
+                    random.nextInt(3_500));
+            (random.nextInt(3) == 0 ? branch : global).add(rule);
+        }
+        return BranchCalendar.build(ZoneId.of("Europe/Rome"), LocalDate.of(2025, 1, 1), LocalDate.of(2027, 6, 30),
+                global, branch);
+    }
+}
@@ -0,0 +1,246 @@
+package com.smartautorental.platform.pricing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.smartautorental.platform.booking.repo.BookingRepository;
+import com.smartautorental.platform.fleet.event.CarOccupancyChangedEvent;
+import com.smartautorental.platform.fleet.event.CarStatusChangedEvent;
+import com.smartautorental.platform.fleet.event.OccupancySource;
+import com.smartautorental.platform.fleet.model.CarCategory;
+import com.smartautorental.platform.fleet.model.CarStatus;
+import com.smartautorental.platform.fleet.repo.CarRepository;
+import com.smartautorental.platform.maintenance.repo.MaintenanceRepository;
+import com.smartautorental.platform.observability.AvailabilityMetrics;
+import com.smartautorental.platform.pricing.config.PricingProperties;
+import com.smartautorental.platform.pricing.occupancy.FleetAvailability;
+import com.smartautorental.platform.pricing.occupancy.OccupancyCounters;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OccupancyCountersTest {
+
+    private static final Instant DAY = Instant.now().truncatedTo(ChronoUnit.DAYS).plus(10, ChronoUnit.DAYS);
+
+    private final CarRepository carRepository = mock(CarRepository.class);
+    private final BookingRepository bookingRepository = mock(BookingRepository.class);
+    private final MaintenanceRepository maintenanceRepository = mock(MaintenanceRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private OccupancyCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        when(carRepository.findFleetSlots()).thenReturn(List.of(
+                new Slot(1L, 10L, CarCategory.SUV, CarStatus.AVAILABLE),
+                new Slot(2L, 10L, CarCategory.SUV, CarStatus.AVAILABLE),
+                new Slot(3L, 10L, CarCategory.SUV, CarStatus.AVAILABLE),
+                new Slot(4L, 10L, CarCategory.SUV, CarStatus.DISABLED),
+                new Slot(6L, 10L, CarCategory.SUV, CarStatus.IN_MAINTENANCE)));
+        when(bookingRepository.findBlockingWindowsEndingAfter(any(), any())).thenReturn(List.of(
+                new BookingWindow(100L, 1L, DAY.plus(2, ChronoUnit.DAYS), DAY.plus(4, ChronoUnit.DAYS))));
+        when(maintenanceRepository.findBlockingWindowsEndingAfter(any(), any())).thenReturn(List.of(
+                new MaintenanceWindow(200L, 3L, DAY, DAY.plus(3, ChronoUnit.DAYS))));
+        counters = new OccupancyCounters(carRepository, bookingRepository, maintenanceRepository,
+                new PricingProperties(), new AvailabilityMetrics(meterRegistry));
+    }
+
+    @Test
+    void shouldSubtractTheBusiestBucketOfTheWindowFromOperationalCars() {
+        assertThat(counters.isReady()).isFalse();
+        counters.reconcile();
+        FleetAvailability suv = counters.forBranch(10L);
+
+        // Three available cars; the disabled and the in-maintenance ones never count, as in the status snapshot.
+        assertThat(suv.availableCars(CarCategory.SUV, DAY.plus(5, ChronoUnit.DAYS), DAY.plus(6, ChronoUnit.DAYS)))
+                .isEqualTo(3);
+        // Scheduled maintenance on car 3 only.
+        assertThat(suv.availableCars(CarCategory.SUV, DAY, DAY.plus(1, ChronoUnit.DAYS))).isEqualTo(2);
+        // Day 2 has both the booking and the maintenance.
+        assertThat(suv.availableCars(CarCategory.SUV, DAY.plus(1, ChronoUnit.DAYS), DAY.plus(5, ChronoUnit.DAYS)))
+                .isEqualTo(1);
+        assertThat(suv.availableCars(CarCategory.ECONOMY, DAY, DAY.plus(1, ChronoUnit.DAYS))).isZero();
+    }
+
+    @Test
+    void shouldApplyEventsIdempotentlyPerSource() {
+        counters.reconcile();
+        Instant start = DAY.plus(20, ChronoUnit.DAYS);
+        Instant end = start.plus(1, ChronoUnit.DAYS);
+        FleetAvailability suv = counters.forBranch(10L);
+
+        counters.onOccupancyChanged(booking(300L, 2L, start, end, true));
+        // Confirmation republishes the same booking.
+        counters.onOccupancyChanged(booking(300L, 2L, start, end, true));
+        assertThat(suv.availableCars(CarCategory.SUV, start, end)).isEqualTo(2);
+
+        counters.onCarStatusChanged(new CarStatusChangedEvent(1L, 10L, CarCategory.SUV, CarStatus.DISABLED, false));
+        assertThat(suv.availableCars(CarCategory.SUV, start, end)).isEqualTo(1);
+
+        counters.onOccupancyChanged(booking(300L, 2L, start, end, false));
+        counters.onCarStatusChanged(new CarStatusChangedEvent(5L, 10L, CarCategory.SUV, CarStatus.AVAILABLE, false));
+        assertThat(suv.availableCars(CarCategory.SUV, start, end)).isEqualTo(3);
+
+        counters.onCarStatusChanged(new CarStatusChangedEvent(5L, 10L, CarCategory.SUV, CarStatus.AVAILABLE, true));
+        assertThat(suv.availableCars(CarCategory.SUV, start, end)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldCountACarWithSeveralWindowsInOneBucketOnce() {
+        counters.reconcile();
+        Instant day = DAY.plus(40, ChronoUnit.DAYS);
+        Instant nextDay = day.plus(1, ChronoUnit.DAYS);
+        Instant at8 = day.plus(8, ChronoUnit.HOURS);
+        Instant at10 = day.plus(10, ChronoUnit.HOURS);
+        Instant at14 = day.plus(14, ChronoUnit.HOURS);
+        Instant at18 = day.plus(18, ChronoUnit.HOURS);
+        FleetAvailability suv = counters.forBranch(10L);
+
+        counters.onOccupancyChanged(booking(500L, 2L, at8, at10, true));
+        counters.onOccupancyChanged(booking(501L, 2L, at14, at18, true));
+        counters.onOccupancyChanged(new CarOccupancyChangedEvent(OccupancySource.MAINTENANCE, 502L, 2L, 10L,
+                CarCategory.SUV, day.plus(9, ChronoUnit.HOURS), day.plus(15, ChronoUnit.HOURS), true));
+        assertThat(suv.availableCars(CarCategory.SUV, day, nextDay)).isEqualTo(2);
+
+        counters.onOccupancyChanged(booking(500L, 2L, at8, at10, false));
+        counters.onOccupancyChanged(booking(501L, 2L, at14, at18, false));
+        assertThat(suv.availableCars(CarCategory.SUV, day, nextDay)).isEqualTo(2);
+
+        // Another car in the same day is a second busy car.
+        counters.onOccupancyChanged(booking(503L, 1L, day.plus(20, ChronoUnit.HOURS), nextDay, true));
+        assertThat(suv.availableCars(CarCategory.SUV, day, nextDay)).isEqualTo(1);
+
+        counters.onOccupancyChanged(new CarOccupancyChangedEvent(OccupancySource.MAINTENANCE, 502L, 2L, 10L,
+                CarCategory.SUV, day.plus(9, ChronoUnit.HOURS), day.plus(15, ChronoUnit.HOURS), false));
+        counters.onOccupancyChanged(booking(503L, 1L, day.plus(20, ChronoUnit.HOURS), nextDay, false));
+        assertThat(suv.availableCars(CarCategory.SUV, day, nextDay)).isEqualTo(3);
+    }
+
+    @Test
+    void shouldDropTheWindowsOfACarWhileItIsOutOfCapacity() {
+        counters.reconcile();
+        Instant start = DAY.plus(50, ChronoUnit.DAYS);
+        Instant end = start.plus(2, ChronoUnit.DAYS);
+        FleetAvailability suv = counters.forBranch(10L);
+
+        counters.onOccupancyChanged(booking(600L, 2L, start, end, true));
+        assertThat(suv.availableCars(CarCategory.SUV, start, end)).isEqualTo(2);
+
+        // Disabled with a future booking: car 2 leaves capacity and stops counting as busy.
+        counters.onCarStatusChanged(new CarStatusChangedEvent(2L, 10L, CarCategory.SUV, CarStatus.DISABLED, false));
+        assertThat(suv.availableCars(CarCategory.SUV, start, end)).isEqualTo(2);
+
+        counters.onCarStatusChanged(new CarStatusChangedEvent(2L, 10L, CarCategory.SUV, CarStatus.AVAILABLE, false));
+        assertThat(suv.availableCars(CarCategory.SUV, start, end)).isEqualTo(2);
+
+        // A booking cancelled while its car was out of capacity leaves nothing behind when the car returns.
+        counters.onCarStatusChanged(new CarStatusChangedEvent(2L, 10L, CarCategory.SUV, CarStatus.DISABLED, false));
+        counters.onOccupancyChanged(booking(600L, 2L, start, end, false));
+        counters.onCarStatusChanged(new CarStatusChangedEvent(2L, 10L, CarCategory.SUV, CarStatus.AVAILABLE, false));
+        assertThat(suv.availableCars(CarCategory.SUV, start, end)).isEqualTo(3);
+
+        counters.reconcile();
+        assertThat(meterRegistry.get("availability.occupancy.drifted.cells").gauge().value()).isZero();
+    }
+
+    @Test
+    void shouldMeasureDriftAndRealignWithTheDatabase() {
+        counters.reconcile();
+        Instant start = DAY.plus(30, ChronoUnit.DAYS);
+        Instant end = start.plus(2, ChronoUnit.DAYS);
+
+        // A booking the database never saw, e.g. an event from a rolled-back write.
+        counters.onOccupancyChanged(booking(400L, 2L, start, end, true));
+        assertThat(counters.forBranch(10L).availableCars(CarCategory.SUV, start, end)).isEqualTo(2);
+
+        counters.reconcile();
+
+        assertThat(meterRegistry.get("availability.occupancy.drifted.cells").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("availability.occupancy.drift").summary().totalAmount()).isEqualTo(2);
+        assertThat(counters.forBranch(10L).availableCars(CarCategory.SUV, start, end)).isEqualTo(3);
+
+        counters.reconcile();
+        assertThat(meterRegistry.get("availability.occupancy.drifted.cells").gauge().value()).isZero();
+    }
+
+    private static CarOccupancyChangedEvent booking(Long id, Long carId, Instant start, Instant end, boolean active) {
+        return new CarOccupancyChangedEvent(OccupancySource.BOOKING, id, carId, 10L, CarCategory.SUV, start, end, active);
+    }
+
+    private record Slot(Long id, Long branchId, CarCategory category, CarStatus status)
+            implements CarRepository.FleetSlotProjection {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public Long getBranchId() {
+            return branchId;
+        }
+
+        @Override
+        public CarCategory getCategory() {
+            return category;
+        }
+
+        @Override
+        public CarStatus getStatus() {
+            return status;
+        }
+    }
+
+    private record BookingWindow(Long id, Long carId, Instant startTime, Instant endTime)
+            implements BookingRepository.BlockingWindowProjection {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public Long getCarId() {
+            return carId;
+        }
+
+        @Override
+        public Instant getStartTime() {
+            return startTime;
+        }
+
+        @Override
+        public Instant getEndTime() {
+            return endTime;
+        }
+    }
+
+    private record MaintenanceWindow(Long id, Long carId, Instant startTime, Instant endTime)
+            implements MaintenanceRepository.BlockingWindowProjection {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public Long getCarId() {
+            return carId;
+        }
+
+        @Override
+        public Instant getStartTime() {
+            return startTime;
+        }
+
+        @Override
+        public Instant getEndTime() {
+            return endTime;
+        }
+    }
+}
@@ -2,20 +2,46 @@ package com.smartautorental.platform.pricing;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.smartautorental.platform.booking.repo.BookingRepository;
+import com.smartautorental.platform.fleet.config.AvailabilityProperties;
 import com.smartautorental.platform.fleet.model.Branch;
 import com.smartautorental.platform.fleet.model.Car;
 import com.smartautorental.platform.fleet.model.CarCategory;
+import com.smartautorental.platform.fleet.model.CarStatus;
+import com.smartautorental.platform.fleet.repo.BranchRepository;
+import com.smartautorental.platform.fleet.repo.CarRepository;
+import com.smartautorental.platform.fleet.repo.CarRepository.CategoryCountProjection;
+import com.smartautorental.platform.maintenance.repo.MaintenanceRepository;
+import com.smartautorental.platform.observability.AvailabilityMetrics;
+import com.smartautorental.platform.pricing.calendar.PricingCalendar;
+import com.smartautorental.platform.pricing.config.PricingProperties;
+import com.smartautorental.platform.pricing.dto.CategoryAvailability;
 import com.smartautorental.platform.pricing.dto.PriceQuote;
+import com.smartautorental.platform.pricing.occupancy.OccupancyCounters;
+import com.smartautorental.platform.pricing.repo.PricingCalendarRuleRepository;
+import com.smartautorental.platform.pricing.service.CentsPricingEngine;
 import com.smartautorental.platform.pricing.service.CouponService;
 import com.smartautorental.platform.pricing.service.PricingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 class PricingServiceTest {
 
-    private final PricingService pricingService = new PricingService(Mockito.mock(com.smartautorental.platform.fleet.repo.CarRepository.class), new CouponService());
+    private final CarRepository carRepository = Mockito.mock(CarRepository.class);
+    private final PricingService pricingService = new PricingService(
+            carRepository,
+            new CentsPricingEngine(new CouponService()),
+            new PricingCalendar(Mockito.mock(PricingCalendarRuleRepository.class),
+                    Mockito.mock(BranchRepository.class), new PricingProperties()),
+            new OccupancyCounters(carRepository, Mockito.mock(BookingRepository.class),
+                    Mockito.mock(MaintenanceRepository.class), new PricingProperties(),
+                    new AvailabilityMetrics(new SimpleMeterRegistry())),
+            new AvailabilityProperties(),
+            new AvailabilityMetrics(new SimpleMeterRegistry()));
 
     @Test
     void shouldApplyDynamicAndCouponPricing() {
@@ -36,4 +62,31 @@ class PricingServiceTest {
         assertThat(quote.couponDiscount()).isGreaterThan(BigDecimal.ZERO);
         assertThat(quote.insuranceFee()).isGreaterThan(BigDecimal.ZERO);
     }
+
+    @Test
+    void shouldSnapshotCategoryCountsForBranchInOneQuery() {
+        Mockito.when(carRepository.countByCategory(1L, CarStatus.AVAILABLE)).thenReturn(List.of(
+                new CategoryCount(CarCategory.ECONOMY, 4),
+                new CategoryCount(CarCategory.SUV, 2)));
+
+        CategoryAvailability snapshot = pricingService.categoryAvailability(1L);
+
+        assertThat(snapshot.availableCars(CarCategory.ECONOMY)).isEqualTo(4);
+        assertThat(snapshot.availableCars(CarCategory.SUV)).isEqualTo(2);
+        assertThat(snapshot.availableCars(CarCategory.LUXURY)).isZero();
+        Mockito.verify(carRepository, Mockito.times(1)).countByCategory(1L, CarStatus.AVAILABLE);
+    }
+
+    private record CategoryCount(CarCategory category, long total) implements CategoryCountProjection {
+
+        @Override
+        public CarCategory getCategory() {
+            return category;
+        }
+
+        @Override
+        public long getTotal() {
+            return total;
+        }
+    }
 }
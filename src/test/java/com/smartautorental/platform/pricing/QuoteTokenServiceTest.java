@@ -0,0 +1,90 @@
+package com.smartautorental.platform.pricing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.smartautorental.platform.pricing.config.PricingProperties;
+import com.smartautorental.platform.pricing.dto.PriceQuote;
+import com.smartautorental.platform.pricing.token.QuoteTerms;
+import com.smartautorental.platform.pricing.token.QuoteTokenService;
+import com.smartautorental.platform.pricing.token.QuoteTokenService.Outcome;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class QuoteTokenServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-04-01T08:00:00Z");
+    private static final Instant START = Instant.parse("2026-04-10T09:00:00.250Z");
+    private static final Instant END = Instant.parse("2026-04-12T09:00:00Z");
+    private static final PriceQuote QUOTE = new PriceQuote(
+            new BigDecimal("180.00"), new BigDecimal("9.00"), BigDecimal.ZERO, BigDecimal.ZERO,
+            new BigDecimal("27.00"), new BigDecimal("30.00"), new BigDecimal("24.60"), new BigDecimal("221.40"),
+            new BigDecimal("1.15"));
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(NOW);
+    private final QuoteTokenService service = service("first-secret");
+
+    @Test
+    void shouldRedeemTheSignedBreakdownForMatchingTerms() {
+        String token = service.issue(terms("WELCOME10", "90.00"), QUOTE);
+
+        // Second precision, coupon case and rate scale do not matter.
+        QuoteTokenService.Redemption redemption = service.redeem(token, new QuoteTerms(
+                3L, new BigDecimal("90.0"), START.minusMillis(250), END, true, "welcome10"));
+
+        assertThat(redemption.outcome()).isEqualTo(Outcome.ACCEPTED);
+        assertThat(redemption.quote()).isEqualTo(QUOTE);
+    }
+
+    @Test
+    void shouldRejectChangedTermsTamperingForeignKeysAndExpiry() {
+        String token = service.issue(terms("WELCOME10", "90.00"), QUOTE);
+
+        assertThat(service.redeem(token, terms(null, "90.00")).outcome()).isEqualTo(Outcome.MISMATCH);
+        assertThat(service.redeem(token, terms("WELCOME10", "95.00")).outcome()).isEqualTo(Outcome.MISMATCH);
+        assertThat(service.redeem(tamper(token), terms("WELCOME10", "90.00")).outcome()).isEqualTo(Outcome.INVALID);
+        assertThat(service.redeem("not-a-token", terms("WELCOME10", "90.00")).outcome()).isEqualTo(Outcome.INVALID);
+        assertThat(service("other-secret").redeem(token, terms("WELCOME10", "90.00")).outcome())
+                .isEqualTo(Outcome.INVALID);
+        assertThat(service.redeem(null, terms("WELCOME10", "90.00")).outcome()).isEqualTo(Outcome.ABSENT);
+
+        now.set(NOW.plus(Duration.ofMinutes(15)));
+        assertThat(service.redeem(token, terms("WELCOME10", "90.00")).outcome()).isEqualTo(Outcome.EXPIRED);
+    }
+
+    private QuoteTokenService service(String secret) {
+        PricingProperties.QuoteToken config = new PricingProperties.QuoteToken();
+        config.setSecret(secret);
+        Clock clock = new Clock() {
+            @Override
+            public ZoneOffset getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(java.time.ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now.get();
+            }
+        };
+        return new QuoteTokenService(config, clock);
+    }
+
+    private static QuoteTerms terms(String coupon, String rate) {
+        return new QuoteTerms(3L, new BigDecimal(rate), START, END, true, coupon);
+    }
+
+    private static String tamper(String token) {
+        char[] chars = token.toCharArray();
+        chars[5] = chars[5] == 'A' ? 'B' : 'A';
+        return new String(chars);
+    }
+}